@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.util;
+
+import io.netty.buffer.ByteBuf;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Integer text utility class, encodes integer as decimal text into byte buf without intermediate string.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class IntegerTextUtils {
+    
+    private static final byte[] MIN_LONG_TEXT = String.valueOf(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+    
+    /**
+     * Judge whether value is integer type which could be encoded by this utility class.
+     *
+     * @param value value
+     * @return is integer type or not
+     */
+    public static boolean isIntegerType(final Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+    
+    /**
+     * Get length of decimal text.
+     *
+     * @param value value
+     * @return length of decimal text
+     */
+    public static int getTextLength(final long value) {
+        if (Long.MIN_VALUE == value) {
+            return MIN_LONG_TEXT.length;
+        }
+        return value < 0L ? getDigitCount(-value) + 1 : getDigitCount(value);
+    }
+    
+    private static int getDigitCount(final long positiveValue) {
+        int result = 1;
+        long threshold = 10L;
+        while (result < 19 && positiveValue >= threshold) {
+            result++;
+            threshold *= 10L;
+        }
+        return result;
+    }
+    
+    /**
+     * Write decimal text into byte buf.
+     *
+     * @param byteBuf byte buf
+     * @param value value
+     */
+    public static void writeText(final ByteBuf byteBuf, final long value) {
+        if (Long.MIN_VALUE == value) {
+            byteBuf.writeBytes(MIN_LONG_TEXT);
+            return;
+        }
+        long remaining = value;
+        if (value < 0L) {
+            byteBuf.writeByte('-');
+            remaining = -value;
+        }
+        int digitCount = getDigitCount(remaining);
+        byteBuf.ensureWritable(digitCount);
+        int writerIndex = byteBuf.writerIndex();
+        for (int i = writerIndex + digitCount - 1; i >= writerIndex; i--) {
+            byteBuf.setByte(i, '0' + (int) (remaining % 10L));
+            remaining /= 10L;
+        }
+        byteBuf.writerIndex(writerIndex + digitCount);
+    }
+}
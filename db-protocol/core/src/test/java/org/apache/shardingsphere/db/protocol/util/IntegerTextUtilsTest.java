@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class IntegerTextUtilsTest {
+    
+    @Test
+    void assertIsIntegerType() {
+        assertThat(IntegerTextUtils.isIntegerType(1), is(true));
+        assertThat(IntegerTextUtils.isIntegerType(1L), is(true));
+        assertThat(IntegerTextUtils.isIntegerType((short) 1), is(true));
+        assertThat(IntegerTextUtils.isIntegerType((byte) 1), is(true));
+        assertThat(IntegerTextUtils.isIntegerType(1.0D), is(false));
+        assertThat(IntegerTextUtils.isIntegerType("1"), is(false));
+    }
+    
+    @Test
+    void assertWriteText() {
+        long[] values = {0L, 9L, 10L, -1L, -10L, 123456789L, Integer.MAX_VALUE, Integer.MIN_VALUE, 999999999999999999L, 1000000000000000000L, Long.MAX_VALUE, Long.MIN_VALUE};
+        for (long each : values) {
+            ByteBuf byteBuf = Unpooled.buffer(1);
+            IntegerTextUtils.writeText(byteBuf, each);
+            assertThat(byteBuf.toString(StandardCharsets.US_ASCII), is(String.valueOf(each)));
+            assertThat(IntegerTextUtils.getTextLength(each), is(String.valueOf(each).length()));
+        }
+    }
+}
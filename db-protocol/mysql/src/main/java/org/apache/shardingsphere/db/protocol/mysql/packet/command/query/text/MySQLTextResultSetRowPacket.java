@@ -21,6 +21,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.util.IntegerTextUtils;
 import org.apache.shardingsphere.infra.util.datetime.DateTimeFormatterFactory;
 
 import java.math.BigDecimal;
@@ -63,8 +64,13 @@ public final class MySQLTextResultSetRowPacket extends MySQLPacket {
     private void writeDataIntoPayload(final MySQLPacketPayload payload, final Object data) {
         if (data instanceof byte[]) {
             payload.writeBytesLenenc((byte[]) data);
+        } else if (IntegerTextUtils.isIntegerType(data)) {
+            long value = ((Number) data).longValue();
+            payload.writeIntLenenc(IntegerTextUtils.getTextLength(value));
+            IntegerTextUtils.writeText(payload.getByteBuf(), value);
         } else if (data instanceof Timestamp && 0 == ((Timestamp) data).getNanos()) {
-            payload.writeStringLenenc(data.toString().split("\\.")[0]);
+            String value = data.toString();
+            payload.writeStringLenenc(value.substring(0, value.lastIndexOf('.')));
         } else if (data instanceof BigDecimal) {
             payload.writeStringLenenc(((BigDecimal) data).toPlainString());
         } else if (data instanceof Boolean) {
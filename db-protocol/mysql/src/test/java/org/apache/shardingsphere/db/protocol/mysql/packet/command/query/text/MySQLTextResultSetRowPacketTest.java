@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,12 +26,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -76,6 +81,16 @@ class MySQLTextResultSetRowPacketTest {
         verify(payload).writeStringLenenc(timestamp.toString().split("\\.")[0]);
     }
     
+    @Test
+    void assertWriteIntegerValues() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        when(payload.getByteBuf()).thenReturn(byteBuf);
+        new MySQLTextResultSetRowPacket(Arrays.asList(1, -20L, (short) 300)).write(payload);
+        verify(payload).writeIntLenenc(1L);
+        verify(payload, times(2)).writeIntLenenc(3L);
+        assertThat(byteBuf.toString(StandardCharsets.US_ASCII), is("1-20300"));
+    }
+    
     @Test
     void assertLocalDateTime() {
         String localDateTimeStr = "2021-08-23T17:30:30";
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.Postgr
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierTag;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.util.IntegerTextUtils;
 
 import java.sql.SQLException;
 import java.sql.SQLXML;
@@ -71,6 +72,10 @@ public final class PostgreSQLDataRowPacket extends PostgreSQLIdentifierPacket {
             payload.writeBytes((byte[]) each);
         } else if (each instanceof SQLXML) {
             writeSQLXMLData(payload, each);
+        } else if (IntegerTextUtils.isIntegerType(each)) {
+            long value = ((Number) each).longValue();
+            payload.writeInt4(IntegerTextUtils.getTextLength(value));
+            IntegerTextUtils.writeText(payload.getByteBuf(), value);
         } else {
             byte[] columnData = each.toString().getBytes(payload.getCharset());
             payload.writeInt4(columnData.length);
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
@@ -92,6 +94,15 @@ class PostgreSQLDataRowPacketTest {
         verify(payload).writeBytes(valueBytes);
     }
     
+    @Test
+    void assertWriteWithInteger() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        when(payload.getByteBuf()).thenReturn(byteBuf);
+        new PostgreSQLDataRowPacket(Collections.singleton(-12345L)).write(payload);
+        verify(payload).writeInt4(6);
+        assertThat(byteBuf.toString(StandardCharsets.US_ASCII), is("-12345"));
+    }
+    
     @Test
     void assertWriteWithSQLXML4Error() throws SQLException {
         when(sqlxml.getString()).thenThrow(new SQLException("mock"));
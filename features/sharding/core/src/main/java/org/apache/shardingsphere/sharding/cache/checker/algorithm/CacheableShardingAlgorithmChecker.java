@@ -20,6 +20,8 @@ package org.apache.shardingsphere.sharding.cache.checker.algorithm;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.ShardingTable;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 
 import java.util.Collection;
@@ -51,4 +53,21 @@ public final class CacheableShardingAlgorithmChecker {
     public static boolean isCacheableShardingAlgorithm(final ShardingAlgorithm shardingAlgorithm) {
         return CACHEABLE_SHARDING_ALGORITHM_CLASSES.contains(shardingAlgorithm.getClass());
     }
+    
+    /**
+     * Check if database and table sharding algorithms of sharding table are cacheable.
+     *
+     * @param shardingRule sharding rule
+     * @param shardingTable sharding table
+     * @return are sharding algorithms of sharding table cacheable
+     */
+    public static boolean isCacheableShardingTable(final ShardingRule shardingRule, final ShardingTable shardingTable) {
+        return isCacheableShardingAlgorithm(shardingRule, shardingRule.getDatabaseShardingStrategyConfiguration(shardingTable).getShardingAlgorithmName())
+                && isCacheableShardingAlgorithm(shardingRule, shardingRule.getTableShardingStrategyConfiguration(shardingTable).getShardingAlgorithmName());
+    }
+    
+    private static boolean isCacheableShardingAlgorithm(final ShardingRule shardingRule, final String shardingAlgorithmName) {
+        ShardingAlgorithm shardingAlgorithm = shardingRule.getShardingAlgorithms().get(shardingAlgorithmName);
+        return null == shardingAlgorithm || isCacheableShardingAlgorithm(shardingAlgorithm);
+    }
 }
@@ -17,19 +17,26 @@
 
 package org.apache.shardingsphere.sharding.cache.route;
 
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
 import org.apache.shardingsphere.sharding.cache.ShardingCache;
 import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableCheckResult;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheKey;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheValue;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingSQLRewriteResultCache;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -64,18 +71,34 @@ public final class CachedShardingSQLRouter {
             }
             shardingConditionParams.add(queryContext.getParameters().get(each));
         }
-        Optional<RouteContext> cachedResult = shardingCache.getRouteCache().get(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams))
-                .flatMap(ShardingRouteCacheValue::getCachedRouteContext);
-        RouteContext result = cachedResult.orElseGet(() -> originSQLRouter.createRouteContext(queryContext, globalRuleMetaData, database, shardingCache.getShardingRule(), props));
-        if (!cachedResult.isPresent() && hitOneShardOnly(result)) {
-            shardingCache.getRouteCache().put(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams), new ShardingRouteCacheValue(result));
+        ShardingRouteCacheKey cacheKey = new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams);
+        Optional<RouteContext> cachedResult = shardingCache.getRouteCache().get(cacheKey).flatMap(ShardingRouteCacheValue::getCachedRouteContext);
+        if (cachedResult.isPresent()) {
+            return cachedResult;
         }
-        return Optional.of(result);
+        RouteContext result = originSQLRouter.createRouteContext(queryContext, globalRuleMetaData, database, shardingCache.getShardingRule(), props);
+        if (result.getRouteUnits().isEmpty()) {
+            return Optional.of(result);
+        }
+        ShardingRouteCacheValue cacheValue = new ShardingRouteCacheValue(result,
+                isRewriteResultCacheable(queryContext, database, result) ? new ShardingSQLRewriteResultCache(shardingCache.getRouteCache()) : null);
+        shardingCache.getRouteCache().put(cacheKey, cacheValue);
+        return cacheValue.getCachedRouteContext();
     }
     
-    private boolean hitOneShardOnly(final RouteContext routeContext) {
-        return 1 == routeContext.getRouteUnits().size() && 1 == routeContext.getRouteUnits().iterator().next().getTableMappers().size()
-                && 1 == routeContext.getOriginalDataNodes().size() && 1 == routeContext.getOriginalDataNodes().iterator().next().size();
+    @SuppressWarnings("rawtypes")
+    private boolean isRewriteResultCacheable(final QueryContext queryContext, final ShardingSphereDatabase database, final RouteContext routeContext) {
+        SQLStatementContext sqlStatementContext = queryContext.getSqlStatementContext();
+        if (sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).getPaginationContext().isHasPagination() && !routeContext.isSingleRouting()) {
+            return false;
+        }
+        Map<ShardingSphereRule, SQLRewriteContextDecorator> decorators = OrderedSPILoader.getServices(SQLRewriteContextDecorator.class, database.getRuleMetaData().getRules());
+        for (ShardingSphereRule each : decorators.keySet()) {
+            if (!(each instanceof ShardingRule)) {
+                return false;
+            }
+        }
+        return true;
     }
     
     @FunctionalInterface
@@ -19,9 +19,11 @@ package org.apache.shardingsphere.sharding.cache.route.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Cache for sharding route.
@@ -30,12 +32,16 @@ public final class ShardingRouteCache {
     
     private final Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> cache;
     
+    private final LongAdder rewriteHitCount = new LongAdder();
+    
+    private final LongAdder rewriteMissCount = new LongAdder();
+    
     public ShardingRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
         cache = buildRouteCache(cacheOptions);
     }
     
     private Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> buildRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
-        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize());
+        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize()).recordStats();
         if (cacheOptions.isSoftValues()) {
             result.softValues();
         }
@@ -61,4 +67,28 @@ public final class ShardingRouteCache {
     public Optional<ShardingRouteCacheValue> get(final ShardingRouteCacheKey key) {
         return Optional.ofNullable(cache.getIfPresent(key));
     }
+    
+    /**
+     * Record SQL rewrite result cache hit.
+     */
+    public void recordRewriteHit() {
+        rewriteHitCount.increment();
+    }
+    
+    /**
+     * Record SQL rewrite result cache miss.
+     */
+    public void recordRewriteMiss() {
+        rewriteMissCount.increment();
+    }
+    
+    /**
+     * Get statistics.
+     *
+     * @return statistics
+     */
+    public ShardingRouteCacheStatistics getStatistics() {
+        CacheStats stats = cache.stats();
+        return new ShardingRouteCacheStatistics(stats.hitCount(), stats.missCount(), stats.evictionCount(), rewriteHitCount.sum(), rewriteMissCount.sum());
+    }
 }
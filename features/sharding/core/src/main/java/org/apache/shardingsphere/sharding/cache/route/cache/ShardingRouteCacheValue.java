@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteStageContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -40,8 +41,14 @@ public final class ShardingRouteCacheValue {
     
     private final RouteContext cachedRouteContext;
     
+    private final ShardingSQLRewriteResultCache rewriteResultCache;
+    
     public ShardingRouteCacheValue(final RouteContext routeContext) {
-        this(null != routeContext, routeContext);
+        this(routeContext, null);
+    }
+    
+    public ShardingRouteCacheValue(final RouteContext routeContext, final ShardingSQLRewriteResultCache rewriteResultCache) {
+        this(null != routeContext, routeContext, rewriteResultCache);
     }
     
     /**
@@ -58,6 +65,9 @@ public final class ShardingRouteCacheValue {
         result.getOriginalDataNodes().addAll(deepCopyOriginalDataNodes());
         result.getRouteUnits().addAll(deepCopyRouteUnits());
         result.getRouteStageContexts().putAll(deepCopyRouteStageContext());
+        if (null != rewriteResultCache) {
+            result.getRouteStageContexts().put(ShardingRule.class, rewriteResultCache);
+        }
         return result;
     }
     
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.rewrite.cache.SQLRewriteResultCache;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * SQL rewrite result cache for cached sharding route.
+ * 
+ * <p>Only rewritten SQL of each route unit is cached, parameters of current query are bound when reused.
+ * So SQL rewrite results which rewrote parameters are never cached.</p>
+ */
+@RequiredArgsConstructor
+public final class ShardingSQLRewriteResultCache implements SQLRewriteResultCache {
+    
+    private final ShardingRouteCache routeCache;
+    
+    private volatile RewrittenSQLTemplate template;
+    
+    @Override
+    public Optional<SQLRewriteResult> find(final QueryContext queryContext, final RouteContext routeContext) {
+        RewrittenSQLTemplate currentTemplate = template;
+        if (null == currentTemplate || !currentTemplate.routeUnits.equals(new ArrayList<>(routeContext.getRouteUnits()))) {
+            routeCache.recordRewriteMiss();
+            return Optional.empty();
+        }
+        routeCache.recordRewriteHit();
+        Map<RouteUnit, SQLRewriteUnit> result = new LinkedHashMap<>(currentTemplate.sqls.size(), 1F);
+        for (Entry<RouteUnit, String> entry : currentTemplate.sqls.entrySet()) {
+            result.put(entry.getKey(), new SQLRewriteUnit(entry.getValue(), queryContext.getParameters()));
+        }
+        return Optional.of(new RouteSQLRewriteResult(result));
+    }
+    
+    @Override
+    public void cache(final QueryContext queryContext, final RouteContext routeContext, final SQLRewriteResult rewriteResult) {
+        if (!(rewriteResult instanceof RouteSQLRewriteResult)) {
+            return;
+        }
+        Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = ((RouteSQLRewriteResult) rewriteResult).getSqlRewriteUnits();
+        Map<RouteUnit, String> sqls = new LinkedHashMap<>(sqlRewriteUnits.size(), 1F);
+        for (Entry<RouteUnit, SQLRewriteUnit> entry : sqlRewriteUnits.entrySet()) {
+            if (!queryContext.getParameters().equals(entry.getValue().getParameters())) {
+                return;
+            }
+            sqls.put(entry.getKey(), entry.getValue().getSql());
+        }
+        template = new RewrittenSQLTemplate(new ArrayList<>(routeContext.getRouteUnits()), sqls);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class RewrittenSQLTemplate {
+        
+        private final List<RouteUnit> routeUnits;
+        
+        private final Map<RouteUnit, String> sqls;
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.exception.data.GroupByMergeSpillException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+
+/**
+ * Temporary file for spilled group by rows.
+ *
+ * <p>Rows are written with {@link GroupBySpillValueCodec}, the file keeps at most one open stream and is deleted when closed.</p>
+ */
+@Slf4j
+public final class GroupBySpillFile implements AutoCloseable {
+    
+    private final int columnCount;
+    
+    private final Path path;
+    
+    private DataOutputStream output;
+    
+    private DataInputStream input;
+    
+    private long writtenRowCount;
+    
+    private long readRowCount;
+    
+    public GroupBySpillFile(final int columnCount) {
+        this.columnCount = columnCount;
+        try {
+            path = Files.createTempFile("shardingsphere-group-by-", ".spill");
+        } catch (final IOException ex) {
+            throw new GroupByMergeSpillException(ex);
+        }
+        try {
+            output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+        } catch (final IOException ex) {
+            deleteQuietly();
+            throw new GroupByMergeSpillException(ex);
+        }
+    }
+    
+    /**
+     * Write current row of query result.
+     *
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    public void write(final QueryResult queryResult) throws SQLException {
+        try {
+            for (int i = 0; i < columnCount; i++) {
+                GroupBySpillValueCodec.write(output, queryResult.getValue(i + 1, Object.class));
+            }
+        } catch (final IOException ex) {
+            throw new GroupByMergeSpillException(ex);
+        }
+        writtenRowCount++;
+    }
+    
+    /**
+     * Write memory query result row.
+     *
+     * @param memoryQueryResultRow memory query result row
+     */
+    public void write(final MemoryQueryResultRow memoryQueryResultRow) {
+        try {
+            for (int i = 0; i < columnCount; i++) {
+                GroupBySpillValueCodec.write(output, memoryQueryResultRow.getCell(i + 1));
+            }
+        } catch (final IOException ex) {
+            throw new GroupByMergeSpillException(ex);
+        }
+        writtenRowCount++;
+    }
+    
+    /**
+     * Finish writing and release output stream, rows can be read after that.
+     */
+    public void finishWriting() {
+        if (null == output) {
+            return;
+        }
+        try {
+            output.close();
+        } catch (final IOException ex) {
+            throw new GroupByMergeSpillException(ex);
+        } finally {
+            output = null;
+        }
+    }
+    
+    /**
+     * Read next row, the first reading finishes writing.
+     *
+     * @return next row, null if all rows have been read
+     */
+    public Object[] read() {
+        if (readRowCount == writtenRowCount) {
+            closeInput();
+            return null;
+        }
+        try {
+            if (null == input) {
+                finishWriting();
+                input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+            }
+            Object[] result = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                result[i] = GroupBySpillValueCodec.read(input);
+            }
+            readRowCount++;
+            return result;
+        } catch (final IOException ex) {
+            throw new GroupByMergeSpillException(ex);
+        }
+    }
+    
+    private void closeInput() {
+        if (null == input) {
+            return;
+        }
+        try {
+            input.close();
+        } catch (final IOException ex) {
+            throw new GroupByMergeSpillException(ex);
+        } finally {
+            input = null;
+        }
+    }
+    
+    @Override
+    public void close() {
+        try {
+            finishWriting();
+            closeInput();
+        } finally {
+            deleteQuietly();
+        }
+    }
+    
+    private void deleteQuietly() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException ex) {
+            log.warn("Delete group by spill file `{}` failed.", path, ex);
+        }
+    }
+}
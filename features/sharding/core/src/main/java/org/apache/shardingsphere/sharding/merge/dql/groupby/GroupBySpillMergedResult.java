@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Spill merged result for group by.
+ *
+ * <p>Groups which exceed max memory rows are spilled into temporary files by {@link GroupBySpillRowIterator}, the files are deleted when this merged result is closed.</p>
+ */
+public final class GroupBySpillMergedResult extends MemoryMergedResult<ShardingRule> {
+    
+    private final GroupBySpillRowIterator rowIterator;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                    final ShardingSphereSchema schema, final int maxMemoryRows) throws SQLException {
+        this(new GroupBySpillRowIterator(queryResults, selectStatementContext, schema, maxMemoryRows));
+    }
+    
+    private GroupBySpillMergedResult(final GroupBySpillRowIterator rowIterator) {
+        super(rowIterator);
+        this.rowIterator = rowIterator;
+    }
+    
+    @Override
+    public void close() {
+        rowIterator.close();
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Row iterator for group by spill merged result.
+ *
+ * <p>At most max memory rows groups are aggregated in memory, rows of other groups are hash partitioned into temporary files
+ * and aggregated partition by partition. Each aggregated partition is sorted and spilled as a sorted run, sorted runs are merged
+ * with at most {@link #MAX_OPEN_RUNS} files opened at the same time. Temporary files are deleted when this iterator is closed.</p>
+ */
+final class GroupBySpillRowIterator implements Iterator<MemoryQueryResultRow>, AutoCloseable {
+    
+    private static final int PARTITION_BITS = 4;
+    
+    private static final int MAX_OPEN_RUNS = 1 << PARTITION_BITS;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final int maxMemoryRows;
+    
+    private final QueryResultMetaData metaData;
+    
+    private final int columnCount;
+    
+    private final GroupByRowComparator rowComparator;
+    
+    private final GroupByAggregator aggregator;
+    
+    private final Deque<GroupBySpillFile> sortedRunFiles = new LinkedList<>();
+    
+    private final Queue<SpilledQueryResult> sortedRuns;
+    
+    private Iterator<MemoryQueryResultRow> memoryRows;
+    
+    GroupBySpillRowIterator(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                            final ShardingSphereSchema schema, final int maxMemoryRows) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.maxMemoryRows = maxMemoryRows;
+        metaData = queryResults.get(0).getMetaData();
+        columnCount = metaData.getColumnCount();
+        rowComparator = new GroupByRowComparator(selectStatementContext, GroupByRowComparator.loadValueCaseSensitive(queryResults.get(0), selectStatementContext, schema));
+        aggregator = new GroupByAggregator(selectStatementContext);
+        sortedRuns = createSortedRunQueue();
+        boolean initialized = false;
+        try {
+            aggregate(queryResults, 0);
+            if (null == memoryRows) {
+                openSortedRuns();
+            }
+            initialized = true;
+        } finally {
+            if (!initialized) {
+                close();
+            }
+        }
+    }
+    
+    private Queue<SpilledQueryResult> createSortedRunQueue() {
+        return new PriorityQueue<>(MAX_OPEN_RUNS, (o1, o2) -> rowComparator.compare(o1.getCurrentRow(), o2.getCurrentRow()));
+    }
+    
+    private void aggregate(final List<QueryResult> queryResults, final int level) throws SQLException {
+        GroupBySpillFile[] partitions = new GroupBySpillFile[1 << PARTITION_BITS];
+        try {
+            boolean spilled = spill(queryResults, level, partitions);
+            List<MemoryQueryResultRow> rows = aggregator.drainRows();
+            rows.sort(rowComparator);
+            if (0 == level && !spilled) {
+                memoryRows = rows.iterator();
+                return;
+            }
+            addSortedRun(rows);
+            for (int i = 0; i < partitions.length; i++) {
+                if (null != partitions[i]) {
+                    try (SpilledQueryResult queryResult = new SpilledQueryResult(partitions[i], metaData)) {
+                        partitions[i] = null;
+                        aggregate(Collections.singletonList(queryResult), level + 1);
+                    }
+                }
+            }
+        } finally {
+            for (GroupBySpillFile each : partitions) {
+                if (null != each) {
+                    each.close();
+                }
+            }
+        }
+    }
+    
+    private boolean spill(final List<QueryResult> queryResults, final int level, final GroupBySpillFile[] partitions) throws SQLException {
+        boolean result = false;
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
+                if (aggregator.contains(groupByValue) || aggregator.size() < maxMemoryRows) {
+                    aggregator.aggregate(each, groupByValue);
+                    continue;
+                }
+                int partitionIndex = getPartitionIndex(groupByValue, level);
+                if (null == partitions[partitionIndex]) {
+                    partitions[partitionIndex] = new GroupBySpillFile(columnCount);
+                }
+                partitions[partitionIndex].write(each);
+                result = true;
+            }
+        }
+        for (GroupBySpillFile each : partitions) {
+            if (null != each) {
+                each.finishWriting();
+            }
+        }
+        return result;
+    }
+    
+    private int getPartitionIndex(final GroupByValue groupByValue, final int level) {
+        return (Integer.rotateRight(groupByValue.hashCode(), level * PARTITION_BITS) * 0x9E3779B9) >>> (Integer.SIZE - PARTITION_BITS);
+    }
+    
+    private void addSortedRun(final List<MemoryQueryResultRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        GroupBySpillFile spillFile = new GroupBySpillFile(columnCount);
+        sortedRunFiles.offer(spillFile);
+        for (MemoryQueryResultRow each : rows) {
+            spillFile.write(each);
+        }
+        spillFile.finishWriting();
+    }
+    
+    private void openSortedRuns() {
+        while (sortedRunFiles.size() > MAX_OPEN_RUNS) {
+            mergeSortedRuns();
+        }
+        while (!sortedRunFiles.isEmpty()) {
+            openSortedRun(sortedRuns, sortedRunFiles.poll());
+        }
+    }
+    
+    private void mergeSortedRuns() {
+        Queue<SpilledQueryResult> mergingRuns = createSortedRunQueue();
+        GroupBySpillFile mergedRunFile = new GroupBySpillFile(columnCount);
+        sortedRunFiles.offer(mergedRunFile);
+        try {
+            for (int i = 0; i < MAX_OPEN_RUNS; i++) {
+                openSortedRun(mergingRuns, sortedRunFiles.poll());
+            }
+            SpilledQueryResult sortedRun;
+            while (null != (sortedRun = mergingRuns.poll())) {
+                mergedRunFile.write(sortedRun.getCurrentRow());
+                if (sortedRun.next()) {
+                    mergingRuns.offer(sortedRun);
+                } else {
+                    sortedRun.close();
+                }
+            }
+            mergedRunFile.finishWriting();
+        } finally {
+            mergingRuns.forEach(SpilledQueryResult::close);
+        }
+    }
+    
+    private void openSortedRun(final Queue<SpilledQueryResult> runs, final GroupBySpillFile sortedRunFile) {
+        SpilledQueryResult sortedRun = new SpilledQueryResult(sortedRunFile, metaData);
+        try {
+            sortedRun.next();
+        } finally {
+            runs.offer(sortedRun);
+        }
+    }
+    
+    @Override
+    public boolean hasNext() {
+        return null == memoryRows ? !sortedRuns.isEmpty() : memoryRows.hasNext();
+    }
+    
+    @Override
+    public MemoryQueryResultRow next() {
+        if (null != memoryRows) {
+            return memoryRows.next();
+        }
+        SpilledQueryResult sortedRun = sortedRuns.poll();
+        if (null == sortedRun) {
+            throw new NoSuchElementException();
+        }
+        MemoryQueryResultRow result = sortedRun.getCurrentRow();
+        if (sortedRun.next()) {
+            sortedRuns.offer(sortedRun);
+        } else {
+            sortedRun.close();
+        }
+        return result;
+    }
+    
+    @Override
+    public void close() {
+        SpilledQueryResult sortedRun;
+        while (null != (sortedRun = sortedRuns.poll())) {
+            sortedRun.close();
+        }
+        GroupBySpillFile sortedRunFile;
+        while (null != (sortedRunFile = sortedRunFiles.poll())) {
+            sortedRunFile.close();
+        }
+    }
+}
@@ -38,7 +38,7 @@ public final class AccumulationAggregationUnit implements AggregationUnit {
         if (null == result) {
             result = BigDecimal.ZERO;
         }
-        result = result.add(new BigDecimal(values.get(0).toString()));
+        result = result.add(values.get(0) instanceof BigDecimal ? (BigDecimal) values.get(0) : new BigDecimal(values.get(0).toString()));
     }
     
     @Override
@@ -22,6 +22,8 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
 
+import java.sql.Types;
+
 /**
  * Aggregation unit factory.
  */
@@ -54,4 +56,28 @@ public final class AggregationUnitFactory {
                 throw new UnsupportedSQLOperationException(type.name());
         }
     }
+    
+    /**
+     * Create aggregation unit instance with column type.
+     *
+     * @param type aggregation function type
+     * @param isDistinct is distinct
+     * @param columnType column type of aggregation value, see {@link java.sql.Types}
+     * @return aggregation unit instance
+     * @throws UnsupportedSQLOperationException unsupported SQL operation exception
+     */
+    public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final int columnType) {
+        if (isDistinct || AggregationType.SUM != type && AggregationType.COUNT != type) {
+            return create(type, isDistinct);
+        }
+        switch (columnType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return new LongAccumulationAggregationUnit();
+            default:
+                return create(type, false);
+        }
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Accumulation aggregation unit for integral values, which accumulates with primitive long until overflow.
+ */
+public final class LongAccumulationAggregationUnit implements AggregationUnit {
+    
+    private boolean accumulated;
+    
+    private long result;
+    
+    private BigDecimal overflowedResult;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        Comparable<?> value = values.get(0);
+        accumulated = true;
+        if (null == overflowedResult && isLongValue(value)) {
+            long addend = ((Number) value).longValue();
+            long sum = result + addend;
+            if (((result ^ sum) & (addend ^ sum)) >= 0L) {
+                result = sum;
+                return;
+            }
+        }
+        overflowedResult = (null == overflowedResult ? BigDecimal.valueOf(result) : overflowedResult).add(new BigDecimal(value.toString()));
+    }
+    
+    private boolean isLongValue(final Comparable<?> value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        if (!accumulated) {
+            return null;
+        }
+        return null == overflowedResult ? BigDecimal.valueOf(result) : overflowedResult;
+    }
+}
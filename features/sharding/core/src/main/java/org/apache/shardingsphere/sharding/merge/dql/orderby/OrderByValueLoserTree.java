@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ *
+ * <p>Leaves are order by values of each query result, internal nodes keep the loser of each match and node 0 keeps the overall winner.
+ * Iterating the winner only replays matches on its path to root, which costs log2(k) comparisons for k query results.</p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private static final int UNSETTLED = -1;
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] nodes;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[0]);
+        exhausted = new boolean[this.orderByValues.length];
+        nodes = new int[Math.max(this.orderByValues.length, 1)];
+        Arrays.fill(nodes, UNSETTLED);
+        for (int i = this.orderByValues.length - 1; i >= 0; i--) {
+            replay(i);
+        }
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == orderByValues.length || exhausted[nodes[0]];
+    }
+    
+    /**
+     * Get winner order by value.
+     *
+     * @return winner order by value
+     */
+    public OrderByValue getWinner() {
+        return orderByValues[nodes[0]];
+    }
+    
+    /**
+     * Iterate winner order by value to next data and elect new winner.
+     *
+     * @return has winner or not
+     * @throws SQLException SQL exception
+     */
+    public boolean nextWinner() throws SQLException {
+        int winner = nodes[0];
+        if (!orderByValues[winner].next()) {
+            exhausted[winner] = true;
+        }
+        replay(winner);
+        return !isEmpty();
+    }
+    
+    private void replay(final int leaf) {
+        int winner = leaf;
+        for (int parent = (leaf + orderByValues.length) >> 1; parent > 0; parent >>= 1) {
+            if (isBefore(nodes[parent], winner)) {
+                int loser = winner;
+                winner = nodes[parent];
+                nodes[parent] = loser;
+            }
+        }
+        nodes[0] = winner;
+    }
+    
+    private boolean isBefore(final int leaf, final int otherLeaf) {
+        if (UNSETTLED == leaf) {
+            return true;
+        }
+        if (UNSETTLED == otherLeaf || exhausted[leaf]) {
+            return false;
+        }
+        return exhausted[otherLeaf] || orderByValues[leaf].compareTo(orderByValues[otherLeaf]) < 0;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.route.batch.BatchRouteKeyGenerator;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.rule.ShardingTable;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.SimpleExpressionSegment;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Sharding batch route key generator.
+ * 
+ * <p>Route key is the data nodes of inserted row, which are evaluated by sharding algorithms with values of sharding columns only.</p>
+ */
+@RequiredArgsConstructor
+public final class ShardingBatchRouteKeyGenerator implements BatchRouteKeyGenerator {
+    
+    private final ShardingTable shardingTable;
+    
+    private final ShardingStrategy databaseShardingStrategy;
+    
+    private final Map<String, SimpleExpressionSegment> databaseShardingValues;
+    
+    private final ShardingStrategy tableShardingStrategy;
+    
+    private final Map<String, SimpleExpressionSegment> tableShardingValues;
+    
+    private final ConfigurationProperties props;
+    
+    @Override
+    public Object generate(final List<Object> params) {
+        List<DataNode> result = new ArrayList<>();
+        for (String each : routeDataSources(params)) {
+            for (String tableName : routeTables(each, params)) {
+                result.add(new DataNode(each, tableName));
+            }
+        }
+        return result;
+    }
+    
+    private Collection<String> routeDataSources(final List<Object> params) {
+        Collection<String> availableTargetDataSources = shardingTable.getActualDataSourceNames();
+        return databaseShardingValues.isEmpty()
+                ? availableTargetDataSources
+                : databaseShardingStrategy.doSharding(availableTargetDataSources, getShardingConditionValues(databaseShardingValues, params), shardingTable.getDataSourceDataNode(), props);
+    }
+    
+    private Collection<String> routeTables(final String dataSourceName, final List<Object> params) {
+        Collection<String> availableTargetTables = shardingTable.getActualTableNames(dataSourceName);
+        return tableShardingValues.isEmpty()
+                ? availableTargetTables
+                : tableShardingStrategy.doSharding(availableTargetTables, getShardingConditionValues(tableShardingValues, params), shardingTable.getTableDataNode(), props);
+    }
+    
+    private List<ShardingConditionValue> getShardingConditionValues(final Map<String, SimpleExpressionSegment> shardingValues, final List<Object> params) {
+        List<ShardingConditionValue> result = new ArrayList<>(shardingValues.size());
+        for (Entry<String, SimpleExpressionSegment> entry : shardingValues.entrySet()) {
+            result.add(new ListShardingConditionValue<>(entry.getKey(), shardingTable.getLogicTable(), Collections.singletonList(getShardingValue(entry.getValue(), params))));
+        }
+        return result;
+    }
+    
+    private Object getShardingValue(final SimpleExpressionSegment expressionSegment, final List<Object> params) {
+        return expressionSegment instanceof ParameterMarkerExpressionSegment
+                ? params.get(((ParameterMarkerExpressionSegment) expressionSegment).getParameterMarkerIndex())
+                : ((LiteralExpressionSegment) expressionSegment).getLiterals();
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.batch;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.route.batch.BatchRouteKeyGenerator;
+import org.apache.shardingsphere.infra.route.batch.BatchRouteKeyProvider;
+import org.apache.shardingsphere.infra.route.batch.ParameterIndependentBatchRouteKeyGenerator;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.constant.ShardingOrder;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
+import org.apache.shardingsphere.sharding.route.strategy.type.hint.HintShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.ShardingTable;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.SimpleExpressionSegment;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Sharding batch route key provider.
+ */
+public final class ShardingBatchRouteKeyProvider implements BatchRouteKeyProvider<ShardingRule> {
+    
+    @Override
+    public Optional<BatchRouteKeyGenerator> findBatchRouteKeyGenerator(final SQLStatementContext sqlStatementContext, final ShardingRule rule, final ConfigurationProperties props) {
+        if (!isSingleRowInsert(sqlStatementContext)) {
+            return Optional.empty();
+        }
+        InsertStatementContext insertStatementContext = (InsertStatementContext) sqlStatementContext;
+        String tableName = insertStatementContext.getSqlStatement().getTable().map(optional -> optional.getTableName().getIdentifier().getValue())
+                .orElseGet(() -> insertStatementContext.getTablesContext().getTableNames().iterator().next());
+        Optional<ShardingTable> shardingTable = rule.findShardingTable(tableName);
+        if (!shardingTable.isPresent()) {
+            return Optional.of(new ParameterIndependentBatchRouteKeyGenerator());
+        }
+        ShardingStrategy databaseShardingStrategy = createShardingStrategy(rule, rule.getDatabaseShardingStrategyConfiguration(shardingTable.get()));
+        ShardingStrategy tableShardingStrategy = createShardingStrategy(rule, rule.getTableShardingStrategyConfiguration(shardingTable.get()));
+        if (databaseShardingStrategy instanceof HintShardingStrategy || tableShardingStrategy instanceof HintShardingStrategy) {
+            return Optional.empty();
+        }
+        Optional<Map<String, ExpressionSegment>> insertValues = findInsertValues(insertStatementContext);
+        if (!insertValues.isPresent()) {
+            return Optional.empty();
+        }
+        Optional<Map<String, SimpleExpressionSegment>> databaseShardingValues = findShardingValues(databaseShardingStrategy, insertValues.get());
+        Optional<Map<String, SimpleExpressionSegment>> tableShardingValues = findShardingValues(tableShardingStrategy, insertValues.get());
+        return databaseShardingValues.isPresent() && tableShardingValues.isPresent()
+                ? Optional.of(new ShardingBatchRouteKeyGenerator(shardingTable.get(), databaseShardingStrategy, databaseShardingValues.get(), tableShardingStrategy, tableShardingValues.get(), props))
+                : Optional.empty();
+    }
+    
+    private boolean isSingleRowInsert(final SQLStatementContext sqlStatementContext) {
+        if (!(sqlStatementContext instanceof InsertStatementContext)) {
+            return false;
+        }
+        InsertStatementContext insertStatementContext = (InsertStatementContext) sqlStatementContext;
+        return null == insertStatementContext.getInsertSelectContext() && 1 == insertStatementContext.getInsertValueContexts().size()
+                && !insertStatementContext.getSqlStatement().getOnDuplicateKeyColumns().isPresent()
+                && !insertStatementContext.getGeneratedKeyContext().map(GeneratedKeyContext::isGenerated).orElse(false);
+    }
+    
+    private ShardingStrategy createShardingStrategy(final ShardingRule rule, final ShardingStrategyConfiguration shardingStrategyConfig) {
+        return null == shardingStrategyConfig ? new NoneShardingStrategy()
+                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, rule.getShardingAlgorithms().get(shardingStrategyConfig.getShardingAlgorithmName()), rule.getDefaultShardingColumn());
+    }
+    
+    private Optional<Map<String, ExpressionSegment>> findInsertValues(final InsertStatementContext insertStatementContext) {
+        Map<String, ExpressionSegment> result = new CaseInsensitiveMap<>();
+        Iterator<String> columnNames = insertStatementContext.getColumnNames().iterator();
+        for (ExpressionSegment each : insertStatementContext.getInsertValueContexts().get(0).getValueExpressions()) {
+            if (!columnNames.hasNext()) {
+                return Optional.empty();
+            }
+            result.put(columnNames.next(), each);
+        }
+        return Optional.of(result);
+    }
+    
+    private Optional<Map<String, SimpleExpressionSegment>> findShardingValues(final ShardingStrategy shardingStrategy, final Map<String, ExpressionSegment> insertValues) {
+        Map<String, SimpleExpressionSegment> result = new LinkedHashMap<>(shardingStrategy.getShardingColumns().size(), 1F);
+        for (String each : shardingStrategy.getShardingColumns()) {
+            ExpressionSegment insertValue = insertValues.get(each);
+            if (!(insertValue instanceof ParameterMarkerExpressionSegment) && !(insertValue instanceof LiteralExpressionSegment)) {
+                return Optional.empty();
+            }
+            result.put(each, (SimpleExpressionSegment) insertValue);
+        }
+        return Optional.of(result);
+    }
+    
+    @Override
+    public int getOrder() {
+        return ShardingOrder.ORDER;
+    }
+    
+    @Override
+    public Class<ShardingRule> getTypeClass() {
+        return ShardingRule.class;
+    }
+}
@@ -23,6 +23,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -36,4 +38,22 @@ class ShardingRouteCacheTest {
         cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
         assertTrue(cache.get(key).isPresent());
     }
+    
+    @Test
+    void assertGetStatistics() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(false, 1, 1));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("select name from t where id = ?", Collections.singletonList(1));
+        cache.get(key);
+        cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
+        cache.get(key);
+        cache.recordRewriteHit();
+        cache.recordRewriteMiss();
+        cache.recordRewriteMiss();
+        ShardingRouteCacheStatistics actual = cache.getStatistics();
+        assertThat(actual.getHitCount(), is(1L));
+        assertThat(actual.getMissCount(), is(1L));
+        assertThat(actual.getEvictionCount(), is(0L));
+        assertThat(actual.getRewriteHitCount(), is(1L));
+        assertThat(actual.getRewriteMissCount(), is(2L));
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route.cache;
+
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShardingSQLRewriteResultCacheTest {
+    
+    private final ShardingRouteCache routeCache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(false, 1, 1));
+    
+    @Test
+    void assertFindWithCachedRewriteResult() {
+        ShardingSQLRewriteResultCache cache = new ShardingSQLRewriteResultCache(routeCache);
+        RouteContext routeContext = createRouteContext();
+        cache.cache(mockQueryContext(Arrays.asList(1, "foo")), routeContext, createRewriteResult(routeContext, Arrays.asList(1, "foo")));
+        RouteSQLRewriteResult actual = (RouteSQLRewriteResult) cache.find(mockQueryContext(Arrays.asList(2, "bar")), createRouteContext()).orElseThrow(IllegalStateException::new);
+        assertThat(actual.getSqlRewriteUnits().size(), is(2));
+        for (SQLRewriteUnit each : actual.getSqlRewriteUnits().values()) {
+            assertThat(each.getParameters(), is(Arrays.asList(2, "bar")));
+        }
+        assertThat(actual.getSqlRewriteUnits().get(routeContext.getRouteUnits().iterator().next()).getSql(), is("SELECT * FROM t_order_0 WHERE order_id = ? AND status = ?"));
+        assertThat(routeCache.getStatistics().getRewriteHitCount(), is(1L));
+    }
+    
+    @Test
+    void assertFindWithoutCachedRewriteResult() {
+        assertFalse(new ShardingSQLRewriteResultCache(routeCache).find(mockQueryContext(Collections.emptyList()), createRouteContext()).isPresent());
+        assertThat(routeCache.getStatistics().getRewriteMissCount(), is(1L));
+    }
+    
+    @Test
+    void assertFindWithDifferentRouteUnits() {
+        ShardingSQLRewriteResultCache cache = new ShardingSQLRewriteResultCache(routeCache);
+        RouteContext routeContext = createRouteContext();
+        cache.cache(mockQueryContext(Arrays.asList(1, "foo")), routeContext, createRewriteResult(routeContext, Arrays.asList(1, "foo")));
+        RouteContext replicaRouteContext = new RouteContext();
+        replicaRouteContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "replica_ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_0"))));
+        assertFalse(cache.find(mockQueryContext(Arrays.asList(1, "foo")), replicaRouteContext).isPresent());
+        assertTrue(cache.find(mockQueryContext(Arrays.asList(1, "foo")), createRouteContext()).isPresent());
+    }
+    
+    @Test
+    void assertCacheWithRewrittenParameters() {
+        ShardingSQLRewriteResultCache cache = new ShardingSQLRewriteResultCache(routeCache);
+        RouteContext routeContext = createRouteContext();
+        cache.cache(mockQueryContext(Arrays.asList(10, 10)), routeContext, createRewriteResult(routeContext, Arrays.asList(0, 20)));
+        assertFalse(cache.find(mockQueryContext(Arrays.asList(10, 10)), createRouteContext()).isPresent());
+    }
+    
+    private RouteContext createRouteContext() {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_0"))));
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singletonList(new RouteMapper("t_order", "t_order_1"))));
+        return result;
+    }
+    
+    private RouteSQLRewriteResult createRewriteResult(final RouteContext routeContext, final List<Object> params) {
+        Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = new LinkedHashMap<>(2, 1F);
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            String actualTableName = each.getTableMappers().iterator().next().getActualName();
+            sqlRewriteUnits.put(each, new SQLRewriteUnit(String.format("SELECT * FROM %s WHERE order_id = ? AND status = ?", actualTableName), params));
+        }
+        return new RouteSQLRewriteResult(sqlRewriteUnits);
+    }
+    
+    private QueryContext mockQueryContext(final List<Object> params) {
+        QueryContext result = mock(QueryContext.class);
+        when(result.getParameters()).thenReturn(params);
+        return result;
+    }
+}
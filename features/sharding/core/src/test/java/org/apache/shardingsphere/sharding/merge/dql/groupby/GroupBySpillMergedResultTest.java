@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.exception.data.GroupByMergeSpillException;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GroupBySpillMergedResultTest {
+    
+    @Test
+    void assertNextWithoutSpill() throws SQLException {
+        MergedResult actual = merge(10, createQueryResult(new Object[]{20, 0, 2, 2, 20}), createQueryResult(new Object[]{30, 0, 3, 3, 30}, new Object[]{20, 0, 2, 2, 20}));
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertRow(actual, 3, 30, 3, 30);
+        assertRow(actual, 2, 40, 4, 40);
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithSpill() throws SQLException {
+        MergedResult actual = merge(1, createQueryResult(new Object[]{20, 0, 2, 2, 20}, new Object[]{10, 0, 5, 1, 10}),
+                createQueryResult(new Object[]{30, 0, 3, 3, 30}, new Object[]{10, 0, 5, 1, 10}), createQueryResult(new Object[]{20, 0, 2, 2, 20}, new Object[]{10, 0, 4, 1, 10}));
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertRow(actual, 5, 20, 2, 20);
+        assertRow(actual, 4, 10, 1, 10);
+        assertRow(actual, 3, 30, 3, 30);
+        assertRow(actual, 2, 40, 4, 40);
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithMoreSortedRunsThanOpenLimit() throws SQLException {
+        Object[][] rows = new Object[40][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new Object[]{1, 0, i, 1, i};
+        }
+        MergedResult actual = merge(1, createQueryResult(rows), createQueryResult());
+        for (int i = rows.length - 1; i >= 0; i--) {
+            assertRow(actual, i, 1, 1, i);
+        }
+        assertFalse(actual.next());
+        actual.close();
+    }
+    
+    @Test
+    void assertCloseBeforeReadingAllRows() throws SQLException, IOException {
+        Collection<Path> expected = listSpillFiles();
+        MergedResult actual = merge(1, createQueryResult(new Object[]{20, 0, 2, 2, 20}, new Object[]{10, 0, 5, 1, 10}, new Object[]{30, 0, 3, 3, 30}, new Object[]{10, 0, 4, 1, 10}), createQueryResult());
+        assertTrue(actual.next());
+        assertThat(listSpillFiles().size(), greaterThan(expected.size()));
+        actual.close();
+        assertThat(listSpillFiles(), is(expected));
+    }
+    
+    @Test
+    void assertNextWithNotSupportedValueType() {
+        assertThrows(GroupByMergeSpillException.class, () -> merge(1, createQueryResult(new Object[]{20, 0, 2, 2, 20}, new Object[]{10, 0, new Object(), 1, 10}), createQueryResult()));
+    }
+    
+    @Test
+    void assertNextForResultSetsAllEmpty() throws SQLException {
+        assertFalse(merge(1, createQueryResult(), createQueryResult()).next());
+    }
+    
+    private MergedResult merge(final int maxMemoryRows, final QueryResult... queryResults) throws SQLException {
+        ConfigurationProperties props = new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.GROUP_BY_MERGE_MAX_MEMORY_ROWS.getKey(), String.valueOf(maxMemoryRows))));
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), props);
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("db_schema");
+        return resultMerger.merge(Arrays.asList(queryResults), createSelectStatementContext(), database, mock(ConnectionContext.class));
+    }
+    
+    private void assertRow(final MergedResult actual, final int id, final int count, final int derivedCount, final int derivedSum) throws SQLException {
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(count)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(derivedSum / derivedCount));
+        assertThat(actual.getValue(3, Object.class), is(id));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(derivedCount)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(derivedSum)));
+    }
+    
+    private QueryResult createQueryResult(final Object[]... rows) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(5);
+        when(result.getMetaData().getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getMetaData().getColumnLabel(2)).thenReturn("AVG(num)");
+        when(result.getMetaData().getColumnLabel(3)).thenReturn("id");
+        when(result.getMetaData().getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
+        when(result.getMetaData().getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        Iterator<Object[]> iterator = Arrays.asList(rows).iterator();
+        AtomicReference<Object[]> currentRow = new AtomicReference<>();
+        when(result.next()).thenAnswer(invocation -> {
+            currentRow.set(iterator.hasNext() ? iterator.next() : null);
+            return null != currentRow.get();
+        });
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> currentRow.get()[invocation.<Integer>getArgument(0) - 1]);
+        return result;
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "COUNT(*)"));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.AVG, "AVG(num)"));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, NullsOrderType.FIRST))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, NullsOrderType.FIRST))));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getSchema(DefaultDatabase.LOGIC_NAME)).thenReturn(mock(ShardingSphereSchema.class));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, database), mock(ResourceMetaData.class),
+                mock(RuleMetaData.class), mock(ConfigurationProperties.class));
+        return new SelectStatementContext(metaData, Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME, Collections.emptyList());
+    }
+    
+    private Collection<Path> listSpillFiles() throws IOException {
+        try (Stream<Path> paths = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return paths.filter(each -> each.getFileName().toString().startsWith("shardingsphere-group-by-")).collect(Collectors.toSet());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class GroupBySpillValueCodecTest {
+    
+    @Test
+    void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1700000000123L);
+        timestamp.setNanos(123456789);
+        List<Object> expected = Arrays.asList(true, (byte) 1, (short) 2, 3, 4L, 5.5F, 6.6D, new BigInteger("12345678901234567890"), new BigDecimal("-0.30"), "foo_中",
+                new Date(1700000000000L), new Time(3600000L), timestamp, new java.util.Date(1700000000000L), LocalDate.of(2024, 2, 29), LocalTime.of(23, 59, 59, 999999999),
+                LocalDateTime.of(2024, 2, 29, 23, 59, 59, 1), OffsetDateTime.of(2024, 2, 29, 23, 59, 59, 1, ZoneOffset.ofHours(8)), UUID.fromString("123e4567-e89b-12d3-a456-426614174000"));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        GroupBySpillValueCodec.write(output, null);
+        for (Object each : expected) {
+            GroupBySpillValueCodec.write(output, each);
+        }
+        GroupBySpillValueCodec.write(output, new byte[]{1, 2, 3});
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertNull(GroupBySpillValueCodec.read(input));
+        for (Object each : expected) {
+            Object actual = GroupBySpillValueCodec.read(input);
+            assertThat(actual, is(each));
+            assertThat(actual.getClass(), is(each.getClass()));
+        }
+        assertArrayEquals(new byte[]{1, 2, 3}, (byte[]) GroupBySpillValueCodec.read(input));
+    }
+    
+    @Test
+    void assertWriteAndReadWithNotSerializableValue() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GroupBySpillValueCodec.write(new DataOutputStream(bytes), Optional.of("foo"));
+        assertThat(GroupBySpillValueCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))), is("Optional[foo]"));
+    }
+}
@@ -20,7 +20,12 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.Collections;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 class AggregationUnitFactoryTest {
@@ -61,4 +66,26 @@ class AggregationUnitFactoryTest {
     void assertCreateBitXorAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.BIT_XOR, false), instanceOf(BitXorAggregationUnit.class));
     }
+    
+    @Test
+    void assertCreateLongAccumulationAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, false, Types.BIGINT), instanceOf(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, false, Types.INTEGER), instanceOf(LongAccumulationAggregationUnit.class));
+    }
+    
+    @Test
+    void assertCreateAccumulationAggregationUnitWithApproximateNumericColumnType() {
+        AggregationUnit actual = AggregationUnitFactory.create(AggregationType.SUM, false, Types.DOUBLE);
+        assertThat(actual, instanceOf(AccumulationAggregationUnit.class));
+        actual.merge(Collections.singletonList(0.1D));
+        actual.merge(Collections.singletonList(0.2D));
+        assertThat(actual.getResult(), is(new BigDecimal("0.3")));
+    }
+    
+    @Test
+    void assertCreateAggregationUnitWithOtherColumnType() {
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, false, Types.DECIMAL), instanceOf(AccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, true, Types.BIGINT), instanceOf(DistinctSumAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.MAX, false, Types.BIGINT), instanceOf(ComparableAggregationUnit.class));
+    }
 }
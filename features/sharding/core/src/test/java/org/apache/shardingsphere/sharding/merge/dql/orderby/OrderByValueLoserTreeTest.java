@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderByValueLoserTreeTest {
+    
+    private final SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+    
+    @Test
+    void assertIsEmptyWithoutOrderByValues() {
+        assertTrue(new OrderByValueLoserTree(Collections.emptyList()).isEmpty());
+    }
+    
+    @Test
+    void assertNextWinnerWithSingleOrderByValue() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Collections.singletonList(createOrderByValue(1, 3)));
+        assertThat(poll(actual), is(Arrays.asList(1, 3)));
+    }
+    
+    @Test
+    void assertNextWinnerWithMultipleOrderByValues() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Arrays.asList(
+                createOrderByValue(5, 9), createOrderByValue(1, 2, 8), createOrderByValue(3), createOrderByValue(4, 6, 7), createOrderByValue(0, 10)));
+        assertThat(poll(actual), is(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10)));
+    }
+    
+    private List<Integer> poll(final OrderByValueLoserTree loserTree) throws SQLException {
+        List<Integer> result = new ArrayList<>();
+        assertFalse(loserTree.isEmpty());
+        do {
+            result.add((Integer) loserTree.getWinner().getQueryResult().getValue(1, Object.class));
+        } while (loserTree.nextWinner());
+        assertTrue(loserTree.isEmpty());
+        return result;
+    }
+    
+    private OrderByValue createOrderByValue(final Integer... values) throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        Iterator<Integer> iterator = Arrays.asList(values).iterator();
+        AtomicReference<Integer> currentValue = new AtomicReference<>();
+        when(queryResult.next()).thenAnswer(invocation -> {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            currentValue.set(iterator.next());
+            return true;
+        });
+        when(queryResult.getValue(1, Object.class)).thenAnswer(invocation -> currentValue.get());
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.FIRST));
+        orderByItem.setIndex(1);
+        OrderByValue result = new OrderByValue(queryResult, Collections.singletonList(orderByItem), selectStatementContext, mock(ShardingSphereSchema.class));
+        assertTrue(result.next());
+        return result;
+    }
+}
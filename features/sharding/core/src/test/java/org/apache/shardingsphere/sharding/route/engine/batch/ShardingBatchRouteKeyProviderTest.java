@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.batch;
+
+import org.apache.shardingsphere.infra.binder.context.segment.insert.values.InsertValueContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.route.batch.BatchRouteKeyGenerator;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.HintShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.sharding.hint.HintShardingAlgorithm;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.ShardingTable;
+import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShardingBatchRouteKeyProviderTest {
+    
+    private final ShardingBatchRouteKeyProvider provider = new ShardingBatchRouteKeyProvider();
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
+    @Test
+    void assertFindBatchRouteKeyGeneratorWithNotInsertStatement() {
+        assertFalse(provider.findBatchRouteKeyGenerator(mock(SelectStatementContext.class), mockShardingRule(), props).isPresent());
+    }
+    
+    @Test
+    void assertFindBatchRouteKeyGeneratorWithMultipleInsertValues() {
+        InsertStatementContext insertStatementContext = mockInsertStatementContext(new ParameterMarkerExpressionSegment(0, 0, 1));
+        InsertValueContext insertValueContext = insertStatementContext.getInsertValueContexts().get(0);
+        when(insertStatementContext.getInsertValueContexts()).thenReturn(Arrays.asList(insertValueContext, insertValueContext));
+        assertFalse(provider.findBatchRouteKeyGenerator(insertStatementContext, mockShardingRule(), props).isPresent());
+    }
+    
+    @Test
+    void assertFindBatchRouteKeyGeneratorWithNotParameterOrLiteralShardingValue() {
+        assertFalse(provider.findBatchRouteKeyGenerator(mockInsertStatementContext(new ColumnSegment(0, 0, new IdentifierValue("foo_col"))), mockShardingRule(), props).isPresent());
+    }
+    
+    @Test
+    void assertFindBatchRouteKeyGeneratorWithHintShardingStrategy() {
+        ShardingRule shardingRule = mockShardingRule();
+        ShardingTable shardingTable = shardingRule.findShardingTable("t_order").orElseThrow(IllegalStateException::new);
+        when(shardingRule.getDatabaseShardingStrategyConfiguration(shardingTable)).thenReturn(new HintShardingStrategyConfiguration("database_hint"));
+        shardingRule.getShardingAlgorithms().put("database_hint", mock(HintShardingAlgorithm.class));
+        assertFalse(provider.findBatchRouteKeyGenerator(mockInsertStatementContext(new ParameterMarkerExpressionSegment(0, 0, 1)), shardingRule, props).isPresent());
+    }
+    
+    @Test
+    void assertGenerateWithNotShardingTable() {
+        ShardingRule shardingRule = mock(ShardingRule.class);
+        when(shardingRule.findShardingTable("t_order")).thenReturn(Optional.empty());
+        Optional<BatchRouteKeyGenerator> actual = provider.findBatchRouteKeyGenerator(mockInsertStatementContext(new ParameterMarkerExpressionSegment(0, 0, 1)), shardingRule, props);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().generate(Arrays.asList(1, 2, "OK")), is(actual.get().generate(Arrays.asList(2, 3, "OK"))));
+    }
+    
+    @Test
+    void assertGenerateWithParameterShardingValues() {
+        Optional<BatchRouteKeyGenerator> actual = provider.findBatchRouteKeyGenerator(mockInsertStatementContext(new ParameterMarkerExpressionSegment(0, 0, 1)), mockShardingRule(), props);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().generate(Arrays.asList(3, 2, "OK")), is(Collections.singletonList(new DataNode("ds_0", "t_order_1"))));
+        assertThat(actual.get().generate(Arrays.asList(5, 4, "OK")), is(actual.get().generate(Arrays.asList(3, 2, "OK"))));
+        assertThat(actual.get().generate(Arrays.asList(3, 3, "OK")), not(actual.get().generate(Arrays.asList(3, 2, "OK"))));
+    }
+    
+    @Test
+    void assertGenerateWithLiteralShardingValue() {
+        Optional<BatchRouteKeyGenerator> actual = provider.findBatchRouteKeyGenerator(mockInsertStatementContext(new LiteralExpressionSegment(0, 0, 1)), mockShardingRule(), props);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().generate(Arrays.asList(2, "OK")), is(Collections.singletonList(new DataNode("ds_1", "t_order_0"))));
+    }
+    
+    private ShardingRule mockShardingRule() {
+        ShardingRule result = mock(ShardingRule.class);
+        ShardingTable shardingTable = new ShardingTable(new ShardingTableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}"), Arrays.asList("ds_0", "ds_1"), null);
+        when(result.findShardingTable("t_order")).thenReturn(Optional.of(shardingTable));
+        when(result.getDatabaseShardingStrategyConfiguration(shardingTable)).thenReturn(new StandardShardingStrategyConfiguration("user_id", "database_inline"));
+        when(result.getTableShardingStrategyConfiguration(shardingTable)).thenReturn(new StandardShardingStrategyConfiguration("order_id", "table_inline"));
+        Map<String, ShardingAlgorithm> shardingAlgorithms = new HashMap<>();
+        shardingAlgorithms.put("database_inline", TypedSPILoader.getService(ShardingAlgorithm.class, "INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "ds_${user_id % 2}"))));
+        shardingAlgorithms.put("table_inline", TypedSPILoader.getService(ShardingAlgorithm.class, "INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "t_order_${order_id % 2}"))));
+        when(result.getShardingAlgorithms()).thenReturn(shardingAlgorithms);
+        return result;
+    }
+    
+    private InsertStatementContext mockInsertStatementContext(final ExpressionSegment userIdExpression) {
+        InsertStatementContext result = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getSqlStatement().getTable()).thenReturn(Optional.of(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("t_order")))));
+        when(result.getSqlStatement().getOnDuplicateKeyColumns()).thenReturn(Optional.empty());
+        when(result.getInsertSelectContext()).thenReturn(null);
+        when(result.getGeneratedKeyContext()).thenReturn(Optional.empty());
+        when(result.getColumnNames()).thenReturn(Arrays.asList("order_id", "user_id", "status"));
+        int statusIndex = userIdExpression instanceof ParameterMarkerExpressionSegment ? 2 : 1;
+        List<ExpressionSegment> valueExpressions = Arrays.asList(new ParameterMarkerExpressionSegment(0, 0, 0), userIdExpression, new ParameterMarkerExpressionSegment(0, 0, statusIndex));
+        when(result.getInsertValueContexts()).thenReturn(Collections.singletonList(new InsertValueContext(valueExpressions, Collections.emptyList(), 0)));
+        return result;
+    }
+}
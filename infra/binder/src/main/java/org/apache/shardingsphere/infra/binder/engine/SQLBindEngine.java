@@ -20,8 +20,11 @@ package org.apache.shardingsphere.infra.binder.engine;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.engine.cache.BoundSQLStatementCache;
 import org.apache.shardingsphere.infra.binder.engine.type.DDLStatementBindEngine;
 import org.apache.shardingsphere.infra.binder.engine.type.DMLStatementBindEngine;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -55,6 +58,24 @@ public final class SQLBindEngine {
         return SQLStatementContextFactory.newInstance(metaData, boundSQLStatement, params, currentDatabaseName);
     }
     
+    /**
+     * Bind SQL statement with bound SQL statement cache.
+     *
+     * @param boundSQLStatementCache bound SQL statement cache
+     * @param sql SQL
+     * @param sqlStatement SQL statement
+     * @param params parameters
+     * @return SQL statement context
+     */
+    public SQLStatementContext bind(final BoundSQLStatementCache boundSQLStatementCache, final String sql, final SQLStatement sqlStatement, final List<Object> params) {
+        if (!isNeedBind() || !metaData.getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_BIND_CACHE_ENABLED)) {
+            return bind(sqlStatement, params);
+        }
+        String schemaName = new DatabaseTypeRegistry(sqlStatement.getDatabaseType()).getDefaultSchemaName(currentDatabaseName);
+        SQLStatement boundSQLStatement = boundSQLStatementCache.getOrBind(metaData, currentDatabaseName, schemaName, sql, () -> bindSQLStatement(sqlStatement));
+        return SQLStatementContextFactory.newInstance(metaData, boundSQLStatement, params, currentDatabaseName);
+    }
+    
     private boolean isNeedBind() {
         return !hintValueContext.findHintDataSourceName().isPresent() && !HintManager.getDataSourceName().isPresent();
     }
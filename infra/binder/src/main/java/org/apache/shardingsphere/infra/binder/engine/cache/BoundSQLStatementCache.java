@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.binder.engine.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+import java.lang.ref.WeakReference;
+import java.util.function.Supplier;
+
+/**
+ * Bound SQL statement cache.
+ * 
+ * <p>The cache belongs to one connection. Bound SQL statements are cached by database name, schema name and SQL,
+ * and discarded once meta data is replaced or its version is increased.
+ * SQL statement contexts are not cached, because they are changed by parameters and merge of each execution,
+ * so callers create a new SQL statement context from the bound SQL statement for every execution.</p>
+ */
+public final class BoundSQLStatementCache {
+    
+    private static final int INITIAL_CAPACITY = 128;
+    
+    private static final long MAXIMUM_SIZE = 1024L;
+    
+    private final Cache<BoundSQLStatementCacheKey, SQLStatement> boundSQLStatements = Caffeine.newBuilder().softValues().initialCapacity(INITIAL_CAPACITY).maximumSize(MAXIMUM_SIZE).build();
+    
+    private WeakReference<ShardingSphereMetaData> cachedMetaData = new WeakReference<>(null);
+    
+    private long cachedMetaDataVersion;
+    
+    /**
+     * Get bound SQL statement from cache, or bind and cache it if absent or stale.
+     *
+     * @param metaData meta data
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param sql SQL
+     * @param binder binder to bind SQL statement when cache missed
+     * @return bound SQL statement
+     */
+    public synchronized SQLStatement getOrBind(final ShardingSphereMetaData metaData, final String databaseName, final String schemaName, final String sql, final Supplier<SQLStatement> binder) {
+        long metaDataVersion = metaData.getVersion();
+        if (metaData != cachedMetaData.get() || metaDataVersion != cachedMetaDataVersion) {
+            boundSQLStatements.invalidateAll();
+            cachedMetaData = new WeakReference<>(metaData);
+            cachedMetaDataVersion = metaDataVersion;
+        }
+        BoundSQLStatementCacheKey key = new BoundSQLStatementCacheKey(databaseName, schemaName, sql);
+        SQLStatement result = boundSQLStatements.getIfPresent(key);
+        if (null == result) {
+            result = binder.get();
+            boundSQLStatements.put(key, result);
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class BoundSQLStatementCacheKey {
+        
+        private final String databaseName;
+        
+        private final String schemaName;
+        
+        private final String sql;
+    }
+}
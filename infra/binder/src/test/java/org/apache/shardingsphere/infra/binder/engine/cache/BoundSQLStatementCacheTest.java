@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.binder.engine.cache;
+
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class BoundSQLStatementCacheTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE order_id = ? LIMIT ?";
+    
+    @Test
+    void assertGetOrBindWithCachedSQLStatement() {
+        BoundSQLStatementCache cache = new BoundSQLStatementCache();
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData();
+        AtomicInteger bindCount = new AtomicInteger();
+        Supplier<SQLStatement> binder = createBinder(bindCount);
+        SQLStatement actual = cache.getOrBind(metaData, "foo_db", "foo_schema", SQL, binder);
+        assertThat(cache.getOrBind(metaData, "foo_db", "foo_schema", SQL, binder), sameInstance(actual));
+        assertThat(bindCount.get(), is(1));
+    }
+    
+    @Test
+    void assertGetOrBindWithDifferentDatabase() {
+        BoundSQLStatementCache cache = new BoundSQLStatementCache();
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData();
+        AtomicInteger bindCount = new AtomicInteger();
+        Supplier<SQLStatement> binder = createBinder(bindCount);
+        cache.getOrBind(metaData, "foo_db", "foo_schema", SQL, binder);
+        cache.getOrBind(metaData, "bar_db", "foo_schema", SQL, binder);
+        assertThat(bindCount.get(), is(2));
+    }
+    
+    @Test
+    void assertGetOrBindWithDifferentSchema() {
+        BoundSQLStatementCache cache = new BoundSQLStatementCache();
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData();
+        AtomicInteger bindCount = new AtomicInteger();
+        Supplier<SQLStatement> binder = createBinder(bindCount);
+        cache.getOrBind(metaData, "foo_db", "foo_schema", SQL, binder);
+        cache.getOrBind(metaData, "foo_db", "bar_schema", SQL, binder);
+        assertThat(bindCount.get(), is(2));
+    }
+    
+    @Test
+    void assertGetOrBindWithDifferentCache() {
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData();
+        AtomicInteger bindCount = new AtomicInteger();
+        Supplier<SQLStatement> binder = createBinder(bindCount);
+        SQLStatement actual = new BoundSQLStatementCache().getOrBind(metaData, "foo_db", "foo_schema", SQL, binder);
+        assertThat(new BoundSQLStatementCache().getOrBind(metaData, "foo_db", "foo_schema", SQL, binder), not(sameInstance(actual)));
+        assertThat(bindCount.get(), is(2));
+    }
+    
+    @Test
+    void assertGetOrBindAfterMetaDataReplaced() {
+        BoundSQLStatementCache cache = new BoundSQLStatementCache();
+        AtomicInteger bindCount = new AtomicInteger();
+        Supplier<SQLStatement> binder = createBinder(bindCount);
+        SQLStatement actual = cache.getOrBind(new ShardingSphereMetaData(), "foo_db", "foo_schema", SQL, binder);
+        assertThat(cache.getOrBind(new ShardingSphereMetaData(), "foo_db", "foo_schema", SQL, binder), not(sameInstance(actual)));
+        assertThat(bindCount.get(), is(2));
+    }
+    
+    @Test
+    void assertGetOrBindAfterMetaDataChanged() {
+        BoundSQLStatementCache cache = new BoundSQLStatementCache();
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData();
+        AtomicInteger bindCount = new AtomicInteger();
+        Supplier<SQLStatement> binder = createBinder(bindCount);
+        SQLStatement actual = cache.getOrBind(metaData, "foo_db", "foo_schema", SQL, binder);
+        metaData.increaseVersion();
+        SQLStatement rebound = cache.getOrBind(metaData, "foo_db", "foo_schema", SQL, binder);
+        assertThat(bindCount.get(), is(2));
+        assertThat(rebound, not(sameInstance(actual)));
+        assertThat(cache.getOrBind(metaData, "foo_db", "foo_schema", SQL, binder), sameInstance(rebound));
+    }
+    
+    private Supplier<SQLStatement> createBinder(final AtomicInteger bindCount) {
+        return () -> {
+            bindCount.incrementAndGet();
+            return mock(SelectStatement.class);
+        };
+    }
+}
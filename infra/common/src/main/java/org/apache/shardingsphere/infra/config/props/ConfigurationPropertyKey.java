@@ -54,11 +54,27 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether worker group executes each SQL task with a new virtual thread, only take effect on JDK 21 or later.
+     */
+    KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED("kernel-executor-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * Max group rows kept in memory for each group by merging, rows beyond it will be spilled to temporary files.
+     * Less than or equal to 0 means no limitation.
+     */
+    GROUP_BY_MERGE_MAX_MEMORY_ROWS("group-by-merge-max-memory-rows", String.valueOf(0), int.class, false),
+    
+    /**
+     * Whether cache bound SQL statements per connection, SQL statement context is created for every execution, the cache is invalidated when meta data changed.
+     */
+    SQL_BIND_CACHE_ENABLED("sql-bind-cache-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Whether validate table metadata consistency when application startup or updated.
      */
@@ -80,11 +96,33 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", String.valueOf(-1), int.class, false),
     
+    /**
+     * Whether proxy backend consumes query results of multiple shards in completion order, so rows of fast shards can be returned before slow shards finished.
+     */
+    PROXY_BACKEND_QUERY_COMPLETION_ORDERED_ENABLED("proxy-backend-query-completion-ordered-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Milliseconds each shard should return query results within when proxy backend consumes query results in completion order.
+     * The default value is 0, which means no timeout.
+     */
+    PROXY_BACKEND_QUERY_SHARD_TIMEOUT_MILLISECONDS("proxy-backend-query-shard-timeout-milliseconds", String.valueOf(0), long.class, false),
+    
+    /**
+     * Max prepared statements proxy backend caches for each storage connection, so that repeated prepared SQL can reuse statements out of transactions.
+     * The default value is 0, which means prepared statements are not cached.
+     */
+    PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE("proxy-backend-prepared-statement-cache-size", String.valueOf(0), int.class, false),
+    
     /**
      * Proxy frontend executor size. The default value is 0, which means let Netty decide.
      */
     PROXY_FRONTEND_EXECUTOR_SIZE("proxy-frontend-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether proxy frontend executes commands of each connection with a virtual thread, only take effect on JDK 21 or later.
+     */
+    PROXY_FRONTEND_CONNECTION_VIRTUAL_THREAD_ENABLED("proxy-frontend-connection-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Less than or equal to 0 means no limitation.
      */
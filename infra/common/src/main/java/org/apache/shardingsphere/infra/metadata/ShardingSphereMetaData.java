@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.metadata;
 
 import com.cedarsoftware.util.CaseInsensitiveMap;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
@@ -37,6 +38,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ShardingSphere meta data.
@@ -54,6 +56,9 @@ public final class ShardingSphereMetaData {
     
     private final TemporaryConfigurationProperties temporaryProps;
     
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong version = new AtomicLong();
+    
     public ShardingSphereMetaData() {
         this(new CaseInsensitiveMap<>(Collections.emptyMap(), new ConcurrentHashMap<>()),
                 new ResourceMetaData(Collections.emptyMap()), new RuleMetaData(Collections.emptyList()), new ConfigurationProperties(new Properties()));
@@ -68,6 +73,24 @@ public final class ShardingSphereMetaData {
         temporaryProps = new TemporaryConfigurationProperties(props.getProps());
     }
     
+    /**
+     * Get version.
+     *
+     * <p>Version is increased when databases, schemas, tables or views of this meta data are changed in place.</p>
+     *
+     * @return version
+     */
+    public long getVersion() {
+        return version.get();
+    }
+    
+    /**
+     * Increase version.
+     */
+    public void increaseVersion() {
+        version.incrementAndGet();
+    }
+    
     /**
      * Judge contains database from meta data or not.
      *
@@ -98,6 +121,7 @@ public final class ShardingSphereMetaData {
     public void addDatabase(final String databaseName, final DatabaseType protocolType, final ConfigurationProperties props) {
         ShardingSphereDatabase database = ShardingSphereDatabase.create(databaseName, protocolType, props);
         databases.put(database.getName(), database);
+        version.incrementAndGet();
         globalRuleMetaData.getRules().forEach(each -> ((GlobalRule) each).refresh(databases, GlobalRuleChangedType.DATABASE_CHANGED));
     }
     
@@ -108,6 +132,7 @@ public final class ShardingSphereMetaData {
      */
     public void dropDatabase(final String databaseName) {
         cleanResources(databases.remove(databaseName));
+        version.incrementAndGet();
     }
     
     @SneakyThrows(Exception.class)
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.connection.kernel;
+
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.checker.SupportedSQLCheckEngine;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.route.batch.BatchRouteKeyGenerator;
+import org.apache.shardingsphere.infra.route.batch.BatchRouteKeyProvider;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Batch kernel processor.
+ * 
+ * <p>Parameter sets of a batched insert statement are routed by batch route keys of database rules,
+ * route and rewrite only run for the first parameter set of each route key, other parameter sets reuse its rewritten execution units.
+ * For the reused parameter sets, only {@link SupportedSQLCheckEngine} checks SQL, the checks which run while routing are skipped,
+ * because they have passed for the first parameter set with the same route key and would produce the same route context.</p>
+ */
+@HighFrequencyInvocation
+public final class BatchKernelProcessor {
+    
+    private final KernelProcessor kernelProcessor = new KernelProcessor();
+    
+    private final Map<List<Object>, ExecutionContext> executionContextTemplates = new HashMap<>();
+    
+    private Collection<BatchRouteKeyGenerator> routeKeyGenerators;
+    
+    private boolean routeKeyGeneratorsLoaded;
+    
+    private boolean parametersRewritten;
+    
+    /**
+     * Generate execution context of parameter set.
+     *
+     * @param queryContext query context
+     * @param globalRuleMetaData global rule meta data
+     * @param props configuration properties
+     * @return execution context
+     */
+    public ExecutionContext generateExecutionContext(final QueryContext queryContext, final RuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        if (parametersRewritten || !isExecutionUnitsReusable(queryContext.getSqlStatementContext()) || !findRouteKeyGenerators(queryContext, props).isPresent()) {
+            return kernelProcessor.generateExecutionContext(queryContext, globalRuleMetaData, props);
+        }
+        List<Object> routeKey = generateRouteKey(queryContext.getParameters());
+        ExecutionContext template = executionContextTemplates.get(routeKey);
+        if (null == template) {
+            ExecutionContext result = kernelProcessor.generateExecutionContext(queryContext, globalRuleMetaData, props);
+            if (isParametersUnchanged(result.getExecutionUnits(), queryContext.getParameters())) {
+                executionContextTemplates.put(routeKey, new ExecutionContext(queryContext, bindParameters(result.getExecutionUnits(), new ArrayList<>()), result.getRouteContext()));
+            } else {
+                parametersRewritten = true;
+                executionContextTemplates.clear();
+            }
+            return result;
+        }
+        kernelProcessor.check(queryContext);
+        ExecutionContext result = new ExecutionContext(queryContext, bindParameters(template.getExecutionUnits(), queryContext.getParameters()), template.getRouteContext());
+        kernelProcessor.logSQL(queryContext, props, result);
+        return result;
+    }
+    
+    private boolean isExecutionUnitsReusable(final SQLStatementContext sqlStatementContext) {
+        if (!(sqlStatementContext instanceof InsertStatementContext)) {
+            return false;
+        }
+        InsertStatementContext insertStatementContext = (InsertStatementContext) sqlStatementContext;
+        return null == insertStatementContext.getInsertSelectContext() && !insertStatementContext.getGeneratedKeyContext().map(GeneratedKeyContext::isGenerated).orElse(false);
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Optional<Collection<BatchRouteKeyGenerator>> findRouteKeyGenerators(final QueryContext queryContext, final ConfigurationProperties props) {
+        if (routeKeyGeneratorsLoaded) {
+            return Optional.ofNullable(routeKeyGenerators);
+        }
+        routeKeyGeneratorsLoaded = true;
+        Collection<ShardingSphereRule> rules = queryContext.getUsedDatabase().getRuleMetaData().getRules();
+        Map<ShardingSphereRule, BatchRouteKeyProvider> providers = OrderedSPILoader.getServices(BatchRouteKeyProvider.class, rules);
+        if (providers.size() != rules.size()) {
+            return Optional.empty();
+        }
+        Collection<BatchRouteKeyGenerator> result = new LinkedList<>();
+        for (Entry<ShardingSphereRule, BatchRouteKeyProvider> entry : providers.entrySet()) {
+            Optional<BatchRouteKeyGenerator> routeKeyGenerator = entry.getValue().findBatchRouteKeyGenerator(queryContext.getSqlStatementContext(), entry.getKey(), props);
+            if (!routeKeyGenerator.isPresent()) {
+                return Optional.empty();
+            }
+            result.add(routeKeyGenerator.get());
+        }
+        routeKeyGenerators = result;
+        return Optional.of(result);
+    }
+    
+    private List<Object> generateRouteKey(final List<Object> params) {
+        List<Object> result = new ArrayList<>(routeKeyGenerators.size());
+        for (BatchRouteKeyGenerator each : routeKeyGenerators) {
+            result.add(each.generate(params));
+        }
+        return result;
+    }
+    
+    private boolean isParametersUnchanged(final Collection<ExecutionUnit> executionUnits, final List<Object> params) {
+        for (ExecutionUnit each : executionUnits) {
+            if (!params.equals(each.getSqlUnit().getParameters())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private Collection<ExecutionUnit> bindParameters(final Collection<ExecutionUnit> executionUnits, final List<Object> params) {
+        Collection<ExecutionUnit> result = new ArrayList<>(executionUnits.size());
+        for (ExecutionUnit each : executionUnits) {
+            result.add(new ExecutionUnit(each.getDataSourceName(), new SQLUnit(each.getSqlUnit().getSql(), new ArrayList<>(params), each.getSqlUnit().getTableRouteMappers())));
+        }
+        return result;
+    }
+    
+    /**
+     * Clear execution context templates and batch route key generators.
+     */
+    public void clear() {
+        executionContextTemplates.clear();
+        routeKeyGenerators = null;
+        routeKeyGeneratorsLoaded = false;
+        parametersRewritten = false;
+    }
+}
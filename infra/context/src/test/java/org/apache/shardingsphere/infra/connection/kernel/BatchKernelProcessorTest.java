@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.connection.kernel;
+
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.checker.SupportedSQLCheckEngine;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.route.batch.BatchRouteKeyGenerator;
+import org.apache.shardingsphere.infra.route.batch.BatchRouteKeyProvider;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.MockedConstruction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(OrderedSPILoader.class)
+class BatchKernelProcessorTest {
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
+    @Test
+    void assertGenerateExecutionContextWithSameRouteKey() {
+        try (
+                MockedConstruction<KernelProcessor> kernelProcessors = mockConstruction(KernelProcessor.class, (mock, context) -> mockGenerateExecutionContext(mock, false));
+                MockedConstruction<SupportedSQLCheckEngine> checkEngines = mockConstruction(SupportedSQLCheckEngine.class)) {
+            ShardingSphereDatabase database = mockDatabase(true);
+            BatchKernelProcessor processor = new BatchKernelProcessor();
+            processor.generateExecutionContext(mockQueryContext(database, 1, "foo"), mock(RuleMetaData.class), props);
+            ExecutionContext actual = processor.generateExecutionContext(mockQueryContext(database, 3, "bar"), mock(RuleMetaData.class), props);
+            verify(kernelProcessors.constructed().get(0)).generateExecutionContext(any(), any(), any());
+            verify(checkEngines.constructed().get(0)).checkSQL(any(), any(), any(), any());
+            assertExecutionUnit(actual, "INSERT INTO t_order_1", Arrays.asList(3, "bar"));
+            assertThat(actual.getRouteContext().getRouteUnits().iterator().next().getDataSourceMapper().getActualName(), is("ds_1"));
+        }
+    }
+    
+    @Test
+    void assertGenerateExecutionContextWithDifferentRouteKeys() {
+        try (MockedConstruction<KernelProcessor> kernelProcessors = mockConstruction(KernelProcessor.class, (mock, context) -> mockGenerateExecutionContext(mock, false))) {
+            ShardingSphereDatabase database = mockDatabase(true);
+            BatchKernelProcessor processor = new BatchKernelProcessor();
+            processor.generateExecutionContext(mockQueryContext(database, 1, "foo"), mock(RuleMetaData.class), props);
+            ExecutionContext actual = processor.generateExecutionContext(mockQueryContext(database, 2, "bar"), mock(RuleMetaData.class), props);
+            verify(kernelProcessors.constructed().get(0), times(2)).generateExecutionContext(any(), any(), any());
+            assertExecutionUnit(actual, "INSERT INTO t_order_0", Arrays.asList(2, "bar"));
+        }
+    }
+    
+    @Test
+    void assertGenerateExecutionContextWithRewrittenParameters() {
+        try (MockedConstruction<KernelProcessor> kernelProcessors = mockConstruction(KernelProcessor.class, (mock, context) -> mockGenerateExecutionContext(mock, true))) {
+            ShardingSphereDatabase database = mockDatabase(true);
+            BatchKernelProcessor processor = new BatchKernelProcessor();
+            processor.generateExecutionContext(mockQueryContext(database, 1, "foo"), mock(RuleMetaData.class), props);
+            ExecutionContext actual = processor.generateExecutionContext(mockQueryContext(database, 1, "bar"), mock(RuleMetaData.class), props);
+            verify(kernelProcessors.constructed().get(0), times(2)).generateExecutionContext(any(), any(), any());
+            assertExecutionUnit(actual, "INSERT INTO t_order_1", Arrays.asList(1, "bar", "rewritten"));
+        }
+    }
+    
+    @Test
+    void assertGenerateExecutionContextWithoutBatchRouteKeyProvider() {
+        try (MockedConstruction<KernelProcessor> kernelProcessors = mockConstruction(KernelProcessor.class, (mock, context) -> mockGenerateExecutionContext(mock, false))) {
+            ShardingSphereDatabase database = mockDatabase(false);
+            BatchKernelProcessor processor = new BatchKernelProcessor();
+            processor.generateExecutionContext(mockQueryContext(database, 1, "foo"), mock(RuleMetaData.class), props);
+            processor.generateExecutionContext(mockQueryContext(database, 1, "bar"), mock(RuleMetaData.class), props);
+            verify(kernelProcessors.constructed().get(0), times(2)).generateExecutionContext(any(), any(), any());
+        }
+    }
+    
+    @Test
+    void assertClear() {
+        try (MockedConstruction<KernelProcessor> kernelProcessors = mockConstruction(KernelProcessor.class, (mock, context) -> mockGenerateExecutionContext(mock, false))) {
+            ShardingSphereDatabase database = mockDatabase(true);
+            BatchKernelProcessor processor = new BatchKernelProcessor();
+            processor.generateExecutionContext(mockQueryContext(database, 1, "foo"), mock(RuleMetaData.class), props);
+            processor.clear();
+            processor.generateExecutionContext(mockQueryContext(database, 1, "bar"), mock(RuleMetaData.class), props);
+            verify(kernelProcessors.constructed().get(0), times(2)).generateExecutionContext(any(), any(), any());
+        }
+    }
+    
+    private void mockGenerateExecutionContext(final KernelProcessor kernelProcessor, final boolean isParametersRewritten) {
+        when(kernelProcessor.generateExecutionContext(any(), any(), any())).thenAnswer(invocation -> {
+            QueryContext queryContext = invocation.getArgument(0);
+            int suffix = (Integer) queryContext.getParameters().get(0) % 2;
+            RouteContext routeContext = new RouteContext();
+            routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("foo_ds", "ds_" + suffix), Collections.singleton(new RouteMapper("t_order", "t_order_" + suffix))));
+            List<Object> params = new ArrayList<>(queryContext.getParameters());
+            if (isParametersRewritten) {
+                params.add("rewritten");
+            }
+            return new ExecutionContext(queryContext, Collections.singleton(new ExecutionUnit("ds_" + suffix, new SQLUnit("INSERT INTO t_order_" + suffix, params))), routeContext);
+        });
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ShardingSphereDatabase mockDatabase(final boolean containsBatchRouteKeyProvider) {
+        ShardingSphereRule rule = mock(ShardingSphereRule.class);
+        Collection<ShardingSphereRule> rules = Collections.singleton(rule);
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getRuleMetaData().getRules()).thenReturn(rules);
+        if (containsBatchRouteKeyProvider) {
+            BatchRouteKeyProvider provider = mock(BatchRouteKeyProvider.class);
+            when(provider.findBatchRouteKeyGenerator(any(), any(), any())).thenReturn(Optional.of((BatchRouteKeyGenerator) params -> (Integer) params.get(0) % 2));
+            when(OrderedSPILoader.getServices(BatchRouteKeyProvider.class, rules)).thenReturn(Collections.singletonMap(rule, provider));
+        } else {
+            when(OrderedSPILoader.getServices(BatchRouteKeyProvider.class, rules)).thenReturn(Collections.emptyMap());
+        }
+        return result;
+    }
+    
+    private QueryContext mockQueryContext(final ShardingSphereDatabase database, final Object... params) {
+        QueryContext result = mock(QueryContext.class);
+        when(result.getSqlStatementContext()).thenReturn(mock(InsertStatementContext.class));
+        when(result.getParameters()).thenReturn(Arrays.asList(params));
+        when(result.getUsedDatabase()).thenReturn(database);
+        return result;
+    }
+    
+    private void assertExecutionUnit(final ExecutionContext actual, final String expectedSQL, final List<Object> expectedParams) {
+        assertThat(actual.getExecutionUnits().size(), is(1));
+        ExecutionUnit executionUnit = actual.getExecutionUnits().iterator().next();
+        assertThat(executionUnit.getSqlUnit().getSql(), is(expectedSQL));
+        assertThat(executionUnit.getSqlUnit().getParameters(), is(expectedParams));
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel;
+
+import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionInterruptedException;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionTimeoutException;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Execution group results in completion order.
+ *
+ * @param <I> type of input value
+ * @param <O> type of return value
+ */
+public final class CompletionOrderedGroupResults<I, O> implements AutoCloseable {
+    
+    private final CompletionService<Collection<O>> completionService;
+    
+    private final Map<Future<Collection<O>>, ExecutionGroup<I>> executionGroups;
+    
+    private final long timeoutMillis;
+    
+    private final long submittedNanos;
+    
+    private int returnedCount;
+    
+    private boolean closed;
+    
+    public CompletionOrderedGroupResults(final CompletionService<Collection<O>> completionService, final Map<Future<Collection<O>>, ExecutionGroup<I>> executionGroups, final long timeoutMillis) {
+        this.completionService = completionService;
+        this.executionGroups = executionGroups;
+        this.timeoutMillis = timeoutMillis;
+        submittedNanos = System.nanoTime();
+    }
+    
+    /**
+     * Judge whether there are execution groups not yet returned.
+     *
+     * @return has next or not
+     */
+    public boolean hasNext() {
+        return !closed && returnedCount < executionGroups.size();
+    }
+    
+    /**
+     * Wait for next completed execution group and get its results.
+     * If timeout is set, every execution group should complete within timeout since submitted.
+     *
+     * @return results of next completed execution group
+     * @throws SQLException throw if execute failure or timeout
+     * @throws NoSuchElementException throw if all execution groups are returned
+     */
+    public Collection<O> next() throws SQLException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Future<Collection<O>> future;
+        try {
+            future = timeoutMillis > 0L ? completionService.poll(getRemainingNanos(), TimeUnit.NANOSECONDS) : completionService.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLExecutionInterruptedException();
+        }
+        if (null == future) {
+            throw new SQLExecutionTimeoutException(timeoutMillis);
+        }
+        returnedCount++;
+        return getResults(future);
+    }
+    
+    private long getRemainingNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(timeoutMillis) - (System.nanoTime() - submittedNanos);
+    }
+    
+    private Collection<O> getResults(final Future<Collection<O>> future) throws SQLException {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLExecutionInterruptedException();
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new UnknownSQLException(ex);
+        }
+    }
+    
+    /**
+     * Get inputs of execution groups which are not finished yet.
+     *
+     * @return inputs of unfinished execution groups
+     */
+    public Collection<I> getUnfinishedInputs() {
+        Collection<I> result = new LinkedList<>();
+        for (Entry<Future<Collection<O>>, ExecutionGroup<I>> entry : executionGroups.entrySet()) {
+            if (!entry.getKey().isDone()) {
+                result.addAll(entry.getValue().getInputs());
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Cancel execution groups which are not started yet and wait for running execution groups to finish,
+     * so that inputs are not used by executor threads any more after closed.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Future<Collection<O>> each : executionGroups.keySet()) {
+            each.cancel(false);
+        }
+        for (Future<Collection<O>> each : executionGroups.keySet()) {
+            awaitFinished(each);
+        }
+    }
+    
+    private void awaitFinished(final Future<Collection<O>> future) {
+        if (future.isCancelled()) {
+            return;
+        }
+        try {
+            future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException ignored) {
+        }
+    }
+}
@@ -29,9 +29,13 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Future;
 
 /**
@@ -43,8 +47,8 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ExecutorServiceManager executorServiceManager;
     
-    private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+    private ExecutorEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, ExecutorServiceManager.DEFAULT_NAME_FORMAT, virtualThreadEnabled);
     }
     
     /**
@@ -54,7 +58,18 @@ public final class ExecutorEngine implements AutoCloseable {
      * @return created executor engine
      */
     public static ExecutorEngine createExecutorEngineWithSize(final int executorSize) {
-        return new ExecutorEngine(executorSize);
+        return new ExecutorEngine(executorSize, false);
+    }
+    
+    /**
+     * Create executor engine with executor size and thread type.
+     *
+     * @param executorSize executor size, ignored if virtual thread is used
+     * @param virtualThreadEnabled whether to execute with a new virtual thread for each task
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        return new ExecutorEngine(executorSize, virtualThreadEnabled);
     }
     
     /**
@@ -78,6 +93,28 @@ public final class ExecutorEngine implements AutoCloseable {
                 : parallelExecute(executionGroupContext.getInputGroups().iterator(), executionGroupContext.getReportContext().getProcessId(), firstCallback, callback);
     }
     
+    /**
+     * Execute all execution groups asynchronously and return results in completion order.
+     * All execution groups are executed by executor threads and none of them as trunk, so no sane result is returned for failed execution.
+     *
+     * @param executionGroupContext execution group context
+     * @param callback executor callback
+     * @param timeoutMillis milliseconds every execution group should complete within, less than or equal to 0 means no timeout
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execution group results in completion order
+     */
+    public <I, O> CompletionOrderedGroupResults<I, O> executeInCompletionOrder(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> callback,
+                                                                               final long timeoutMillis) {
+        CompletionService<Collection<O>> completionService = new ExecutorCompletionService<>(executorServiceManager.getExecutorService());
+        Map<Future<Collection<O>>, ExecutionGroup<I>> executionGroups = new LinkedHashMap<>(executionGroupContext.getInputGroups().size(), 1F);
+        String processId = executionGroupContext.getReportContext().getProcessId();
+        for (ExecutionGroup<I> each : executionGroupContext.getInputGroups()) {
+            executionGroups.put(completionService.submit(() -> callback.execute(each.getInputs(), false, processId)), each);
+        }
+        return new CompletionOrderedGroupResults<>(completionService, executionGroups, timeoutMillis);
+    }
+    
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> firstCallback,
                                          final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
@@ -40,4 +40,15 @@ public final class ExecutorThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build virtual thread factory with thread name format.
+     *
+     * @param nameFormat thread name format
+     * @return virtual thread factory
+     * @throws UnsupportedOperationException thrown if virtual threads are not supported by current JVM
+     */
+    public static ThreadFactory buildVirtual(final String nameFormat) {
+        return new ThreadFactoryBuilder().setThreadFactory(VirtualThreads.newThreadFactory()).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
+    }
 }
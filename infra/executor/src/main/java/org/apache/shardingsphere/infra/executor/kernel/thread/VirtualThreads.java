@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual threads.
+ *
+ * <p>
+ * Virtual threads are only available on JDK 21 or later, so they are looked up reflectively to keep compatible with the compiled target.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VirtualThreads {
+    
+    private static final Method OF_VIRTUAL_METHOD = findMethod(Thread.class, "ofVirtual");
+    
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR_METHOD = findMethod(Executors.class, "newThreadPerTaskExecutor", ThreadFactory.class);
+    
+    private static Method findMethod(final Class<?> clazz, final String methodName, final Class<?>... parameterTypes) {
+        try {
+            return clazz.getMethod(methodName, parameterTypes);
+        } catch (final NoSuchMethodException ignored) {
+            return null;
+        }
+    }
+    
+    /**
+     * Judge whether virtual threads are supported by current JVM.
+     *
+     * @return supported or not
+     */
+    public static boolean isSupported() {
+        return null != OF_VIRTUAL_METHOD && null != NEW_THREAD_PER_TASK_EXECUTOR_METHOD;
+    }
+    
+    /**
+     * Create virtual thread factory.
+     *
+     * @return virtual thread factory
+     * @throws UnsupportedOperationException thrown if virtual threads are not supported by current JVM
+     */
+    @SneakyThrows(ReflectiveOperationException.class)
+    public static ThreadFactory newThreadFactory() {
+        checkSupported();
+        Object builder = OF_VIRTUAL_METHOD.invoke(null);
+        return (ThreadFactory) OF_VIRTUAL_METHOD.getReturnType().getMethod("factory").invoke(builder);
+    }
+    
+    /**
+     * Create executor service which starts a new thread for each task.
+     *
+     * @param threadFactory thread factory
+     * @return executor service
+     * @throws UnsupportedOperationException thrown if virtual threads are not supported by current JVM
+     */
+    @SneakyThrows(ReflectiveOperationException.class)
+    public static ExecutorService newThreadPerTaskExecutor(final ThreadFactory threadFactory) {
+        checkSupported();
+        return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR_METHOD.invoke(null, threadFactory);
+    }
+    
+    private static void checkSupported() {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads require JDK 21 or later.");
+        }
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.executor.kernel.CompletionOrderedGroupResults;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
@@ -69,4 +70,18 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute in completion order.
+     *
+     * @param executionGroupContext execution group context
+     * @param callback JDBC execute callback
+     * @param timeoutMillis milliseconds every execution group should complete within, less than or equal to 0 means no timeout
+     * @param <T> class type of return value
+     * @return execute results in completion order of execution groups
+     */
+    public <T> CompletionOrderedGroupResults<JDBCExecutionUnit, T> executeInCompletionOrder(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                                                                            final JDBCExecutorCallback<T> callback, final long timeoutMillis) {
+        return executorEngine.executeInCompletionOrder(executionGroupContext, callback, timeoutMillis);
+    }
 }
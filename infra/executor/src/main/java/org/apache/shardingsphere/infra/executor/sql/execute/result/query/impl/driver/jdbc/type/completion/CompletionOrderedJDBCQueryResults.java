@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.completion;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.kernel.CompletionOrderedGroupResults;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC query results in completion order of execution groups.
+ * 
+ * <p>The N-th query result is the N-th one returned by execution groups, so query results of fast shards can be consumed before slow shards finished.
+ * The SQL execution of process is completed after all execution groups returned or query results closed.</p>
+ */
+public final class CompletionOrderedJDBCQueryResults implements AutoCloseable {
+    
+    private final CompletionOrderedGroupResults<JDBCExecutionUnit, ExecuteResult> groupResults;
+    
+    private final String processId;
+    
+    private final ProcessEngine processEngine = new ProcessEngine();
+    
+    private final List<QueryResult> completedQueryResults;
+    
+    @Getter
+    private final List<QueryResult> queryResults;
+    
+    private boolean executionCompleted;
+    
+    public CompletionOrderedJDBCQueryResults(final CompletionOrderedGroupResults<JDBCExecutionUnit, ExecuteResult> groupResults, final int size, final String processId) {
+        this.groupResults = groupResults;
+        this.processId = processId;
+        completedQueryResults = new ArrayList<>(size);
+        queryResults = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            queryResults.add(new CompletionOrderedQueryResult(this, i));
+        }
+    }
+    
+    /**
+     * Find completed query result of completion order, wait for execution groups until it is returned.
+     *
+     * @param index index of completion order
+     * @return completed query result, empty if execution groups returned less query results or closed
+     * @throws SQLException SQL exception
+     */
+    Optional<QueryResult> findCompletedQueryResult(final int index) throws SQLException {
+        while (completedQueryResults.size() <= index && groupResults.hasNext()) {
+            for (ExecuteResult each : groupResults.next()) {
+                completedQueryResults.add((QueryResult) each);
+            }
+        }
+        if (!groupResults.hasNext()) {
+            completeExecution();
+        }
+        return index < completedQueryResults.size() ? Optional.of(completedQueryResults.get(index)) : Optional.empty();
+    }
+    
+    /**
+     * Stop consuming execution groups, statements of unfinished execution groups are cancelled and not started execution groups are discarded.
+     */
+    @Override
+    public void close() {
+        for (JDBCExecutionUnit each : groupResults.getUnfinishedInputs()) {
+            cancel(each);
+        }
+        groupResults.close();
+        completeExecution();
+    }
+    
+    private void completeExecution() {
+        if (!executionCompleted) {
+            processEngine.completeSQLExecution(processId);
+            executionCompleted = true;
+        }
+    }
+    
+    private void cancel(final JDBCExecutionUnit executionUnit) {
+        try {
+            executionUnit.getStorageResource().cancel();
+        } catch (final SQLException ignored) {
+        }
+    }
+}
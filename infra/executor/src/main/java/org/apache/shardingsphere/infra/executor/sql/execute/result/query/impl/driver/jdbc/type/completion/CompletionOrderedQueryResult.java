@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.completion;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.SQLException;
+import java.util.Calendar;
+
+/**
+ * Query result of completion order, which waits for execution groups when first accessed.
+ * It has no data if execution groups returned less query results than expected.
+ */
+@RequiredArgsConstructor
+public final class CompletionOrderedQueryResult implements QueryResult {
+    
+    private final CompletionOrderedJDBCQueryResults queryResults;
+    
+    private final int index;
+    
+    private QueryResult completedQueryResult;
+    
+    private boolean loaded;
+    
+    @Override
+    public boolean next() throws SQLException {
+        QueryResult queryResult = getCompletedQueryResult();
+        return null != queryResult && queryResult.next();
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        return getCompletedQueryResult().getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        return getCompletedQueryResult().getCalendarValue(columnIndex, type, calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return getCompletedQueryResult().getInputStream(columnIndex, type);
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        return getCompletedQueryResult().getCharacterStream(columnIndex);
+    }
+    
+    @Override
+    public boolean wasNull() throws SQLException {
+        return getCompletedQueryResult().wasNull();
+    }
+    
+    @SneakyThrows(SQLException.class)
+    @Override
+    public QueryResultMetaData getMetaData() {
+        QueryResult queryResult = getCompletedQueryResult();
+        if (null != queryResult) {
+            return queryResult.getMetaData();
+        }
+        return queryResults.findCompletedQueryResult(0).orElseThrow(() -> new SQLException("Can not get meta data, no query result is returned by execution groups.")).getMetaData();
+    }
+    
+    private QueryResult getCompletedQueryResult() throws SQLException {
+        if (!loaded) {
+            completedQueryResult = queryResults.findCompletedQueryResult(index).orElse(null);
+            loaded = true;
+        }
+        return completedQueryResult;
+    }
+    
+    @Override
+    public void close() throws Exception {
+        queryResults.close();
+        if (null != completedQueryResult) {
+            completedQueryResult.close();
+        }
+    }
+}
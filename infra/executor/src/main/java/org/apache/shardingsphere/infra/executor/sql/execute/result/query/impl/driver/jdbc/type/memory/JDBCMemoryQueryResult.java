@@ -20,16 +20,75 @@ package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.d
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultColumns;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.AbstractList;
 
 /**
  * JDBC query result for memory loading.
  */
 public final class JDBCMemoryQueryResult extends AbstractMemoryQueryResult {
     
+    private final MemoryQueryResultColumns columns;
+    
+    private final MemoryQueryResultDataRow currentRowView;
+    
+    private int currentRowIndex = -1;
+    
     public JDBCMemoryQueryResult(final ResultSet resultSet, final DatabaseType databaseType) throws SQLException {
-        super(new JDBCQueryResultMetaData(resultSet.getMetaData()), new QueryResultDataRowLoader(databaseType).load(resultSet.getMetaData().getColumnCount(), resultSet));
+        this(new JDBCQueryResultMetaData(resultSet.getMetaData()), new QueryResultDataRowLoader(databaseType).load(resultSet.getMetaData().getColumnCount(), resultSet));
+    }
+    
+    private JDBCMemoryQueryResult(final JDBCQueryResultMetaData metaData, final MemoryQueryResultColumns columns) {
+        super(metaData, columns.getRowCount());
+        this.columns = columns;
+        currentRowView = new MemoryQueryResultDataRow(new CurrentRowValues());
+    }
+    
+    /**
+     * Get current row.
+     *
+     * <p>
+     * The returned row is a view of the row under cursor, it is reused and follows the cursor when {@link #next()} is called.
+     * </p>
+     *
+     * @return current row, null if cursor is not on a row
+     */
+    @Override
+    public MemoryQueryResultDataRow getCurrentRow() {
+        return isOnRow() ? currentRowView : null;
+    }
+    
+    private boolean isOnRow() {
+        return currentRowIndex >= 0 && currentRowIndex < columns.getRowCount();
+    }
+    
+    @Override
+    protected boolean nextRow() {
+        if (currentRowIndex < columns.getRowCount()) {
+            currentRowIndex++;
+        }
+        return currentRowIndex < columns.getRowCount();
+    }
+    
+    @Override
+    protected Object getCurrentRowValue(final int columnIndex) {
+        return columns.getValue(currentRowIndex, columnIndex);
+    }
+    
+    private final class CurrentRowValues extends AbstractList<Object> {
+        
+        @Override
+        public Object get(final int index) {
+            return columns.getValue(currentRowIndex, index + 1);
+        }
+        
+        @Override
+        public int size() {
+            return columns.getColumnCount();
+        }
     }
 }
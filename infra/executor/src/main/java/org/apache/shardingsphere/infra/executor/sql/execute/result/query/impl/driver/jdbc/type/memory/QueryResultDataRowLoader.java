@@ -19,17 +19,15 @@ package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.d
 
 import org.apache.shardingsphere.infra.database.core.resultset.ResultSetMapper;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultColumns;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * Query result data row loader.
+ *
+ * <p>All rows of result set are loaded into typed column vectors, a reused array is filled for each row and appended column by column.</p>
  */
 public final class QueryResultDataRowLoader {
     
@@ -40,22 +38,22 @@ public final class QueryResultDataRowLoader {
     }
     
     /**
-     * Load query result data row.
+     * Load all remaining rows of result set into query result columns.
      *
      * @param columnCount column count
      * @param resultSet result set
-     * @return query result data row
+     * @return query result columns holding loaded rows
      * @throws SQLException SQL exception
      */
-    public Collection<MemoryQueryResultDataRow> load(final int columnCount, final ResultSet resultSet) throws SQLException {
-        Collection<MemoryQueryResultDataRow> result = new LinkedList<>();
+    public MemoryQueryResultColumns load(final int columnCount, final ResultSet resultSet) throws SQLException {
+        MemoryQueryResultColumns result = new MemoryQueryResultColumns(columnCount);
+        Object[] rowData = new Object[columnCount];
         while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(columnCount);
             for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
                 Object rowValue = resultSetMapper.load(resultSet, columnIndex);
-                rowData.add(resultSet.wasNull() ? null : rowValue);
+                rowData[columnIndex - 1] = resultSet.wasNull() ? null : rowValue;
             }
-            result.add(new MemoryQueryResultDataRow(rowData));
+            result.appendRow(rowData);
         }
         return result;
     }
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryRe
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
 
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -28,7 +29,28 @@ import java.util.List;
  */
 public final class RawMemoryQueryResult extends AbstractMemoryQueryResult {
     
+    private final Iterator<MemoryQueryResultDataRow> rows;
+    
+    private MemoryQueryResultDataRow currentRow;
+    
     public RawMemoryQueryResult(final QueryResultMetaData metaData, final List<MemoryQueryResultDataRow> rows) {
-        super(metaData, rows);
+        super(metaData, rows.size());
+        this.rows = rows.iterator();
+    }
+    
+    @Override
+    public MemoryQueryResultDataRow getCurrentRow() {
+        return currentRow;
+    }
+    
+    @Override
+    protected boolean nextRow() {
+        currentRow = rows.hasNext() ? rows.next() : null;
+        return null != currentRow;
+    }
+    
+    @Override
+    protected Object getCurrentRowValue(final int columnIndex) {
+        return currentRow.getValue().get(columnIndex - 1);
     }
 }
@@ -33,8 +33,6 @@ import java.io.ObjectOutputStream;
 import java.io.Reader;
 import java.sql.SQLException;
 import java.util.Calendar;
-import java.util.Collection;
-import java.util.Iterator;
 
 /**
  * Abstract memory query result.
@@ -44,50 +42,53 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
     @Getter
     private final QueryResultMetaData metaData;
     
-    private final Iterator<MemoryQueryResultDataRow> rows;
-    
-    @Getter
-    private MemoryQueryResultDataRow currentRow;
-    
     @Getter
     private long rowCount;
     
     private boolean wasNull;
     
-    protected AbstractMemoryQueryResult(final QueryResultMetaData metaData, final Collection<MemoryQueryResultDataRow> rows) {
+    protected AbstractMemoryQueryResult(final QueryResultMetaData metaData, final long rowCount) {
         this.metaData = metaData;
-        this.rows = rows.iterator();
-        rowCount = rows.size();
+        this.rowCount = rowCount;
     }
     
     @Override
     public final boolean next() {
-        if (rows.hasNext()) {
-            currentRow = rows.next();
+        if (nextRow()) {
             rowCount--;
             return true;
         }
-        currentRow = null;
         return false;
     }
     
+    /**
+     * Get current row.
+     *
+     * @return current row, null if cursor is not on a row
+     */
+    public abstract MemoryQueryResultDataRow getCurrentRow();
+    
+    protected abstract boolean nextRow();
+    
+    protected abstract Object getCurrentRowValue(int columnIndex);
+    
     @Override
     public final Object getValue(final int columnIndex, final Class<?> type) {
-        Object result = currentRow.getValue().get(columnIndex - 1);
+        Object result = getCurrentRowValue(columnIndex);
         wasNull = null == result;
         return result;
     }
     
     @Override
     public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        Object result = currentRow.getValue().get(columnIndex - 1);
+        Object result = getCurrentRowValue(columnIndex);
         wasNull = null == result;
         return result;
     }
     
     @Override
     public final InputStream getInputStream(final int columnIndex, final String type) {
-        Object value = currentRow.getValue().get(columnIndex - 1);
+        Object value = getCurrentRowValue(columnIndex);
         wasNull = null == value;
         return getInputStream(value);
     }
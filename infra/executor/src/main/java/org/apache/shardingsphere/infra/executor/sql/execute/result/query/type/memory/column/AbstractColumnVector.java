@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.util.BitSet;
+
+/**
+ * Abstract column vector, nulls are recorded in bitmap.
+ */
+public abstract class AbstractColumnVector implements ColumnVector {
+    
+    protected static final int INITIAL_CAPACITY = 16;
+    
+    private final BitSet nulls = new BitSet();
+    
+    private int size;
+    
+    @Override
+    public final boolean append(final Object value) {
+        if (null == value) {
+            ensureCapacity(size + 1);
+            nulls.set(size++);
+            return true;
+        }
+        if (!isSupported(value)) {
+            return false;
+        }
+        ensureCapacity(size + 1);
+        set(size++, value);
+        return true;
+    }
+    
+    @Override
+    public final Object get(final int rowIndex) {
+        return nulls.get(rowIndex) ? null : getNonNull(rowIndex);
+    }
+    
+    @Override
+    public final int size() {
+        return size;
+    }
+    
+    protected final int getNewCapacity(final int currentCapacity, final int minCapacity) {
+        return Math.max(minCapacity, Math.max(INITIAL_CAPACITY, currentCapacity << 1));
+    }
+    
+    protected abstract boolean isSupported(Object value);
+    
+    protected abstract void ensureCapacity(int minCapacity);
+    
+    protected abstract void set(int rowIndex, Object value);
+    
+    protected abstract Object getNonNull(int rowIndex);
+}
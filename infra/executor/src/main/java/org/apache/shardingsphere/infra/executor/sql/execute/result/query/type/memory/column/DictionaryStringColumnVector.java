@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dictionary string column vector, distinct strings are stored once and rows only keep dictionary codes.
+ */
+public final class DictionaryStringColumnVector extends AbstractColumnVector {
+    
+    private static final int MAX_DICTIONARY_SIZE = 4096;
+    
+    private final List<String> dictionary = new ArrayList<>();
+    
+    private final Map<String, Integer> dictionaryCodes = new HashMap<>();
+    
+    private int[] codes = new int[0];
+    
+    @Override
+    protected boolean isSupported(final Object value) {
+        return value instanceof String && (dictionary.size() < MAX_DICTIONARY_SIZE || dictionaryCodes.containsKey(value));
+    }
+    
+    @Override
+    protected void ensureCapacity(final int minCapacity) {
+        if (minCapacity > codes.length) {
+            codes = Arrays.copyOf(codes, getNewCapacity(codes.length, minCapacity));
+        }
+    }
+    
+    @Override
+    protected void set(final int rowIndex, final Object value) {
+        Integer code = dictionaryCodes.get(value);
+        if (null == code) {
+            code = dictionary.size();
+            dictionary.add((String) value);
+            dictionaryCodes.put((String) value, code);
+        }
+        codes[rowIndex] = code;
+    }
+    
+    @Override
+    protected Object getNonNull(final int rowIndex) {
+        return dictionary.get(codes[rowIndex]);
+    }
+}
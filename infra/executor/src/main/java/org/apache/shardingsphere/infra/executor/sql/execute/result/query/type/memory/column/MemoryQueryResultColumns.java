@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import lombok.Getter;
+
+/**
+ * Columns of memory query result.
+ *
+ * <p>
+ * Values are stored by column with primitive arrays for long, integer and double values, and dictionary codes for low cardinality strings.
+ * A column vector is replaced with a more generic one if a value of other type is appended.
+ * </p>
+ */
+public final class MemoryQueryResultColumns {
+    
+    private final ColumnVector[] columnVectors;
+    
+    @Getter
+    private int rowCount;
+    
+    public MemoryQueryResultColumns(final int columnCount) {
+        columnVectors = new ColumnVector[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnVectors[i] = new UndeterminedColumnVector();
+        }
+    }
+    
+    /**
+     * Append row.
+     *
+     * @param values values of row
+     */
+    public void appendRow(final Object[] values) {
+        for (int i = 0; i < columnVectors.length; i++) {
+            if (!columnVectors[i].append(values[i])) {
+                columnVectors[i] = promote(columnVectors[i], values[i]);
+            }
+        }
+        rowCount++;
+    }
+    
+    private ColumnVector promote(final ColumnVector columnVector, final Object value) {
+        ColumnVector result = columnVector instanceof UndeterminedColumnVector ? createColumnVector(value) : new ObjectColumnVector();
+        for (int i = 0; i < columnVector.size(); i++) {
+            result.append(columnVector.get(i));
+        }
+        result.append(value);
+        return result;
+    }
+    
+    private ColumnVector createColumnVector(final Object value) {
+        if (value instanceof Long) {
+            return new LongColumnVector();
+        }
+        if (value instanceof Integer) {
+            return new IntegerColumnVector();
+        }
+        if (value instanceof Double) {
+            return new DoubleColumnVector();
+        }
+        if (value instanceof String) {
+            return new DictionaryStringColumnVector();
+        }
+        return new ObjectColumnVector();
+    }
+    
+    /**
+     * Get value.
+     *
+     * @param rowIndex row index, start from 0
+     * @param columnIndex column index, start from 1
+     * @return value
+     */
+    public Object getValue(final int rowIndex, final int columnIndex) {
+        return columnVectors[columnIndex - 1].get(rowIndex);
+    }
+    
+    /**
+     * Get column count.
+     *
+     * @return column count
+     */
+    public int getColumnCount() {
+        return columnVectors.length;
+    }
+}
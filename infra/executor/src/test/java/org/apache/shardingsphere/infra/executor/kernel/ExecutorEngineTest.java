@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionTimeoutException;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -26,13 +28,19 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 class ExecutorEngineTest {
@@ -88,4 +96,48 @@ class ExecutorEngineTest {
         latch.await();
         assertThat(actual.size(), is(4));
     }
+    
+    @Test
+    void assertExecuteInCompletionOrder() throws SQLException {
+        CountDownLatch slowGroupLatch = new CountDownLatch(1);
+        List<Boolean> trunkThreads = new CopyOnWriteArrayList<>();
+        Collection<ExecutionGroup<String>> groups = Arrays.asList(new ExecutionGroup<>(Collections.singletonList("slow")), new ExecutionGroup<>(Collections.singletonList("fast")));
+        try (
+                CompletionOrderedGroupResults<String, String> actual = executorEngine.executeInCompletionOrder(
+                        new ExecutionGroupContext<>(groups, mock(ExecutionGroupReportContext.class)), (inputs, isTrunkThread, processId) -> {
+                            trunkThreads.add(isTrunkThread);
+                            if (inputs.contains("slow")) {
+                                awaitLatch(slowGroupLatch);
+                            }
+                            return inputs;
+                        }, 0L)) {
+            assertThat(actual.next(), is(Collections.singletonList("fast")));
+            assertThat(actual.getUnfinishedInputs(), is(Collections.singletonList("slow")));
+            slowGroupLatch.countDown();
+            assertThat(actual.next(), is(Collections.singletonList("slow")));
+            assertFalse(actual.hasNext());
+        }
+        assertThat(trunkThreads, is(Arrays.asList(false, false)));
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithTimeout() {
+        CountDownLatch blockedLatch = new CountDownLatch(1);
+        Collection<ExecutionGroup<String>> groups = Collections.singletonList(new ExecutionGroup<>(Collections.singletonList("foo")));
+        CompletionOrderedGroupResults<String, String> actual = executorEngine.executeInCompletionOrder(
+                new ExecutionGroupContext<>(groups, mock(ExecutionGroupReportContext.class)), (inputs, isTrunkThread, processId) -> {
+                    awaitLatch(blockedLatch);
+                    return inputs;
+                }, 10L);
+        assertThrows(SQLExecutionTimeoutException.class, actual::next);
+        blockedLatch.countDown();
+        actual.close();
+        assertFalse(actual.hasNext());
+        assertTrue(actual.getUnfinishedInputs().isEmpty());
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void awaitLatch(final CountDownLatch latch) {
+        latch.await();
+    }
 }
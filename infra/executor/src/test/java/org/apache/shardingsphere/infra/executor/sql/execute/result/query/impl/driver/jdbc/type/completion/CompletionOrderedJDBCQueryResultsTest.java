@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.completion;
+
+import org.apache.shardingsphere.infra.executor.kernel.CompletionOrderedGroupResults;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompletionOrderedJDBCQueryResultsTest {
+    
+    @Mock
+    private CompletionOrderedGroupResults<JDBCExecutionUnit, ExecuteResult> groupResults;
+    
+    @Test
+    void assertNextInCompletionOrder() throws SQLException {
+        QueryResult fastQueryResult = mock(QueryResult.class);
+        QueryResult slowQueryResult = mock(QueryResult.class);
+        when(groupResults.hasNext()).thenReturn(true, true, false);
+        when(groupResults.next()).thenReturn(Collections.singletonList(fastQueryResult), Collections.singletonList(slowQueryResult));
+        when(fastQueryResult.next()).thenReturn(true);
+        when(slowQueryResult.next()).thenReturn(true);
+        List<QueryResult> actual = new CompletionOrderedJDBCQueryResults(groupResults, 2, "foo_process_id").getQueryResults();
+        assertThat(actual.size(), is(2));
+        assertTrue(actual.get(0).next());
+        verify(fastQueryResult).next();
+        verify(slowQueryResult, never()).next();
+        assertTrue(actual.get(1).next());
+        verify(slowQueryResult).next();
+    }
+    
+    @Test
+    void assertNextWithLessQueryResultsReturned() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(queryResult.getMetaData()).thenReturn(metaData);
+        when(groupResults.hasNext()).thenReturn(true, false);
+        when(groupResults.next()).thenReturn(Collections.singletonList(queryResult));
+        List<QueryResult> actual = new CompletionOrderedJDBCQueryResults(groupResults, 2, "foo_process_id").getQueryResults();
+        assertFalse(actual.get(1).next());
+        assertThat(actual.get(1).getMetaData(), is(metaData));
+    }
+    
+    @Test
+    void assertClose() throws Exception {
+        JDBCExecutionUnit unfinishedExecutionUnit = mock(JDBCExecutionUnit.class);
+        Statement statement = mock(Statement.class);
+        when(unfinishedExecutionUnit.getStorageResource()).thenReturn(statement);
+        when(groupResults.getUnfinishedInputs()).thenReturn(Collections.singletonList(unfinishedExecutionUnit));
+        new CompletionOrderedJDBCQueryResults(groupResults, 2, "foo_process_id").getQueryResults().get(0).close();
+        verify(statement).cancel();
+        verify(groupResults).close();
+    }
+}
@@ -42,8 +42,10 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.Calendar;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -402,6 +404,17 @@ class JDBCMemoryQueryResultTest {
         assertThat(queryResult.getRowCount(), is(0L));
     }
     
+    @Test
+    void assertGetCurrentRow() throws SQLException {
+        JDBCMemoryQueryResult queryResult = new JDBCMemoryQueryResult(mockResultSet(), databaseType);
+        assertNull(queryResult.getCurrentRow());
+        queryResult.next();
+        assertThat(queryResult.getCurrentRow().getValue(), is(Collections.singletonList(1)));
+        assertThat(queryResult.getCurrentRow(), sameInstance(queryResult.getCurrentRow()));
+        queryResult.next();
+        assertNull(queryResult.getCurrentRow());
+    }
+    
     private ResultSet mockResultSet() throws SQLException {
         ResultSet result = mock(ResultSet.class);
         when(result.next()).thenReturn(true).thenReturn(false);
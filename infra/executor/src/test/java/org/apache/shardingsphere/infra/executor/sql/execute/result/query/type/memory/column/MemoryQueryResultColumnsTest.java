@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class MemoryQueryResultColumnsTest {
+    
+    @Test
+    void assertAppendRowWithTypedColumns() {
+        MemoryQueryResultColumns actual = new MemoryQueryResultColumns(5);
+        actual.appendRow(new Object[]{1L, 1, 1.5D, "foo", new BigDecimal("1.1")});
+        actual.appendRow(new Object[]{null, 2, null, new String("foo"), null});
+        assertThat(actual.getRowCount(), is(2));
+        assertThat(actual.getColumnCount(), is(5));
+        assertThat(actual.getValue(0, 1), is(1L));
+        assertThat(actual.getValue(0, 2), is(1));
+        assertThat(actual.getValue(0, 3), is(1.5D));
+        assertThat(actual.getValue(0, 5), is(new BigDecimal("1.1")));
+        assertNull(actual.getValue(1, 1));
+        assertThat(actual.getValue(1, 2), is(2));
+        assertNull(actual.getValue(1, 3));
+        assertThat(actual.getValue(1, 4), sameInstance(actual.getValue(0, 4)));
+        assertNull(actual.getValue(1, 5));
+    }
+    
+    @Test
+    void assertAppendRowWithLeadingNulls() {
+        MemoryQueryResultColumns actual = new MemoryQueryResultColumns(1);
+        actual.appendRow(new Object[]{null});
+        actual.appendRow(new Object[]{null});
+        actual.appendRow(new Object[]{10L});
+        assertNull(actual.getValue(0, 1));
+        assertNull(actual.getValue(1, 1));
+        assertThat(actual.getValue(2, 1), is(10L));
+    }
+    
+    @Test
+    void assertAppendRowWithMixedTypes() {
+        MemoryQueryResultColumns actual = new MemoryQueryResultColumns(1);
+        actual.appendRow(new Object[]{1L});
+        actual.appendRow(new Object[]{null});
+        actual.appendRow(new Object[]{1});
+        actual.appendRow(new Object[]{"bar"});
+        assertThat(actual.getValue(0, 1), instanceOf(Long.class));
+        assertNull(actual.getValue(1, 1));
+        assertThat(actual.getValue(2, 1), instanceOf(Integer.class));
+        assertThat(actual.getValue(3, 1), is("bar"));
+    }
+    
+    @Test
+    void assertAppendRowWithHighCardinalityStrings() {
+        MemoryQueryResultColumns actual = new MemoryQueryResultColumns(1);
+        for (int i = 0; i < 10000; i++) {
+            actual.appendRow(new Object[]{String.valueOf(i)});
+        }
+        for (int i = 0; i < 10000; i++) {
+            assertThat(actual.getValue(i, 1), is(String.valueOf(i)));
+        }
+    }
+}
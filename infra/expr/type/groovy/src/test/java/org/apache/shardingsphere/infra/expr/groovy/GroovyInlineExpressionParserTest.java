@@ -123,6 +123,34 @@ class GroovyInlineExpressionParserTest {
         assertThat(getInlineExpressionParser("${1+2}").evaluateWithArgs(new LinkedHashMap<>()), is("3"));
     }
     
+    @Test
+    void assertEvaluateWithArgsRepeatedly() {
+        InlineExpressionParser parser = getInlineExpressionParser("t_order_${order_id % 2}");
+        assertThat(parser.evaluateWithArgs(Collections.singletonMap("order_id", 1)), is("t_order_1"));
+        assertThat(parser.evaluateWithArgs(Collections.singletonMap("order_id", 2)), is("t_order_0"));
+    }
+    
+    @Test
+    @SneakyThrows({ExecutionException.class, InterruptedException.class})
+    void assertEvaluateWithSharedParserForThreadSafety() {
+        InlineExpressionParser parser = getInlineExpressionParser("ds_${id}");
+        int threadCount = 10;
+        ExecutorService pool = Executors.newFixedThreadPool(threadCount);
+        List<Future<?>> futures = new ArrayList<>(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(pool.submit(() -> {
+                for (int j = 0; j < 5; j++) {
+                    String resultSuffix = Thread.currentThread().getName() + "--" + j;
+                    assertThat(parser.evaluateWithArgs(Collections.singletonMap("id", resultSuffix)), is(String.format("ds_%s", resultSuffix)));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+    }
+    
     @Test
     @SneakyThrows({ExecutionException.class, InterruptedException.class})
     void assertEvaluateForThreadSafety() {
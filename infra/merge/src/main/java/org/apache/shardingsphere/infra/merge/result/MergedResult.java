@@ -25,7 +25,7 @@ import java.util.Calendar;
 /**
  * Merged result after merge engine.
  */
-public interface MergedResult {
+public interface MergedResult extends AutoCloseable {
     
     /**
      * Iterate next data.
@@ -82,4 +82,13 @@ public interface MergedResult {
      * @throws SQLException SQL exception
      */
     boolean wasNull() throws SQLException;
+    
+    /**
+     * Close merged result and release resources held by it.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Override
+    default void close() throws SQLException {
+    }
 }
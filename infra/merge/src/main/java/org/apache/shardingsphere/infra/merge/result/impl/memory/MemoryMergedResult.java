@@ -61,7 +61,24 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
         }
     }
     
-    protected abstract List<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
+    protected MemoryMergedResult(final Iterator<MemoryQueryResultRow> memoryResultSetRows) {
+        this.memoryResultSetRows = memoryResultSetRows;
+    }
+    
+    /**
+     * Initialize memory query result rows, it is not called if memory merged result is created with rows iterator.
+     *
+     * @param rule rule
+     * @param schema schema
+     * @param sqlStatementContext SQL statement context
+     * @param queryResults query results
+     * @return memory query result rows
+     * @throws SQLException SQL exception
+     */
+    protected List<MemoryQueryResultRow> init(final T rule, final ShardingSphereSchema schema, final SQLStatementContext sqlStatementContext,
+                                              final List<QueryResult> queryResults) throws SQLException {
+        throw new UnsupportedOperationException(String.format("`%s` is created with rows iterator", getClass().getName()));
+    }
     
     @Override
     public final boolean next() {
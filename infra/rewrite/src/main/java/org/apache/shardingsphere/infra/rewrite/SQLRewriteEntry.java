@@ -22,12 +22,14 @@ import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.rewrite.cache.SQLRewriteResultCache;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorator;
 import org.apache.shardingsphere.infra.rewrite.engine.GenericSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteStageContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
@@ -35,6 +37,7 @@ import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 
 /**
  * SQL rewrite entry.
@@ -66,6 +69,28 @@ public final class SQLRewriteEntry {
      * @return route unit and SQL rewrite result map
      */
     public SQLRewriteResult rewrite(final QueryContext queryContext, final RouteContext routeContext) {
+        Optional<SQLRewriteResultCache> rewriteResultCache = findSQLRewriteResultCache(queryContext, routeContext);
+        if (rewriteResultCache.isPresent()) {
+            Optional<SQLRewriteResult> cachedResult = rewriteResultCache.get().find(queryContext, routeContext);
+            if (cachedResult.isPresent()) {
+                return cachedResult.get();
+            }
+        }
+        SQLRewriteResult result = rewrite0(queryContext, routeContext);
+        rewriteResultCache.ifPresent(optional -> optional.cache(queryContext, routeContext, result));
+        return result;
+    }
+    
+    private Optional<SQLRewriteResultCache> findSQLRewriteResultCache(final QueryContext queryContext, final RouteContext routeContext) {
+        for (RouteStageContext each : routeContext.getRouteStageContexts().values()) {
+            if (each instanceof SQLRewriteResultCache) {
+                return queryContext.getHintValueContext().isSkipSQLRewrite() ? Optional.empty() : Optional.of((SQLRewriteResultCache) each);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private SQLRewriteResult rewrite0(final QueryContext queryContext, final RouteContext routeContext) {
         SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(queryContext, routeContext);
         SQLTranslatorRule rule = globalRuleMetaData.getSingleRule(SQLTranslatorRule.class);
         return routeContext.getRouteUnits().isEmpty()
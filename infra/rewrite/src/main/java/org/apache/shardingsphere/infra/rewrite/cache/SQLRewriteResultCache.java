@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.cache;
+
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteStageContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+
+import java.util.Optional;
+
+/**
+ * SQL rewrite result cache.
+ * 
+ * <p>Routers could put it into route stage contexts of cached route, so SQL rewrite result of the same route could be reused.</p>
+ */
+public interface SQLRewriteResultCache extends RouteStageContext {
+    
+    /**
+     * Find cached SQL rewrite result.
+     *
+     * @param queryContext query context
+     * @param routeContext route context
+     * @return found SQL rewrite result
+     */
+    Optional<SQLRewriteResult> find(QueryContext queryContext, RouteContext routeContext);
+    
+    /**
+     * Cache SQL rewrite result.
+     *
+     * @param queryContext query context
+     * @param routeContext route context
+     * @param rewriteResult SQL rewrite result
+     */
+    void cache(QueryContext queryContext, RouteContext routeContext, SQLRewriteResult rewriteResult);
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.route.batch;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPI;
+
+import java.util.Optional;
+
+/**
+ * Batch route key provider.
+ * 
+ * @param <T> type of rule
+ */
+@SingletonSPI
+public interface BatchRouteKeyProvider<T extends ShardingSphereRule> extends OrderedSPI<T> {
+    
+    /**
+     * Find batch route key generator.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param rule rule
+     * @param props configuration properties
+     * @return found batch route key generator, empty if route of the statement by rule could not be decided by batch route key
+     */
+    Optional<BatchRouteKeyGenerator> findBatchRouteKeyGenerator(SQLStatementContext sqlStatementContext, T rule, ConfigurationProperties props);
+}
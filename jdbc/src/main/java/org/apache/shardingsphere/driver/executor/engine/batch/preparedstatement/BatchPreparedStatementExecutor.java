@@ -36,9 +36,9 @@ import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatemen
 
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -59,6 +59,8 @@ public final class BatchPreparedStatementExecutor {
     @Getter
     private final Collection<BatchExecutionUnit> batchExecutionUnits;
     
+    private final Map<BatchExecutionUnit, BatchExecutionUnit> batchExecutionUnitIndexes;
+    
     private int batchCount;
     
     public BatchPreparedStatementExecutor(final ShardingSphereDatabase database, final JDBCExecutor jdbcExecutor, final String processId) {
@@ -66,6 +68,7 @@ public final class BatchPreparedStatementExecutor {
         this.jdbcExecutor = jdbcExecutor;
         executionGroupContext = new ExecutionGroupContext<>(new LinkedList<>(), new ExecutionGroupReportContext(processId, database.getName()));
         batchExecutionUnits = new LinkedList<>();
+        batchExecutionUnitIndexes = new HashMap<>();
     }
     
     /**
@@ -83,31 +86,18 @@ public final class BatchPreparedStatementExecutor {
      * @param executionUnits execution units
      */
     public void addBatchForExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        Collection<BatchExecutionUnit> batchExecutionUnits = createBatchExecutionUnits(executionUnits);
-        handleOldBatchExecutionUnits(batchExecutionUnits);
-        handleNewBatchExecutionUnits(batchExecutionUnits);
-        batchCount++;
-    }
-    
-    private Collection<BatchExecutionUnit> createBatchExecutionUnits(final Collection<ExecutionUnit> executionUnits) {
-        List<BatchExecutionUnit> result = new ArrayList<>(executionUnits.size());
         for (ExecutionUnit each : executionUnits) {
             BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(each);
-            result.add(batchExecutionUnit);
-        }
-        return result;
-    }
-    
-    private void handleOldBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.forEach(this::reviseBatchExecutionUnits);
-    }
-    
-    private void reviseBatchExecutionUnits(final BatchExecutionUnit batchExecutionUnit) {
-        for (BatchExecutionUnit each : batchExecutionUnits) {
-            if (each.equals(batchExecutionUnit)) {
-                reviseBatchExecutionUnit(each, batchExecutionUnit);
+            BatchExecutionUnit existedBatchExecutionUnit = batchExecutionUnitIndexes.get(batchExecutionUnit);
+            if (null == existedBatchExecutionUnit) {
+                batchExecutionUnit.mapAddBatchCount(batchCount);
+                batchExecutionUnits.add(batchExecutionUnit);
+                batchExecutionUnitIndexes.put(batchExecutionUnit, batchExecutionUnit);
+            } else {
+                reviseBatchExecutionUnit(existedBatchExecutionUnit, batchExecutionUnit);
             }
         }
+        batchCount++;
     }
     
     private void reviseBatchExecutionUnit(final BatchExecutionUnit oldBatchExecutionUnit, final BatchExecutionUnit newBatchExecutionUnit) {
@@ -115,14 +105,6 @@ public final class BatchPreparedStatementExecutor {
         oldBatchExecutionUnit.mapAddBatchCount(batchCount);
     }
     
-    private void handleNewBatchExecutionUnits(final Collection<BatchExecutionUnit> newExecutionUnits) {
-        newExecutionUnits.removeAll(batchExecutionUnits);
-        for (BatchExecutionUnit each : newExecutionUnits) {
-            each.mapAddBatchCount(batchCount);
-        }
-        batchExecutionUnits.addAll(newExecutionUnits);
-    }
-    
     /**
      * Execute batch.
      *
@@ -254,5 +236,6 @@ public final class BatchPreparedStatementExecutor {
         executionGroupContext.getInputGroups().clear();
         batchCount = 0;
         batchExecutionUnits.clear();
+        batchExecutionUnitIndexes.clear();
     }
 }
@@ -24,7 +24,7 @@ import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConne
 import org.apache.shardingsphere.driver.jdbc.core.statement.StatementManager;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
-import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.connection.kernel.BatchKernelProcessor;
 import org.apache.shardingsphere.infra.executor.audit.SQLAuditEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
@@ -61,6 +61,8 @@ public final class DriverExecuteBatchExecutor {
     
     private final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine;
     
+    private final BatchKernelProcessor batchKernelProcessor = new BatchKernelProcessor();
+    
     private ExecutionContext executionContext;
     
     public DriverExecuteBatchExecutor(final ShardingSphereConnection connection, final ShardingSphereMetaData metaData, final StatementOption statementOption, final StatementManager statementManager,
@@ -93,7 +95,7 @@ public final class DriverExecuteBatchExecutor {
     private ExecutionContext createExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database) {
         RuleMetaData globalRuleMetaData = metaData.getGlobalRuleMetaData();
         SQLAuditEngine.audit(queryContext, globalRuleMetaData, database);
-        return new KernelProcessor().generateExecutionContext(queryContext, globalRuleMetaData, metaData.getProps());
+        return batchKernelProcessor.generateExecutionContext(queryContext, globalRuleMetaData, metaData.getProps());
     }
     
     /**
@@ -160,5 +162,6 @@ public final class DriverExecuteBatchExecutor {
      */
     public void clear() {
         batchPreparedStatementExecutor.clear();
+        batchKernelProcessor.clear();
     }
 }
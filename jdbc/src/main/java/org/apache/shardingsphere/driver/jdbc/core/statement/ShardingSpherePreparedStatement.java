@@ -143,7 +143,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         this.sql = SQLHintUtils.removeHint(sql);
         hintValueContext = SQLHintUtils.extractHint(sql);
         SQLStatement sqlStatement = parseSQL(connection);
-        sqlStatementContext = new SQLBindEngine(metaData, connection.getCurrentDatabaseName(), hintValueContext).bind(sqlStatement, Collections.emptyList());
+        sqlStatementContext = new SQLBindEngine(metaData, connection.getCurrentDatabaseName(), hintValueContext)
+                .bind(connection.getBoundSQLStatementCache(), this.sql, sqlStatement, Collections.emptyList());
         String usedDatabaseName = sqlStatementContext instanceof TableAvailable
                 ? ((TableAvailable) sqlStatementContext).getTablesContext().getDatabaseName().orElse(connection.getCurrentDatabaseName())
                 : connection.getCurrentDatabaseName();
@@ -400,6 +401,12 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     @Override
     protected void closeExecutor() throws SQLException {
-        driverExecutorFacade.close();
+        try {
+            if (null != currentResultSet) {
+                currentResultSet.close();
+            }
+        } finally {
+            driverExecutorFacade.close();
+        }
     }
 }
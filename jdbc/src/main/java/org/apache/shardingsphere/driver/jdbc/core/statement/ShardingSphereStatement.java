@@ -260,7 +260,8 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
         HintValueContext hintValueContext = SQLHintUtils.extractHint(originSQL);
         String sql = SQLHintUtils.removeHint(originSQL);
         SQLStatement sqlStatement = sqlParserRule.getSQLParserEngine(metaData.getDatabase(usedDatabaseName).getProtocolType()).parse(sql, false);
-        SQLStatementContext sqlStatementContext = new SQLBindEngine(metaData, connection.getCurrentDatabaseName(), hintValueContext).bind(sqlStatement, Collections.emptyList());
+        SQLStatementContext sqlStatementContext = new SQLBindEngine(metaData, connection.getCurrentDatabaseName(), hintValueContext)
+                .bind(connection.getBoundSQLStatementCache(), sql, sqlStatement, Collections.emptyList());
         return new QueryContext(sqlStatementContext, sql, Collections.emptyList(), hintValueContext, connection.getDatabaseConnectionManager().getConnectionContext(), metaData);
     }
     
@@ -380,6 +381,12 @@ public final class ShardingSphereStatement extends AbstractStatementAdapter {
     
     @Override
     protected void closeExecutor() throws SQLException {
-        driverExecutorFacade.close();
+        try {
+            if (null != currentResultSet) {
+                currentResultSet.close();
+            }
+        } finally {
+            driverExecutorFacade.close();
+        }
     }
 }
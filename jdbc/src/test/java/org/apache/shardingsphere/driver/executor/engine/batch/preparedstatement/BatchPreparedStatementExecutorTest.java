@@ -49,9 +49,11 @@ import org.mockito.quality.Strictness;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.UUID;
@@ -157,6 +159,21 @@ class BatchPreparedStatementExecutorTest {
         assertThrows(SQLException.class, () -> executor.executeBatch(sqlStatementContext));
     }
     
+    @Test
+    void assertAddBatchForExecutionUnits() {
+        executor.addBatchForExecutionUnits(Arrays.asList(createExecutionUnit("ds_0", 1), createExecutionUnit("ds_1", 2)));
+        executor.addBatchForExecutionUnits(Collections.singleton(createExecutionUnit("ds_0", 3)));
+        List<BatchExecutionUnit> actual = new ArrayList<>(executor.getBatchExecutionUnits());
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getParameterSets(), is(Arrays.asList(Collections.singletonList(1), Collections.singletonList(3))));
+        assertThat(actual.get(0).getJdbcAndActualAddBatchCallTimesMap().keySet(), is(new LinkedHashSet<>(Arrays.asList(0, 1))));
+        assertThat(actual.get(1).getParameterSets(), is(Collections.singletonList(Collections.singletonList(2))));
+    }
+    
+    private ExecutionUnit createExecutionUnit(final String dataSourceName, final Object param) {
+        return new ExecutionUnit(dataSourceName, new SQLUnit(SQL, new ArrayList<>(Collections.singletonList(param))));
+    }
+    
     private PreparedStatement getPreparedStatement() throws SQLException {
         PreparedStatement result = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
         when(result.getConnection().getMetaData().getURL()).thenReturn("jdbc:h2:mem:primary_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL");
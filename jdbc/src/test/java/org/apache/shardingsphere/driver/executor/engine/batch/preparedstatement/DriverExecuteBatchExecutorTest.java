@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.engine.batch.preparedstatement;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
+import org.apache.shardingsphere.driver.jdbc.core.statement.StatementManager;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.connection.kernel.BatchKernelProcessor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DriverExecuteBatchExecutorTest {
+    
+    @Test
+    void assertAddBatch() {
+        try (MockedConstruction<BatchKernelProcessor> batchKernelProcessors = mockConstruction(BatchKernelProcessor.class, (mock, context) -> mockGenerateExecutionContext(mock))) {
+            DriverExecuteBatchExecutor executor = createExecutor();
+            ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+            executor.addBatch(mockQueryContext(1, "foo"), database);
+            executor.addBatch(mockQueryContext(2, "bar"), database);
+            executor.addBatch(mockQueryContext(3, "baz"), database);
+            verify(batchKernelProcessors.constructed().get(0), times(3)).generateExecutionContext(any(), any(), any());
+            Map<String, List<List<Object>>> expected = new HashMap<>(2, 1F);
+            expected.put("INSERT INTO t_order_1", Arrays.asList(Arrays.asList(1, "foo"), Arrays.asList(3, "baz")));
+            expected.put("INSERT INTO t_order_0", Collections.singletonList(Arrays.asList(2, "bar")));
+            assertParameterSets(executor, expected);
+        }
+    }
+    
+    @Test
+    void assertClear() {
+        try (MockedConstruction<BatchKernelProcessor> batchKernelProcessors = mockConstruction(BatchKernelProcessor.class, (mock, context) -> mockGenerateExecutionContext(mock))) {
+            DriverExecuteBatchExecutor executor = createExecutor();
+            executor.addBatch(mockQueryContext(1, "foo"), mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS));
+            executor.clear();
+            verify(batchKernelProcessors.constructed().get(0)).clear();
+            assertThat(getBatchExecutionUnits(executor).size(), is(0));
+        }
+    }
+    
+    private void mockGenerateExecutionContext(final BatchKernelProcessor batchKernelProcessor) {
+        when(batchKernelProcessor.generateExecutionContext(any(), any(), any())).thenAnswer(invocation -> {
+            QueryContext queryContext = invocation.getArgument(0);
+            int suffix = (Integer) queryContext.getParameters().get(0) % 2;
+            SQLUnit sqlUnit = new SQLUnit("INSERT INTO t_order_" + suffix, new ArrayList<>(queryContext.getParameters()));
+            return new ExecutionContext(queryContext, Collections.singleton(new ExecutionUnit("ds_" + suffix, sqlUnit)), new RouteContext());
+        });
+    }
+    
+    private DriverExecuteBatchExecutor createExecutor() {
+        ShardingSphereConnection connection = mock(ShardingSphereConnection.class, RETURNS_DEEP_STUBS);
+        when(connection.getContextManager().getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        when(metaData.getGlobalRuleMetaData()).thenReturn(new RuleMetaData(Collections.emptyList()));
+        when(metaData.getProps()).thenReturn(new ConfigurationProperties(new Properties()));
+        return new DriverExecuteBatchExecutor(connection, metaData, mock(StatementOption.class), mock(StatementManager.class), mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS));
+    }
+    
+    private QueryContext mockQueryContext(final Object... params) {
+        QueryContext result = mock(QueryContext.class, RETURNS_DEEP_STUBS);
+        when(result.getParameters()).thenReturn(Arrays.asList(params));
+        return result;
+    }
+    
+    private void assertParameterSets(final DriverExecuteBatchExecutor executor, final Map<String, List<List<Object>>> expected) {
+        Collection<BatchExecutionUnit> actual = getBatchExecutionUnits(executor);
+        assertThat(actual.size(), is(expected.size()));
+        for (BatchExecutionUnit each : actual) {
+            assertThat(each.getParameterSets(), is(expected.get(each.getExecutionUnit().getSqlUnit().getSql())));
+        }
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private Collection<BatchExecutionUnit> getBatchExecutionUnits(final DriverExecuteBatchExecutor executor) {
+        BatchPreparedStatementExecutor batchExecutor = (BatchPreparedStatementExecutor) Plugins.getMemberAccessor()
+                .get(DriverExecuteBatchExecutor.class.getDeclaredField("batchPreparedStatementExecutor"), executor);
+        return batchExecutor.getBatchExecutionUnits();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Record size estimator.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RecordSizeEstimator {
+    
+    private static final long RECORD_OVERHEAD_BYTES = 64L;
+    
+    private static final long COLUMN_OVERHEAD_BYTES = 32L;
+    
+    private static final long OBJECT_VALUE_BYTES = 24L;
+    
+    /**
+     * Estimate heap bytes of records.
+     *
+     * @param records records
+     * @return estimated bytes
+     */
+    public static long estimate(final List<Record> records) {
+        long result = 0L;
+        for (Record each : records) {
+            result += estimate(each);
+        }
+        return result;
+    }
+    
+    private static long estimate(final Record record) {
+        if (!(record instanceof DataRecord)) {
+            return RECORD_OVERHEAD_BYTES;
+        }
+        long result = RECORD_OVERHEAD_BYTES;
+        for (Column each : ((DataRecord) record).getColumns()) {
+            result += COLUMN_OVERHEAD_BYTES + estimateValue(each.getValue()) + estimateValue(each.getOldValue());
+        }
+        return result;
+    }
+    
+    private static long estimateValue(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof CharSequence) {
+            return OBJECT_VALUE_BYTES + 2L * ((CharSequence) value).length();
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_VALUE_BYTES + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal) {
+            return OBJECT_VALUE_BYTES + ((BigDecimal) value).unscaledValue().bitLength() / 8 + OBJECT_VALUE_BYTES;
+        }
+        return OBJECT_VALUE_BYTES;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import com.google.common.base.Preconditions;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ring buffer pipeline channel.
+ * <p>It supports one push thread and one fetch thread. Buffered batches are bounded by both slots count and estimated bytes.</p>
+ */
+public final class RingBufferPipelineChannel implements PipelineChannel {
+    
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10L);
+    
+    private final AtomicReferenceArray<List<Record>> slots;
+    
+    private final long[] slotBytes;
+    
+    private final int mask;
+    
+    private final long maxBufferedBytes;
+    
+    private final PipelineChannelAckCallback ackCallback;
+    
+    private final AtomicLong head = new AtomicLong();
+    
+    private final AtomicLong tail = new AtomicLong();
+    
+    private final AtomicLong bufferedBytes = new AtomicLong();
+    
+    private final AtomicLong producerBlockedCount = new AtomicLong();
+    
+    private final AtomicLong producerBlockedNanos = new AtomicLong();
+    
+    private volatile Thread waitingProducer;
+    
+    private volatile Thread waitingConsumer;
+    
+    public RingBufferPipelineChannel(final int bufferSize, final long maxBufferedBytes, final PipelineChannelAckCallback ackCallback) {
+        Preconditions.checkArgument(bufferSize > 0, "Buffer size must be positive.");
+        Preconditions.checkArgument(maxBufferedBytes > 0L, "Max buffered bytes must be positive.");
+        int capacity = Integer.highestOneBit(bufferSize);
+        capacity = capacity < bufferSize ? capacity << 1 : capacity;
+        slots = new AtomicReferenceArray<>(capacity);
+        slotBytes = new long[capacity];
+        mask = capacity - 1;
+        this.maxBufferedBytes = maxBufferedBytes;
+        this.ackCallback = ackCallback;
+    }
+    
+    @Override
+    public void push(final List<Record> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        long bytes = RecordSizeEstimator.estimate(records);
+        long sequence = tail.get();
+        awaitCapacity(sequence, bytes);
+        int index = (int) sequence & mask;
+        slotBytes[index] = bytes;
+        slots.lazySet(index, records);
+        bufferedBytes.addAndGet(bytes);
+        tail.set(sequence + 1L);
+        Thread consumer = waitingConsumer;
+        if (null != consumer) {
+            LockSupport.unpark(consumer);
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void awaitCapacity(final long sequence, final long bytes) {
+        if (hasCapacity(sequence, bytes)) {
+            return;
+        }
+        producerBlockedCount.incrementAndGet();
+        long startNanos = System.nanoTime();
+        try {
+            while (true) {
+                waitingProducer = Thread.currentThread();
+                if (hasCapacity(sequence, bytes)) {
+                    return;
+                }
+                LockSupport.parkNanos(this, MAX_PARK_NANOS);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        } finally {
+            waitingProducer = null;
+            producerBlockedNanos.addAndGet(System.nanoTime() - startNanos);
+        }
+    }
+    
+    private boolean hasCapacity(final long sequence, final long bytes) {
+        long buffered = sequence - head.get();
+        // An oversize batch is still accepted by an empty buffer, otherwise it could never be pushed.
+        return buffered <= mask && (0L == buffered || bufferedBytes.get() + bytes <= maxBufferedBytes);
+    }
+    
+    @Override
+    public List<Record> fetch(final int batchSize, final long timeoutMillis) {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        List<Record> result = Collections.emptyList();
+        boolean drained = false;
+        int recordsCount = 0;
+        while (recordsCount < batchSize) {
+            List<Record> records = take();
+            if (null == records) {
+                if (awaitNotEmpty(deadlineNanos)) {
+                    continue;
+                }
+                break;
+            }
+            if (result.isEmpty()) {
+                result = records;
+            } else {
+                if (!drained) {
+                    result = new ArrayList<>(result);
+                    drained = true;
+                }
+                result.addAll(records);
+            }
+            recordsCount += records.size();
+        }
+        return result;
+    }
+    
+    private boolean awaitNotEmpty(final long deadlineNanos) {
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        if (remainingNanos <= 0L) {
+            return false;
+        }
+        waitingConsumer = Thread.currentThread();
+        try {
+            if (head.get() == tail.get()) {
+                LockSupport.parkNanos(this, Math.min(remainingNanos, MAX_PARK_NANOS));
+            }
+        } finally {
+            waitingConsumer = null;
+        }
+        return !Thread.currentThread().isInterrupted();
+    }
+    
+    @Override
+    public List<Record> peek() {
+        long sequence = head.get();
+        if (sequence == tail.get()) {
+            return Collections.emptyList();
+        }
+        return slots.get((int) sequence & mask);
+    }
+    
+    @Override
+    public List<Record> poll() {
+        List<Record> result = take();
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    private List<Record> take() {
+        long sequence = head.get();
+        if (sequence == tail.get()) {
+            return null;
+        }
+        int index = (int) sequence & mask;
+        List<Record> result = slots.get(index);
+        long bytes = slotBytes[index];
+        slots.lazySet(index, null);
+        bufferedBytes.addAndGet(-bytes);
+        head.set(sequence + 1L);
+        Thread producer = waitingProducer;
+        if (null != producer) {
+            LockSupport.unpark(producer);
+        }
+        return result;
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    /**
+     * Get estimated bytes of buffered records.
+     *
+     * @return estimated bytes
+     */
+    public long getBufferedBytes() {
+        return bufferedBytes.get();
+    }
+    
+    /**
+     * Get count of push blocked by back-pressure.
+     *
+     * @return blocked count
+     */
+    public long getProducerBlockedCount() {
+        return producerBlockedCount.get();
+    }
+    
+    /**
+     * Get total millis of push blocked by back-pressure.
+     *
+     * @return blocked millis
+     */
+    public long getProducerBlockedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(producerBlockedNanos.get());
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.SingleTableInventoryCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.CRC32SingleTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.RecordSingleTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.SingleTableInventoryCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.SingleTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobCancelingException;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.range.QueryRange;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.apache.shardingsphere.data.pipeline.core.query.JDBCStreamQueryBuilder;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineDataConsistencyCalculateSQLBuilder;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.kernel.category.PipelineSQLException;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.caseinsensitive.CaseInsensitiveQualifiedTable;
+import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Chunked CRC32 match table inventory checker.
+ *
+ * <p>Table is split into ranges of first unique key values, ranges are calculated in parallel and compared in order.
+ * Records of a range are compared only when CRC32 of the range does not match.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+final class ChunkedCRC32MatchTableInventoryChecker implements TableInventoryChecker {
+    
+    private static final int RECORDS_CHUNK_SIZE = 1000;
+    
+    private final TableInventoryCheckParameter param;
+    
+    private final int chunkSize;
+    
+    private final int maxConcurrency;
+    
+    private final TableInventoryChecker wholeTableChecker;
+    
+    private final AtomicBoolean canceling = new AtomicBoolean(false);
+    
+    private final Collection<SingleTableInventoryCalculator> runningCalculators = ConcurrentHashMap.newKeySet();
+    
+    @Override
+    public TableDataConsistencyCheckResult checkSingleTableInventoryData() {
+        if (param.getUniqueKeys().isEmpty()) {
+            return wholeTableChecker.checkSingleTableInventoryData();
+        }
+        List<QueryRange> ranges = splitRanges();
+        ExecutorService executor = Executors.newFixedThreadPool(maxConcurrency, ExecutorThreadFactoryBuilder.build(param.getJobId() + "-chunked-crc32-check-%d"));
+        try {
+            return checkRanges(ranges, executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private List<QueryRange> splitRanges() {
+        Object position = param.getProgressContext().getSourceTableCheckPositions().get(param.getSourceTable().getTableName().toString());
+        PipelineDataSource dataSource = param.getSourceDataSource();
+        String sql = new PipelineDataConsistencyCalculateSQLBuilder(dataSource.getDatabaseType()).buildQueryRangeUniqueKeyValuesSQL(
+                param.getSourceTable().getSchemaName().toString(), param.getSourceTable().getTableName().toString(), param.getUniqueKeys().get(0).getName(), new QueryRange(position, false, null));
+        List<QueryRange> result = new LinkedList<>();
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = JDBCStreamQueryBuilder.build(dataSource.getDatabaseType(), connection, sql, chunkSize)) {
+            if (null != position) {
+                preparedStatement.setObject(1, position);
+            }
+            Object lower = position;
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                int count = 0;
+                while (resultSet.next()) {
+                    ShardingSpherePreconditions.checkState(!isCanceling(), () -> new PipelineJobCancelingException("Split ranges canceled, table name: %s", param.getSourceTable()));
+                    if (++count < chunkSize) {
+                        continue;
+                    }
+                    Object upper = resultSet.getObject(1);
+                    if (!Objects.equals(lower, upper)) {
+                        result.add(new QueryRange(lower, false, upper));
+                        lower = upper;
+                    }
+                    count = 0;
+                }
+            }
+            result.add(new QueryRange(lower, false, null));
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSourceTable().getSchemaName().toString(), param.getSourceTable().getTableName().toString(), ex);
+        }
+        return result;
+    }
+    
+    private TableDataConsistencyCheckResult checkRanges(final List<QueryRange> ranges, final ExecutorService executor) {
+        Iterator<QueryRange> rangesIterator = ranges.iterator();
+        Deque<Future<RangeCheckResult>> futures = new LinkedList<>();
+        try {
+            while (true) {
+                while (futures.size() < maxConcurrency && rangesIterator.hasNext()) {
+                    QueryRange range = rangesIterator.next();
+                    futures.add(executor.submit(() -> checkRange(range)));
+                }
+                if (futures.isEmpty()) {
+                    return new TableDataConsistencyCheckResult(true);
+                }
+                RangeCheckResult rangeCheckResult = waitFuture(futures.poll());
+                ShardingSpherePreconditions.checkState(!isCanceling(), () -> new PipelineJobCancelingException("Check ranges canceled, table name: %s", param.getSourceTable()));
+                if (!rangeCheckResult.isMatched() && !checkRangeRecords(rangeCheckResult.getRange())) {
+                    log.info("content matched false, jobId={}, sourceTable={}, targetTable={}, uniqueKeys={}, range lower={}, range upper={}",
+                            param.getJobId(), param.getSourceTable(), param.getTargetTable(), param.getUniqueKeys(), rangeCheckResult.getRange().getLower(), rangeCheckResult.getRange().getUpper());
+                    return new TableDataConsistencyCheckResult(false);
+                }
+                updateProgress(rangeCheckResult);
+            }
+        } finally {
+            futures.forEach(each -> each.cancel(true));
+        }
+    }
+    
+    private RangeCheckResult checkRange(final QueryRange range) {
+        if (null != param.getReadRateLimitAlgorithm()) {
+            param.getReadRateLimitAlgorithm().intercept(PipelineSQLOperationType.SELECT, 1);
+        }
+        SingleTableInventoryCalculatedResult sourceCalculatedResult = calculateCRC32(param.getSourceDataSource(), param.getSourceTable(), range);
+        SingleTableInventoryCalculatedResult targetCalculatedResult = calculateCRC32(param.getTargetDataSource(), param.getTargetTable(), range);
+        return new RangeCheckResult(range, Objects.equals(sourceCalculatedResult, targetCalculatedResult), sourceCalculatedResult.getRecordsCount());
+    }
+    
+    private SingleTableInventoryCalculatedResult calculateCRC32(final PipelineDataSource dataSource, final CaseInsensitiveQualifiedTable table, final QueryRange range) {
+        SingleTableInventoryCalculateParameter calculateParam = createCalculateParameter(dataSource, table, range);
+        SingleTableInventoryCalculator calculator = new CRC32SingleTableInventoryCalculator(true);
+        runningCalculators.add(calculator);
+        try {
+            return calculator.calculate(calculateParam).iterator().next();
+        } finally {
+            runningCalculators.remove(calculator);
+        }
+    }
+    
+    private boolean checkRangeRecords(final QueryRange range) {
+        SingleTableInventoryCalculateParameter sourceParam = createCalculateParameter(param.getSourceDataSource(), param.getSourceTable(), range);
+        SingleTableInventoryCalculateParameter targetParam = createCalculateParameter(param.getTargetDataSource(), param.getTargetTable(), range);
+        SingleTableInventoryCalculator sourceCalculator = new RecordSingleTableInventoryCalculator(RECORDS_CHUNK_SIZE);
+        SingleTableInventoryCalculator targetCalculator = new RecordSingleTableInventoryCalculator(RECORDS_CHUNK_SIZE);
+        runningCalculators.add(sourceCalculator);
+        runningCalculators.add(targetCalculator);
+        try {
+            Iterator<SingleTableInventoryCalculatedResult> sourceCalculatedResults = sourceCalculator.calculate(sourceParam).iterator();
+            Iterator<SingleTableInventoryCalculatedResult> targetCalculatedResults = targetCalculator.calculate(targetParam).iterator();
+            while (sourceCalculatedResults.hasNext() && targetCalculatedResults.hasNext()) {
+                if (!Objects.equals(sourceCalculatedResults.next(), targetCalculatedResults.next())) {
+                    return false;
+                }
+            }
+            return !sourceCalculatedResults.hasNext() && !targetCalculatedResults.hasNext();
+        } finally {
+            runningCalculators.remove(sourceCalculator);
+            runningCalculators.remove(targetCalculator);
+            QuietlyCloser.close(sourceParam.getCalculationContext());
+            QuietlyCloser.close(targetParam.getCalculationContext());
+        }
+    }
+    
+    private SingleTableInventoryCalculateParameter createCalculateParameter(final PipelineDataSource dataSource, final CaseInsensitiveQualifiedTable table, final QueryRange range) {
+        SingleTableInventoryCalculateParameter result = new SingleTableInventoryCalculateParameter(dataSource, table, param.getColumnNames(), param.getUniqueKeys(), null);
+        result.setQueryRange(range);
+        return result;
+    }
+    
+    private void updateProgress(final RangeCheckResult rangeCheckResult) {
+        Object upper = rangeCheckResult.getRange().getUpper();
+        if (null != upper) {
+            param.getProgressContext().getSourceTableCheckPositions().put(param.getSourceTable().getTableName().toString(), upper);
+            param.getProgressContext().getTargetTableCheckPositions().put(param.getTargetTable().getTableName().toString(), upper);
+        }
+        param.getProgressContext().onProgressUpdated(new PipelineJobUpdateProgress(rangeCheckResult.getRecordsCount()));
+    }
+    
+    private <T> T waitFuture(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLWrapperException(new SQLException(ex));
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof PipelineSQLException) {
+                throw (PipelineSQLException) ex.getCause();
+            }
+            throw new SQLWrapperException(new SQLException(ex));
+        }
+    }
+    
+    @Override
+    public void cancel() {
+        canceling.set(true);
+        runningCalculators.forEach(SingleTableInventoryCalculator::cancel);
+        wholeTableChecker.cancel();
+    }
+    
+    @Override
+    public boolean isCanceling() {
+        return canceling.get();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class RangeCheckResult {
+        
+        private final QueryRange range;
+        
+        private final boolean matched;
+        
+        private final int recordsCount;
+    }
+}
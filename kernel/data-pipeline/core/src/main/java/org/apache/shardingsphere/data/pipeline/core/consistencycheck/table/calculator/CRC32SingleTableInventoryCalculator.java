@@ -22,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.SingleTableInventoryCalculatedResult;
 import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.range.QueryRange;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineDataConsistencyCalculateSQLBuilder;
 import org.apache.shardingsphere.infra.algorithm.core.exception.UnsupportedAlgorithmOnDatabaseTypeException;
 
@@ -41,6 +42,16 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class CRC32SingleTableInventoryCalculator extends AbstractSingleTableInventoryCalculator {
     
+    private final boolean rangeQueryEnabled;
+    
+    public CRC32SingleTableInventoryCalculator() {
+        this(false);
+    }
+    
+    public CRC32SingleTableInventoryCalculator(final boolean rangeQueryEnabled) {
+        this.rangeQueryEnabled = rangeQueryEnabled;
+    }
+    
     @Override
     public Iterable<SingleTableInventoryCalculatedResult> calculate(final SingleTableInventoryCalculateParameter param) {
         PipelineDataConsistencyCalculateSQLBuilder pipelineSQLBuilder = new PipelineDataConsistencyCalculateSQLBuilder(param.getDatabaseType());
@@ -49,22 +60,39 @@ public final class CRC32SingleTableInventoryCalculator extends AbstractSingleTab
     }
     
     private CalculatedItem calculateCRC32(final PipelineDataConsistencyCalculateSQLBuilder pipelineSQLBuilder, final SingleTableInventoryCalculateParameter param, final String columnName) {
-        String sql = pipelineSQLBuilder.buildCRC32SQL(param.getSchemaName(), param.getLogicTableName(), columnName)
+        QueryRange queryRange = rangeQueryEnabled ? param.getQueryRange() : null;
+        String sql = (null == queryRange
+                ? pipelineSQLBuilder.buildCRC32SQL(param.getSchemaName(), param.getLogicTableName(), columnName)
+                : pipelineSQLBuilder.buildCRC32SQL(param.getSchemaName(), param.getLogicTableName(), columnName, param.getFirstUniqueKey().getName(), queryRange))
                 .orElseThrow(() -> new UnsupportedAlgorithmOnDatabaseTypeException("DataConsistencyCalculate", "CRC32", param.getDatabaseType()));
         try (
                 Connection connection = param.getDataSource().getConnection();
-                PreparedStatement preparedStatement = connection.prepareStatement(sql);
-                ResultSet resultSet = preparedStatement.executeQuery()) {
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
             setCurrentStatement(preparedStatement);
-            resultSet.next();
-            long crc32 = resultSet.getLong(1);
-            int recordsCount = resultSet.getInt(2);
-            return new CalculatedItem(crc32, recordsCount);
+            if (null != queryRange) {
+                setQueryRangeParameters(preparedStatement, queryRange);
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                long crc32 = resultSet.getLong(1);
+                int recordsCount = resultSet.getInt(2);
+                return new CalculatedItem(crc32, recordsCount);
+            }
         } catch (final SQLException ex) {
             throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
         }
     }
     
+    private void setQueryRangeParameters(final PreparedStatement preparedStatement, final QueryRange queryRange) throws SQLException {
+        int parameterIndex = 1;
+        if (null != queryRange.getLower()) {
+            preparedStatement.setObject(parameterIndex++, queryRange.getLower());
+        }
+        if (null != queryRange.getUpper()) {
+            preparedStatement.setObject(parameterIndex, queryRange.getUpper());
+        }
+    }
+    
     @RequiredArgsConstructor
     @Getter
     private static final class CalculatedItem {
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.exception.job.PipelineImporterJobWriteException;
+import org.apache.shardingsphere.data.pipeline.core.execute.AbstractPipelineLifecycleRunnable;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressListener;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Partitioned channel consumer importer.
+ * <p>Data records of one batch are partitioned by unique key hash and written concurrently, so the order of records with the same unique key is kept.
+ * The batch is acked after all partitions are written.</p>
+ */
+public final class PartitionedChannelConsumerImporter extends AbstractPipelineLifecycleRunnable implements Importer {
+    
+    private final PipelineChannel channel;
+    
+    private final int batchSize;
+    
+    private final long timeoutMillis;
+    
+    private final PipelineSink sink;
+    
+    private final PipelineJobProgressListener jobProgressListener;
+    
+    private final int partitionCount;
+    
+    private final ExecutorService executorService;
+    
+    public PartitionedChannelConsumerImporter(final PipelineChannel channel, final int batchSize, final long timeoutMillis,
+                                              final PipelineSink sink, final PipelineJobProgressListener jobProgressListener, final int partitionCount) {
+        this.channel = channel;
+        this.batchSize = batchSize;
+        this.timeoutMillis = timeoutMillis;
+        this.sink = sink;
+        this.jobProgressListener = jobProgressListener;
+        this.partitionCount = partitionCount;
+        executorService = Executors.newFixedThreadPool(partitionCount, ExecutorThreadFactoryBuilder.build("pipeline-importer-partition-%d"));
+    }
+    
+    @Override
+    protected void runBlocking() {
+        try {
+            while (isRunning()) {
+                List<Record> records = channel.fetch(batchSize, timeoutMillis);
+                if (records.isEmpty()) {
+                    continue;
+                }
+                PipelineJobUpdateProgress updateProgress = write(records);
+                channel.ack(records);
+                jobProgressListener.onProgressUpdated(updateProgress);
+                if (FinishedRecord.class.equals(records.get(records.size() - 1).getClass())) {
+                    break;
+                }
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    private PipelineJobUpdateProgress write(final List<Record> records) {
+        Collection<List<Record>> partitions = partition(records);
+        if (1 == partitions.size()) {
+            return sink.write("", partitions.iterator().next());
+        }
+        Collection<Future<PipelineJobUpdateProgress>> futures = new ArrayList<>(partitions.size());
+        for (List<Record> each : partitions) {
+            futures.add(executorService.submit(() -> sink.write("", each)));
+        }
+        return new PipelineJobUpdateProgress(waitAll(futures));
+    }
+    
+    private Collection<List<Record>> partition(final List<Record> records) {
+        List<List<Record>> result = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            result.add(new ArrayList<>(records.size() / partitionCount + 1));
+        }
+        for (Record each : records) {
+            if (!(each instanceof DataRecord)) {
+                result.get(0).add(each);
+                continue;
+            }
+            DataRecord dataRecord = (DataRecord) each;
+            if (isUniqueKeyChanged(dataRecord)) {
+                return Collections.singletonList(records);
+            }
+            result.get(Math.floorMod(hashUniqueKey(dataRecord), partitionCount)).add(each);
+        }
+        result.removeIf(List::isEmpty);
+        return result;
+    }
+    
+    private boolean isUniqueKeyChanged(final DataRecord dataRecord) {
+        if (PipelineSQLOperationType.UPDATE != dataRecord.getType()) {
+            return false;
+        }
+        Iterator<Object> oldValues = dataRecord.getOldUniqueKeyValues().iterator();
+        for (Object each : dataRecord.getUniqueKeyValue()) {
+            if (!oldValues.hasNext() || !Objects.deepEquals(each, oldValues.next())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private int hashUniqueKey(final DataRecord dataRecord) {
+        Collection<Object> uniqueKeyValues = PipelineSQLOperationType.DELETE == dataRecord.getType() ? dataRecord.getOldUniqueKeyValues() : dataRecord.getUniqueKeyValue();
+        Object[] hashValues = new Object[uniqueKeyValues.size() + 1];
+        hashValues[0] = dataRecord.getTableName();
+        int index = 1;
+        for (Object each : uniqueKeyValues) {
+            hashValues[index++] = each;
+        }
+        return Arrays.deepHashCode(hashValues);
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private int waitAll(final Collection<Future<PipelineJobUpdateProgress>> futures) {
+        int result = 0;
+        RuntimeException failure = null;
+        for (Future<PipelineJobUpdateProgress> each : futures) {
+            try {
+                result += each.get().getProcessedRecordsCount();
+            } catch (final ExecutionException ex) {
+                if (null == failure) {
+                    failure = ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : new PipelineImporterJobWriteException(ex);
+                }
+            }
+        }
+        if (null != failure) {
+            throw failure;
+        }
+        return result;
+    }
+    
+    @Override
+    protected void doStop() {
+        QuietlyCloser.close(sink);
+        executorService.shutdownNow();
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourc
 import org.apache.shardingsphere.data.pipeline.core.exception.job.PipelineImporterJobWriteException;
 import org.apache.shardingsphere.data.pipeline.core.importer.ImporterConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineWriteMode;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
@@ -31,6 +32,7 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.record.RecordUtils;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.group.DataRecordGroupEngine;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.group.GroupedDataRecord;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.apache.shardingsphere.data.pipeline.core.ratelimit.JobRateLimitAlgorithm;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineImportSQLBuilder;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
@@ -40,11 +42,14 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -54,6 +59,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class PipelineDataSourceSink implements PipelineSink {
     
+    private static final int MAX_PARAMETER_COUNT = 32767;
+    
     private final ImporterConfiguration importerConfig;
     
     private final DataSource dataSource;
@@ -62,14 +69,14 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     private final DataRecordGroupEngine groupEngine;
     
-    private final AtomicReference<PreparedStatement> runningStatement;
+    private final Map<Thread, PreparedStatement> runningStatements;
     
     public PipelineDataSourceSink(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager) {
         this.importerConfig = importerConfig;
         dataSource = dataSourceManager.getDataSource(importerConfig.getDataSourceConfig());
         importSQLBuilder = new PipelineImportSQLBuilder(importerConfig.getDataSourceConfig().getDatabaseType());
         groupEngine = new DataRecordGroupEngine();
-        runningStatement = new AtomicReference<>();
+        runningStatements = new ConcurrentHashMap<>();
     }
     
     @Override
@@ -107,38 +114,48 @@ public final class PipelineDataSourceSink implements PipelineSink {
     }
     
     private void doWrite(final Collection<DataRecord> records, final boolean firstTimeRun) throws SQLException {
-        switch (records.iterator().next().getType()) {
+        PipelineSQLOperationType type = records.iterator().next().getType();
+        if (PipelineSQLOperationType.SELECT == type) {
+            return;
+        }
+        Optional<JobRateLimitAlgorithm> rateLimitAlgorithm = Optional.ofNullable(importerConfig.getRateLimitAlgorithm());
+        rateLimitAlgorithm.ifPresent(optional -> optional.intercept(type, 1));
+        long startMillis = System.currentTimeMillis();
+        switch (type) {
             case INSERT:
-                Optional.ofNullable(importerConfig.getRateLimitAlgorithm()).ifPresent(optional -> optional.intercept(PipelineSQLOperationType.INSERT, 1));
                 executeBatchInsert(records, firstTimeRun);
                 break;
             case UPDATE:
-                Optional.ofNullable(importerConfig.getRateLimitAlgorithm()).ifPresent(optional -> optional.intercept(PipelineSQLOperationType.UPDATE, 1));
                 executeUpdate(records, firstTimeRun);
                 break;
             case DELETE:
-                Optional.ofNullable(importerConfig.getRateLimitAlgorithm()).ifPresent(optional -> optional.intercept(PipelineSQLOperationType.DELETE, 1));
                 executeBatchDelete(records);
                 break;
             default:
                 break;
         }
+        long elapsedMillis = System.currentTimeMillis() - startMillis;
+        rateLimitAlgorithm.ifPresent(optional -> optional.feedback(type, elapsedMillis));
     }
     
     private void executeBatchInsert(final Collection<DataRecord> dataRecords, final boolean firstTimeRun) throws SQLException {
+        if (firstTimeRun && PipelineWriteMode.MULTI_VALUES == importerConfig.getWriteMode()) {
+            executeMultiValuesInsert(dataRecords);
+            return;
+        }
         DataRecord dataRecord = dataRecords.iterator().next();
         String sql = importSQLBuilder.buildInsertSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord);
         try (
                 Connection connection = dataSource.getConnection();
                 PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-            runningStatement.set(preparedStatement);
+            runningStatements.put(Thread.currentThread(), preparedStatement);
             if (firstTimeRun) {
                 executeBatchInsertFirstTime(connection, preparedStatement, dataRecords);
             } else {
                 retryBatchInsert(preparedStatement, dataRecords);
             }
         } finally {
-            runningStatement.set(null);
+            runningStatements.remove(Thread.currentThread());
         }
     }
     
@@ -160,6 +177,42 @@ public final class PipelineDataSourceSink implements PipelineSink {
         }
     }
     
+    private void executeMultiValuesInsert(final Collection<DataRecord> dataRecords) throws SQLException {
+        DataRecord dataRecord = dataRecords.iterator().next();
+        String schemaName = importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null);
+        int rowsPerStatement = Math.max(1, Math.min(dataRecords.size(), MAX_PARAMETER_COUNT / Math.max(1, dataRecord.getColumnCount())));
+        List<DataRecord> records = new ArrayList<>(dataRecords);
+        try (Connection connection = dataSource.getConnection()) {
+            boolean transactionEnabled = records.size() > rowsPerStatement;
+            if (transactionEnabled) {
+                connection.setAutoCommit(false);
+            }
+            for (int i = 0; i < records.size(); i += rowsPerStatement) {
+                executeMultiValuesInsert(connection, schemaName, records.subList(i, Math.min(records.size(), i + rowsPerStatement)));
+            }
+            if (transactionEnabled) {
+                connection.commit();
+            }
+        }
+    }
+    
+    private void executeMultiValuesInsert(final Connection connection, final String schemaName, final List<DataRecord> dataRecords) throws SQLException {
+        String sql = importSQLBuilder.buildInsertSQL(schemaName, dataRecords.get(0), dataRecords.size());
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            runningStatements.put(Thread.currentThread(), preparedStatement);
+            preparedStatement.setQueryTimeout(30);
+            int parameterIndex = 1;
+            for (DataRecord each : dataRecords) {
+                for (int i = 0; i < each.getColumnCount(); i++) {
+                    preparedStatement.setObject(parameterIndex++, each.getColumn(i).getValue());
+                }
+            }
+            preparedStatement.executeUpdate();
+        } finally {
+            runningStatements.remove(Thread.currentThread());
+        }
+    }
+    
     private void retryBatchInsert(final PreparedStatement preparedStatement, final Collection<DataRecord> dataRecords) throws SQLException {
         for (DataRecord each : dataRecords) {
             for (int i = 0; i < each.getColumnCount(); i++) {
@@ -175,8 +228,12 @@ public final class PipelineDataSourceSink implements PipelineSink {
             if (transactionEnabled) {
                 connection.setAutoCommit(false);
             }
-            for (DataRecord each : dataRecords) {
-                executeUpdate(connection, each);
+            if (firstTimeRun && PipelineWriteMode.MULTI_VALUES == importerConfig.getWriteMode()) {
+                executeBatchUpdate(connection, dataRecords);
+            } else {
+                for (DataRecord each : dataRecords) {
+                    executeUpdate(connection, each);
+                }
             }
             if (transactionEnabled) {
                 connection.commit();
@@ -184,25 +241,52 @@ public final class PipelineDataSourceSink implements PipelineSink {
         }
     }
     
+    private void executeBatchUpdate(final Connection connection, final Collection<DataRecord> dataRecords) throws SQLException {
+        String sql = null;
+        PreparedStatement preparedStatement = null;
+        try {
+            for (DataRecord each : dataRecords) {
+                Set<String> shardingColumns = importerConfig.getShardingColumns(each.getTableName());
+                List<Column> conditionColumns = RecordUtils.extractConditionColumns(each, shardingColumns);
+                String currentSQL = importSQLBuilder.buildUpdateSQL(importerConfig.findSchemaName(each.getTableName()).orElse(null), each, conditionColumns);
+                if (!currentSQL.equals(sql)) {
+                    executeBatchUpdate(preparedStatement, sql);
+                    sql = currentSQL;
+                    preparedStatement = connection.prepareStatement(sql);
+                    runningStatements.put(Thread.currentThread(), preparedStatement);
+                }
+                setUpdateParameters(preparedStatement, each, shardingColumns, conditionColumns);
+                preparedStatement.addBatch();
+            }
+            executeBatchUpdate(preparedStatement, sql);
+        } finally {
+            runningStatements.remove(Thread.currentThread());
+        }
+    }
+    
+    private void executeBatchUpdate(final PreparedStatement preparedStatement, final String sql) throws SQLException {
+        if (null == preparedStatement) {
+            return;
+        }
+        try {
+            for (int each : preparedStatement.executeBatch()) {
+                if (1 != each && Statement.SUCCESS_NO_INFO != each) {
+                    log.warn("Batch update failed, update count: {}, sql: {}", each, sql);
+                }
+            }
+        } finally {
+            preparedStatement.close();
+        }
+    }
+    
     private void executeUpdate(final Connection connection, final DataRecord dataRecord) throws SQLException {
         Set<String> shardingColumns = importerConfig.getShardingColumns(dataRecord.getTableName());
         List<Column> conditionColumns = RecordUtils.extractConditionColumns(dataRecord, shardingColumns);
         List<Column> setColumns = dataRecord.getColumns().stream().filter(Column::isUpdated).collect(Collectors.toList());
         String sql = importSQLBuilder.buildUpdateSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord, conditionColumns);
         try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-            runningStatement.set(preparedStatement);
-            for (int i = 0; i < setColumns.size(); i++) {
-                preparedStatement.setObject(i + 1, setColumns.get(i).getValue());
-            }
-            for (int i = 0; i < conditionColumns.size(); i++) {
-                Column keyColumn = conditionColumns.get(i);
-                // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
-                if (shardingColumns.contains(keyColumn.getName()) && null == keyColumn.getOldValue()) {
-                    preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getValue());
-                    continue;
-                }
-                preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getOldValue());
-            }
+            runningStatements.put(Thread.currentThread(), preparedStatement);
+            setUpdateParameters(preparedStatement, dataRecord, shardingColumns, conditionColumns);
             // TODO if table without unique key the conditionColumns before values is null, so update will fail at PostgreSQL
             int updateCount = preparedStatement.executeUpdate();
             if (1 != updateCount) {
@@ -214,7 +298,23 @@ public final class PipelineDataSourceSink implements PipelineSink {
                     sql, setColumns, JsonUtils.toJsonString(shardingColumns), JsonUtils.toJsonString(conditionColumns), ex.getMessage(), dataRecord);
             throw ex;
         } finally {
-            runningStatement.set(null);
+            runningStatements.remove(Thread.currentThread());
+        }
+    }
+    
+    private void setUpdateParameters(final PreparedStatement preparedStatement, final DataRecord dataRecord, final Set<String> shardingColumns, final List<Column> conditionColumns) throws SQLException {
+        List<Column> setColumns = dataRecord.getColumns().stream().filter(Column::isUpdated).collect(Collectors.toList());
+        for (int i = 0; i < setColumns.size(); i++) {
+            preparedStatement.setObject(i + 1, setColumns.get(i).getValue());
+        }
+        for (int i = 0; i < conditionColumns.size(); i++) {
+            Column keyColumn = conditionColumns.get(i);
+            // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
+            if (shardingColumns.contains(keyColumn.getName()) && null == keyColumn.getOldValue()) {
+                preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getValue());
+                continue;
+            }
+            preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getOldValue());
         }
     }
     
@@ -236,7 +336,7 @@ public final class PipelineDataSourceSink implements PipelineSink {
         String deleteSQL = importSQLBuilder.buildDeleteSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord,
                 RecordUtils.extractConditionColumns(dataRecord, shardingColumns));
         try (PreparedStatement preparedStatement = connection.prepareStatement(deleteSQL)) {
-            runningStatement.set(preparedStatement);
+            runningStatements.put(Thread.currentThread(), preparedStatement);
             preparedStatement.setQueryTimeout(30);
             for (DataRecord each : dataRecords) {
                 List<Column> conditionColumns = RecordUtils.extractConditionColumns(each, importerConfig.getShardingColumns(each.getTableName()));
@@ -251,12 +351,12 @@ public final class PipelineDataSourceSink implements PipelineSink {
             }
             preparedStatement.executeBatch();
         } finally {
-            runningStatement.set(null);
+            runningStatements.remove(Thread.currentThread());
         }
     }
     
     @Override
     public void close() {
-        Optional.ofNullable(runningStatement.get()).ifPresent(PipelineJdbcUtils::cancelStatement);
+        runningStatements.values().forEach(PipelineJdbcUtils::cancelStatement);
     }
 }
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.ToString;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.DumperCommonContext;
 
@@ -35,4 +36,7 @@ public final class IncrementalDumperContext {
     private final String jobId;
     
     private final boolean decodeWithTX;
+    
+    @Setter
+    private int convertConcurrency = 1;
 }
@@ -111,7 +111,7 @@ public final class InventoryDumper extends AbstractPipelineLifecycleRunnable imp
         }
         PipelineTableMetaData tableMetaData = getPipelineTableMetaData();
         try (Connection connection = dataSource.getConnection()) {
-            if (Strings.isNullOrEmpty(dumperContext.getQuerySQL()) && dumperContext.hasUniqueKey() && !isPrimaryKeyWithoutRange(position)) {
+            if (Strings.isNullOrEmpty(dumperContext.getQuerySQL()) && dumperContext.hasUniqueKey() && 1 == dumperContext.getUniqueKeyColumns().size() && !isPrimaryKeyWithoutRange(position)) {
                 dumpPageByPage(connection, tableMetaData);
             } else {
                 dumpWithStreamingQuery(connection, tableMetaData);
@@ -173,8 +173,12 @@ public final class InventoryDumper extends AbstractPipelineLifecycleRunnable imp
         try (PreparedStatement preparedStatement = JDBCStreamQueryBuilder.build(databaseType, connection, buildDumpPageByPageSQL(queryParam), batchSize)) {
             runningStatement.set(preparedStatement);
             setParameters(preparedStatement, queryParam, false);
+            long startMillis = System.currentTimeMillis();
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 JobRateLimitAlgorithm rateLimitAlgorithm = dumperContext.getRateLimitAlgorithm();
+                if (null != rateLimitAlgorithm) {
+                    rateLimitAlgorithm.feedback(PipelineSQLOperationType.SELECT, System.currentTimeMillis() - startMillis);
+                }
                 ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
                 List<Record> result = new LinkedList<>();
                 while (resultSet.next()) {
@@ -281,9 +285,13 @@ public final class InventoryDumper extends AbstractPipelineLifecycleRunnable imp
             PrimaryKeyIngestPosition<?> primaryPosition = (PrimaryKeyIngestPosition<?>) dumperContext.getCommonContext().getPosition();
             InventoryRangeQueryParameter queryParam = new InventoryRangeQueryParameter(new QueryRange(primaryPosition.getBeginValue(), true, primaryPosition.getEndValue()));
             setParameters(preparedStatement, queryParam, true);
+            long startMillis = System.currentTimeMillis();
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 int rowCount = 0;
                 JobRateLimitAlgorithm rateLimitAlgorithm = dumperContext.getRateLimitAlgorithm();
+                if (null != rateLimitAlgorithm) {
+                    rateLimitAlgorithm.feedback(PipelineSQLOperationType.SELECT, System.currentTimeMillis() - startMillis);
+                }
                 ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
                 List<Record> dataRecords = new LinkedList<>();
                 while (resultSet.next()) {
@@ -317,6 +325,13 @@ public final class InventoryDumper extends AbstractPipelineLifecycleRunnable imp
         }
         String schemaName = dumperContext.getCommonContext().getTableAndSchemaNameMapper().getSchemaName(dumperContext.getLogicTableName());
         List<String> columnNames = dumperContext.getQueryColumnNames();
+        IngestPosition position = dumperContext.getCommonContext().getPosition();
+        if (dumperContext.hasUniqueKey() && position instanceof PrimaryKeyIngestPosition && null != ((PrimaryKeyIngestPosition<?>) position).getBeginValue()) {
+            // Composite unique key could not be paged by first column, ranges of first column are dumped with streaming query instead.
+            boolean hasUpper = null != ((PrimaryKeyIngestPosition<?>) position).getEndValue();
+            return sqlBuilder.buildRangeFetchSQL(
+                    new BuildDivisibleSQLParameter(schemaName, dumperContext.getActualTableName(), columnNames, dumperContext.getUniqueKeyColumns().get(0).getName(), true, hasUpper));
+        }
         return sqlBuilder.buildFetchAllSQL(schemaName, dumperContext.getActualTableName(), columnNames);
     }
     
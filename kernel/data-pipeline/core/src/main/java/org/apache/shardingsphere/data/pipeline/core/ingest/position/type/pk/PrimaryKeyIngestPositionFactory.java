@@ -22,6 +22,7 @@ import com.google.common.base.Splitter;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.BinaryPrimaryKeyIngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.IntegerPrimaryKeyIngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.StringPrimaryKeyIngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.UnsupportedKeyIngestPosition;
@@ -53,6 +54,8 @@ public final class PrimaryKeyIngestPositionFactory {
                 return new IntegerPrimaryKeyIngestPosition(Long.parseLong(beginValue), Long.parseLong(endValue));
             case 's':
                 return new StringPrimaryKeyIngestPosition(beginValue, endValue);
+            case 'b':
+                return BinaryPrimaryKeyIngestPosition.decode(beginValue, endValue);
             case 'u':
                 return new UnsupportedKeyIngestPosition();
             default:
@@ -74,7 +77,9 @@ public final class PrimaryKeyIngestPositionFactory {
         if (beginValue instanceof CharSequence) {
             return new StringPrimaryKeyIngestPosition(beginValue.toString(), null == endValue ? null : endValue.toString());
         }
-        // TODO support more types, e.g. byte[] (MySQL varbinary)
+        if (beginValue instanceof byte[]) {
+            return new BinaryPrimaryKeyIngestPosition((byte[]) beginValue, (byte[]) endValue);
+        }
         return new UnsupportedKeyIngestPosition();
     }
 }
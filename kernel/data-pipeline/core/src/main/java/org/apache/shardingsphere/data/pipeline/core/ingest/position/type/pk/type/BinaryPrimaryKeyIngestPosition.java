@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type;
+
+import lombok.SneakyThrows;
+import org.apache.commons.codec.DecoderException;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.PrimaryKeyIngestPosition;
+
+/**
+ * Binary primary key ingest position.
+ */
+public final class BinaryPrimaryKeyIngestPosition implements PrimaryKeyIngestPosition<byte[]> {
+    
+    private final byte[] beginValue;
+    
+    private final byte[] endValue;
+    
+    public BinaryPrimaryKeyIngestPosition(final byte[] beginValue, final byte[] endValue) {
+        this.beginValue = beginValue;
+        this.endValue = endValue;
+    }
+    
+    /**
+     * Create binary primary key ingest position by hex string values.
+     *
+     * @param beginValue hex string begin value
+     * @param endValue hex string end value
+     * @return binary primary key ingest position
+     */
+    @SneakyThrows(DecoderException.class)
+    public static BinaryPrimaryKeyIngestPosition decode(final String beginValue, final String endValue) {
+        return new BinaryPrimaryKeyIngestPosition(beginValue.isEmpty() ? null : Hex.decodeHex(beginValue), endValue.isEmpty() ? null : Hex.decodeHex(endValue));
+    }
+    
+    @Override
+    public byte[] getBeginValue() {
+        return beginValue;
+    }
+    
+    @Override
+    public byte[] getEndValue() {
+        return endValue;
+    }
+    
+    @Override
+    public char getType() {
+        return 'b';
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%s,%s,%s", getType(), null == beginValue ? "" : Hex.encodeHexString(beginValue), null == endValue ? "" : Hex.encodeHexString(endValue));
+    }
+}
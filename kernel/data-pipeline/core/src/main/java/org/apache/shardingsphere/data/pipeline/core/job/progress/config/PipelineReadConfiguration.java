@@ -36,5 +36,7 @@ public final class PipelineReadConfiguration {
     
     private final Integer shardingSize;
     
+    private final Integer incrementalWorkerThread;
+    
     private final AlgorithmConfiguration rateLimiter;
 }
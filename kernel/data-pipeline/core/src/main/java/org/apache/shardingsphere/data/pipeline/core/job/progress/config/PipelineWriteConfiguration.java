@@ -20,6 +20,7 @@ package org.apache.shardingsphere.data.pipeline.core.job.progress.config;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineWriteMode;
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
 
 /**
@@ -34,5 +35,9 @@ public final class PipelineWriteConfiguration {
     
     private final Integer batchSize;
     
+    private final PipelineWriteMode writeMode;
+    
+    private final Integer incrementalWorkerThread;
+    
     private final AlgorithmConfiguration rateLimiter;
 }
@@ -35,5 +35,7 @@ public final class YamlPipelineReadConfiguration implements YamlConfiguration {
     
     private int shardingSize = 10000000;
     
+    private Integer incrementalWorkerThread;
+    
     private YamlAlgorithmConfiguration rateLimiter;
 }
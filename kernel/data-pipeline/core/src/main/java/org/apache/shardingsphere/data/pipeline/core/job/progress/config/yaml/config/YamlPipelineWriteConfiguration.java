@@ -33,5 +33,9 @@ public final class YamlPipelineWriteConfiguration implements YamlConfiguration {
     
     private int batchSize = 1000;
     
+    private String writeMode;
+    
+    private Integer incrementalWorkerThread;
+    
     private YamlAlgorithmConfiguration rateLimiter;
 }
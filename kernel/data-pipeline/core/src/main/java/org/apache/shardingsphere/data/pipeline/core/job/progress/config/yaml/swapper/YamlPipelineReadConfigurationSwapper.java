@@ -38,6 +38,7 @@ public final class YamlPipelineReadConfigurationSwapper implements YamlConfigura
         result.setWorkerThread(data.getWorkerThread());
         result.setBatchSize(data.getBatchSize());
         result.setShardingSize(data.getShardingSize());
+        result.setIncrementalWorkerThread(data.getIncrementalWorkerThread());
         result.setRateLimiter(algorithmSwapper.swapToYamlConfiguration(data.getRateLimiter()));
         return result;
     }
@@ -46,6 +47,7 @@ public final class YamlPipelineReadConfigurationSwapper implements YamlConfigura
     public PipelineReadConfiguration swapToObject(final YamlPipelineReadConfiguration yamlConfig) {
         return null == yamlConfig
                 ? null
-                : new PipelineReadConfiguration(yamlConfig.getWorkerThread(), yamlConfig.getBatchSize(), yamlConfig.getShardingSize(), algorithmSwapper.swapToObject(yamlConfig.getRateLimiter()));
+                : new PipelineReadConfiguration(yamlConfig.getWorkerThread(), yamlConfig.getBatchSize(), yamlConfig.getShardingSize(), yamlConfig.getIncrementalWorkerThread(),
+                        algorithmSwapper.swapToObject(yamlConfig.getRateLimiter()));
     }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.core.job.progress.config.yaml.swapper;
 
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineWriteMode;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.config.PipelineWriteConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.config.yaml.config.YamlPipelineWriteConfiguration;
 import org.apache.shardingsphere.infra.util.yaml.swapper.YamlConfigurationSwapper;
@@ -37,6 +38,8 @@ public final class YamlPipelineWriteConfigurationSwapper implements YamlConfigur
         YamlPipelineWriteConfiguration result = new YamlPipelineWriteConfiguration();
         result.setWorkerThread(data.getWorkerThread());
         result.setBatchSize(data.getBatchSize());
+        result.setWriteMode(null == data.getWriteMode() ? null : data.getWriteMode().name());
+        result.setIncrementalWorkerThread(data.getIncrementalWorkerThread());
         result.setRateLimiter(algorithmSwapper.swapToYamlConfiguration(data.getRateLimiter()));
         return result;
     }
@@ -45,6 +48,8 @@ public final class YamlPipelineWriteConfigurationSwapper implements YamlConfigur
     public PipelineWriteConfiguration swapToObject(final YamlPipelineWriteConfiguration yamlConfig) {
         return null == yamlConfig
                 ? null
-                : new PipelineWriteConfiguration(yamlConfig.getWorkerThread(), yamlConfig.getBatchSize(), algorithmSwapper.swapToObject(yamlConfig.getRateLimiter()));
+                : new PipelineWriteConfiguration(yamlConfig.getWorkerThread(), yamlConfig.getBatchSize(),
+                        null == yamlConfig.getWriteMode() ? null : PipelineWriteMode.valueOf(yamlConfig.getWriteMode()), yamlConfig.getIncrementalWorkerThread(),
+                        algorithmSwapper.swapToObject(yamlConfig.getRateLimiter()));
     }
 }
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.core.job.progress.persist;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -37,4 +38,10 @@ public final class PipelineJobProgressPersistContext {
     private final AtomicLong unhandledEventCount = new AtomicLong(0L);
     
     private final AtomicBoolean firstExceptionLogged = new AtomicBoolean(false);
+    
+    @Setter
+    private volatile String persistedProgressContent;
+    
+    @Setter
+    private volatile long lastPersistMillis;
 }
@@ -29,11 +29,15 @@ import org.apache.shardingsphere.infra.exception.core.ShardingSpherePrecondition
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadLocalRandom;
@@ -50,8 +54,14 @@ public final class PipelineJobProgressPersistService {
     
     private static final ScheduledExecutorService JOB_PERSIST_EXECUTOR = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("pipeline-progress-persist-%d"));
     
+    private static final ExecutorService JOB_PERSIST_WORKER_EXECUTOR = Executors.newFixedThreadPool(4, ExecutorThreadFactoryBuilder.build("pipeline-progress-persist-worker-%d"));
+    
     private static final long DELAY_SECONDS = 1L;
     
+    private static final long BUSY_UNHANDLED_EVENT_COUNT = 10L;
+    
+    private static final long MAX_COALESCE_MILLIS = 3000L;
+    
     static {
         JOB_PERSIST_EXECUTOR.scheduleWithFixedDelay(new PersistJobContextRunnable(), 0L, DELAY_SECONDS, TimeUnit.SECONDS);
     }
@@ -103,22 +113,36 @@ public final class PipelineJobProgressPersistService {
         
         @Override
         public void run() {
+            long currentMillis = System.currentTimeMillis();
+            Collection<CompletableFuture<Void>> futures = new LinkedList<>();
             for (Entry<String, Map<Integer, PipelineJobProgressPersistContext>> entry : JOB_PROGRESS_PERSIST_MAP.entrySet()) {
-                entry.getValue().forEach((shardingItem, persistContext) -> persist(entry.getKey(), shardingItem, persistContext));
+                entry.getValue().forEach((shardingItem, persistContext) -> {
+                    if (isPersistRequired(persistContext, currentMillis)) {
+                        futures.add(CompletableFuture.runAsync(() -> persist(entry.getKey(), shardingItem, persistContext), JOB_PERSIST_WORKER_EXECUTOR));
+                    }
+                });
             }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        }
+        
+        private static boolean isPersistRequired(final PipelineJobProgressPersistContext persistContext, final long currentMillis) {
+            long unhandledEventCount = persistContext.getUnhandledEventCount().get();
+            return 0L != unhandledEventCount && (unhandledEventCount >= BUSY_UNHANDLED_EVENT_COUNT || currentMillis - persistContext.getLastPersistMillis() >= MAX_COALESCE_MILLIS);
         }
         
-        private static synchronized void persist(final String jobId, final int shardingItem, final PipelineJobProgressPersistContext persistContext) {
-            try {
-                persist0(jobId, shardingItem, persistContext);
-                // CHECKSTYLE:OFF
-            } catch (final RuntimeException ex) {
-                // CHECKSTYLE:ON
-                if (!persistContext.getFirstExceptionLogged().get()) {
-                    log.error("Persist job progress failed, jobId={}, shardingItem={}", jobId, shardingItem, ex);
-                    persistContext.getFirstExceptionLogged().set(true);
-                } else if (5 == ThreadLocalRandom.current().nextInt(60)) {
-                    log.error("Persist job progress failed, jobId={}, shardingItem={}", jobId, shardingItem, ex);
+        private static void persist(final String jobId, final int shardingItem, final PipelineJobProgressPersistContext persistContext) {
+            synchronized (persistContext) {
+                try {
+                    persist0(jobId, shardingItem, persistContext);
+                    // CHECKSTYLE:OFF
+                } catch (final RuntimeException ex) {
+                    // CHECKSTYLE:ON
+                    if (!persistContext.getFirstExceptionLogged().get()) {
+                        log.error("Persist job progress failed, jobId={}, shardingItem={}", jobId, shardingItem, ex);
+                        persistContext.getFirstExceptionLogged().set(true);
+                    } else if (5 == ThreadLocalRandom.current().nextInt(60)) {
+                        log.error("Persist job progress failed, jobId={}, shardingItem={}", jobId, shardingItem, ex);
+                    }
                 }
             }
         }
@@ -134,8 +158,9 @@ public final class PipelineJobProgressPersistService {
                 return;
             }
             long startTimeMillis = System.currentTimeMillis();
-            new PipelineJobItemManager<>(TypedSPILoader.getService(PipelineJobType.class,
-                    PipelineJobIdUtils.parseJobType(jobId).getType()).getYamlJobItemProgressSwapper()).updateProgress(jobItemContext.get());
+            new PipelineJobItemManager<>(TypedSPILoader.getService(PipelineJobType.class, PipelineJobIdUtils.parseJobType(jobId).getType()).getYamlJobItemProgressSwapper())
+                    .updateProgressIfChanged(jobItemContext.get(), persistContext.getPersistedProgressContent()).ifPresent(persistContext::setPersistedProgressContent);
+            persistContext.setLastPersistMillis(startTimeMillis);
             persistContext.getUnhandledEventCount().addAndGet(-currentUnhandledEventCount);
             if (6 == ThreadLocalRandom.current().nextInt(100)) {
                 log.info("persist, jobId={}, shardingItem={}, cost {} ms", jobId, shardingItem, System.currentTimeMillis() - startTimeMillis);
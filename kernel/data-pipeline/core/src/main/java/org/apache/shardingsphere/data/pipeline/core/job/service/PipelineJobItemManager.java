@@ -91,6 +91,23 @@ public final class PipelineJobItemManager<T extends PipelineJobItemProgress> {
                 .getJobItemFacade().getProcess().update(jobItemContext.getJobId(), jobItemContext.getShardingItem(), convertProgressYamlContent(jobItemContext));
     }
     
+    /**
+     * Update job item progress if its content changed.
+     *
+     * @param jobItemContext job item context
+     * @param persistedProgressContent progress content persisted last time, null if never persisted
+     * @return updated progress content, empty if not changed
+     */
+    public Optional<String> updateProgressIfChanged(final PipelineJobItemContext jobItemContext, final String persistedProgressContent) {
+        String result = convertProgressYamlContent(jobItemContext);
+        if (result.equals(persistedProgressContent)) {
+            return Optional.empty();
+        }
+        PipelineAPIFactory.getPipelineGovernanceFacade(PipelineJobIdUtils.parseContextKey(jobItemContext.getJobId()))
+                .getJobItemFacade().getProcess().update(jobItemContext.getJobId(), jobItemContext.getShardingItem(), result);
+        return Optional.of(result);
+    }
+    
     @SuppressWarnings("unchecked")
     private String convertProgressYamlContent(final PipelineJobItemContext jobItemContext) {
         return YamlEngine.marshal(swapper.swapToYamlConfiguration((T) jobItemContext.toProgress()));
@@ -21,13 +21,17 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.Range;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.PrimaryKeyIngestPositionFactory;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.IntegerPrimaryKeyIngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.util.IntervalToRangeIterator;
 
 import java.math.BigInteger;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
+import java.util.Objects;
 
 /**
  * Inventory position calculator.
@@ -57,4 +61,40 @@ public final class InventoryPositionCalculator {
         }
         return result;
     }
+    
+    /**
+     * Get position by sorted unique key values.
+     *
+     * <p>Unique key values must be sorted ascending. Ranges are closed at distinct values, so equal values never straddle two positions.</p>
+     *
+     * @param sortedUniqueKeyValues sorted unique key values result set, the first column is unique key value
+     * @param shardingSize sharding size
+     * @return position collection, empty if there is no unique key value
+     * @throws SQLException SQL exception
+     */
+    public static Collection<IngestPosition> getPositionBySortedUniqueKeyValues(final ResultSet sortedUniqueKeyValues, final long shardingSize) throws SQLException {
+        Collection<IngestPosition> result = new LinkedList<>();
+        Object beginValue = null;
+        Object previousValue = null;
+        long rangeRecordsCount = 0L;
+        while (sortedUniqueKeyValues.next()) {
+            Object value = sortedUniqueKeyValues.getObject(1);
+            if (null == value) {
+                continue;
+            }
+            if (null == beginValue) {
+                beginValue = value;
+            } else if (rangeRecordsCount >= shardingSize && !Objects.deepEquals(value, previousValue)) {
+                result.add(PrimaryKeyIngestPositionFactory.newInstance(beginValue, previousValue));
+                beginValue = value;
+                rangeRecordsCount = 0L;
+            }
+            previousValue = value;
+            rangeRecordsCount++;
+        }
+        if (null != beginValue) {
+            result.add(PrimaryKeyIngestPositionFactory.newInstance(beginValue, previousValue));
+        }
+        return result;
+    }
 }
@@ -33,12 +33,14 @@ import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTabl
 import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.core.preparer.inventory.calculator.InventoryPositionCalculator;
 import org.apache.shardingsphere.data.pipeline.core.preparer.inventory.calculator.InventoryRecordsCountCalculator;
+import org.apache.shardingsphere.data.pipeline.core.query.JDBCStreamQueryBuilder;
 import org.apache.shardingsphere.data.pipeline.core.ratelimit.JobRateLimitAlgorithm;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelinePrepareSQLBuilder;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
 import org.apache.shardingsphere.infra.metadata.caseinsensitive.CaseInsensitiveIdentifier;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -118,20 +120,44 @@ public final class InventoryDumperContextSplitter {
             return Collections.singleton(new UnsupportedKeyIngestPosition());
         }
         List<PipelineColumnMetaData> uniqueKeyColumns = dumperContext.getUniqueKeyColumns();
-        if (1 == uniqueKeyColumns.size()) {
-            int firstColumnDataType = uniqueKeyColumns.get(0).getDataType();
-            if (PipelineJdbcUtils.isIntegerColumn(firstColumnDataType)) {
-                Range<Long> uniqueKeyValuesRange = getUniqueKeyValuesRange(jobItemContext, dumperContext);
-                int shardingSize = jobItemContext.getJobProcessContext().getProcessConfiguration().getRead().getShardingSize();
-                return InventoryPositionCalculator.getPositionByIntegerUniqueKeyRange(tableRecordsCount, uniqueKeyValuesRange, shardingSize);
-            }
-            if (PipelineJdbcUtils.isStringColumn(firstColumnDataType)) {
-                return Collections.singleton(new StringPrimaryKeyIngestPosition(null, null));
+        int firstColumnDataType = uniqueKeyColumns.get(0).getDataType();
+        int shardingSize = jobItemContext.getJobProcessContext().getProcessConfiguration().getRead().getShardingSize();
+        if (1 == uniqueKeyColumns.size() && PipelineJdbcUtils.isIntegerColumn(firstColumnDataType)) {
+            Range<Long> uniqueKeyValuesRange = getUniqueKeyValuesRange(jobItemContext, dumperContext);
+            return InventoryPositionCalculator.getPositionByIntegerUniqueKeyRange(tableRecordsCount, uniqueKeyValuesRange, shardingSize);
+        }
+        if (tableRecordsCount > shardingSize && isSortedValuesSplittable(firstColumnDataType)) {
+            Collection<IngestPosition> result = getPositionsBySortedUniqueKeyValues(jobItemContext, dumperContext, shardingSize);
+            if (!result.isEmpty()) {
+                return result;
             }
         }
+        if (1 == uniqueKeyColumns.size() && PipelineJdbcUtils.isStringColumn(firstColumnDataType)) {
+            return Collections.singleton(new StringPrimaryKeyIngestPosition(null, null));
+        }
         return Collections.singleton(new UnsupportedKeyIngestPosition());
     }
     
+    private boolean isSortedValuesSplittable(final int columnDataType) {
+        return PipelineJdbcUtils.isIntegerColumn(columnDataType) || PipelineJdbcUtils.isStringColumn(columnDataType) || PipelineJdbcUtils.isBinaryColumn(columnDataType);
+    }
+    
+    private Collection<IngestPosition> getPositionsBySortedUniqueKeyValues(final TransmissionJobItemContext jobItemContext, final InventoryDumperContext dumperContext, final int shardingSize) {
+        String uniqueKey = dumperContext.getUniqueKeyColumns().get(0).getName();
+        PipelinePrepareSQLBuilder pipelineSQLBuilder = new PipelinePrepareSQLBuilder(jobItemContext.getJobConfig().getSourceDatabaseType());
+        String sql = pipelineSQLBuilder.buildSortedUniqueKeyValuesSQL(
+                dumperContext.getCommonContext().getTableAndSchemaNameMapper().getSchemaName(dumperContext.getLogicTableName()), dumperContext.getActualTableName(), uniqueKey);
+        int batchSize = jobItemContext.getJobProcessContext().getProcessConfiguration().getRead().getBatchSize();
+        try (
+                Connection connection = sourceDataSource.getConnection();
+                PreparedStatement preparedStatement = JDBCStreamQueryBuilder.build(jobItemContext.getJobConfig().getSourceDatabaseType(), connection, sql, batchSize);
+                ResultSet resultSet = preparedStatement.executeQuery()) {
+            return InventoryPositionCalculator.getPositionBySortedUniqueKeyValues(resultSet, shardingSize);
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(dumperContext.getActualTableName(), uniqueKey, ex);
+        }
+    }
+    
     private Range<Long> getUniqueKeyValuesRange(final TransmissionJobItemContext jobItemContext, final InventoryDumperContext dumperContext) {
         String uniqueKey = dumperContext.getUniqueKeyColumns().get(0).getName();
         PipelinePrepareSQLBuilder pipelineSQLBuilder = new PipelinePrepareSQLBuilder(jobItemContext.getJobConfig().getSourceDatabaseType());
@@ -32,4 +32,13 @@ public interface JobRateLimitAlgorithm extends ShardingSphereAlgorithm {
      * @param data delta value for how much changed
      */
     void intercept(PipelineSQLOperationType type, Number data);
+    
+    /**
+     * Feedback execution latency of operation, so that adaptive algorithm could tune its rate.
+     *
+     * @param type pipeline SQL operation type
+     * @param elapsedMillis elapsed milliseconds of execution
+     */
+    default void feedback(final PipelineSQLOperationType type, final long elapsedMillis) {
+    }
 }
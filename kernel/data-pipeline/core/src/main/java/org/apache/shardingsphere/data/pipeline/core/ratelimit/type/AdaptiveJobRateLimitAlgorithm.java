@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ratelimit.type;
+
+import com.google.common.base.Strings;
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.ratelimit.JobRateLimitAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+
+import java.util.Properties;
+
+/**
+ * Adaptive job rate limit algorithm.
+ *
+ * <p>Rate is increased additively while execution latency is below threshold, and decreased multiplicatively when latency exceeds threshold.</p>
+ */
+@Slf4j
+public final class AdaptiveJobRateLimitAlgorithm implements JobRateLimitAlgorithm {
+    
+    private static final String MAX_RATE_KEY = "max-rate";
+    
+    private static final String MIN_RATE_KEY = "min-rate";
+    
+    private static final String LATENCY_THRESHOLD_MILLIS_KEY = "latency-threshold-millis";
+    
+    private static final String INCREASE_STEP_KEY = "increase-step";
+    
+    private static final String DECREASE_FACTOR_KEY = "decrease-factor";
+    
+    private static final long DECREASE_INTERVAL_MILLIS = 1000L;
+    
+    private int maxRate = 2000;
+    
+    private int minRate = 10;
+    
+    private long latencyThresholdMillis = 500L;
+    
+    private int increaseStep = 10;
+    
+    private double decreaseFactor = 0.5D;
+    
+    private RateLimiter rateLimiter;
+    
+    private long lastDecreaseMillis;
+    
+    @Override
+    public void init(final Properties props) {
+        maxRate = getIntValue(props, MAX_RATE_KEY, maxRate);
+        minRate = getIntValue(props, MIN_RATE_KEY, minRate);
+        ShardingSpherePreconditions.checkState(minRate > 0 && minRate <= maxRate, () -> new AlgorithmInitializationException(this, "Min rate must be positive and not greater than max rate"));
+        String latencyThresholdMillisValue = props.getProperty(LATENCY_THRESHOLD_MILLIS_KEY);
+        if (!Strings.isNullOrEmpty(latencyThresholdMillisValue)) {
+            latencyThresholdMillis = Long.parseLong(latencyThresholdMillisValue);
+            ShardingSpherePreconditions.checkState(latencyThresholdMillis > 0L, () -> new AlgorithmInitializationException(this, "Latency threshold millis must be a positive number"));
+        }
+        increaseStep = getIntValue(props, INCREASE_STEP_KEY, increaseStep);
+        String decreaseFactorValue = props.getProperty(DECREASE_FACTOR_KEY);
+        if (!Strings.isNullOrEmpty(decreaseFactorValue)) {
+            decreaseFactor = Double.parseDouble(decreaseFactorValue);
+            ShardingSpherePreconditions.checkState(decreaseFactor > 0D && decreaseFactor < 1D, () -> new AlgorithmInitializationException(this, "Decrease factor must be between 0 and 1"));
+        }
+        rateLimiter = RateLimiter.create(maxRate);
+    }
+    
+    private int getIntValue(final Properties props, final String key, final int defaultValue) {
+        String value = props.getProperty(key);
+        if (Strings.isNullOrEmpty(value)) {
+            return defaultValue;
+        }
+        int result = Integer.parseInt(value);
+        ShardingSpherePreconditions.checkState(result > 0, () -> new AlgorithmInitializationException(this, "`%s` must be a positive number", key));
+        return result;
+    }
+    
+    @Override
+    public void intercept(final PipelineSQLOperationType type, final Number data) {
+        rateLimiter.acquire(null == data ? 1 : data.intValue());
+    }
+    
+    @Override
+    public synchronized void feedback(final PipelineSQLOperationType type, final long elapsedMillis) {
+        double currentRate = rateLimiter.getRate();
+        if (elapsedMillis <= latencyThresholdMillis) {
+            if (currentRate < maxRate) {
+                rateLimiter.setRate(Math.min(maxRate, currentRate + increaseStep));
+            }
+            return;
+        }
+        long currentMillis = System.currentTimeMillis();
+        if (currentRate > minRate && currentMillis - lastDecreaseMillis >= DECREASE_INTERVAL_MILLIS) {
+            lastDecreaseMillis = currentMillis;
+            double newRate = Math.max(minRate, currentRate * decreaseFactor);
+            rateLimiter.setRate(newRate);
+            log.info("Decrease rate from {} to {}, type={}, elapsedMillis={}", currentRate, newRate, type, elapsedMillis);
+        }
+    }
+    
+    /**
+     * Get current rate.
+     *
+     * @return current permits per second
+     */
+    public double getCurrentRate() {
+        return rateLimiter.getRate();
+    }
+    
+    @Override
+    public String getType() {
+        return "ADAPTIVE";
+    }
+}
@@ -26,6 +26,8 @@ import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -129,4 +131,39 @@ public final class PipelineDataConsistencyCalculateSQLBuilder {
     public Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final String columnName) {
         return dialectSQLBuilder.buildCRC32SQL(sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName), sqlSegmentBuilder.getEscapedIdentifier(columnName));
     }
+    
+    /**
+     * Build CRC32 SQL of unique key values range.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param columnName column name
+     * @param uniqueKey unique key
+     * @param queryRange query range of unique key values
+     * @return built SQL
+     */
+    public Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final String columnName, final String uniqueKey, final QueryRange queryRange) {
+        Collection<String> conditions = new LinkedList<>();
+        if (null != queryRange.getLower()) {
+            conditions.add(buildLowerQueryRangeCondition(queryRange.isLowerInclusive(), uniqueKey));
+        }
+        if (null != queryRange.getUpper()) {
+            conditions.add(buildUpperQueryRangeCondition(uniqueKey));
+        }
+        Optional<String> result = buildCRC32SQL(schemaName, tableName, columnName);
+        return conditions.isEmpty() ? result : result.map(optional -> optional + " WHERE " + String.join(" AND ", conditions));
+    }
+    
+    /**
+     * Build query range unique key values SQL.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @param queryRange query range of unique key values
+     * @return built SQL
+     */
+    public String buildQueryRangeUniqueKeyValuesSQL(final String schemaName, final String tableName, final String uniqueKey, final QueryRange queryRange) {
+        return buildQueryRangeOrderingSQL0(schemaName, tableName, Collections.singletonList(uniqueKey), Collections.singletonList(uniqueKey), queryRange, null);
+    }
 }
@@ -46,14 +46,23 @@ public final class PipelineInventoryDumpSQLBuilder {
      * @return built SQL
      */
     public String buildDivisibleSQL(final BuildDivisibleSQLParameter param) {
+        return dialectSQLBuilder.wrapWithPageQuery(buildRangeFetchSQL(param));
+    }
+    
+    /**
+     * Build range fetch inventory dump SQL, which is not wrapped with page query.
+     *
+     * @param param parameter
+     * @return built SQL
+     */
+    public String buildRangeFetchSQL(final BuildDivisibleSQLParameter param) {
         String queryColumns = buildQueryColumns(param.getColumnNames());
         String qualifiedTableName = sqlSegmentBuilder.getQualifiedTableName(param.getSchemaName(), param.getTableName());
         String escapedUniqueKey = sqlSegmentBuilder.getEscapedIdentifier(param.getUniqueKey());
         String operator = param.isLowerInclusive() ? ">=" : ">";
-        String sql = param.isLimited()
+        return param.isLimited()
                 ? String.format("SELECT %s FROM %s WHERE %s%s? AND %s<=? ORDER BY %s ASC", queryColumns, qualifiedTableName, escapedUniqueKey, operator, escapedUniqueKey, escapedUniqueKey)
                 : String.format("SELECT %s FROM %s WHERE %s%s? ORDER BY %s ASC", queryColumns, qualifiedTableName, escapedUniqueKey, operator, escapedUniqueKey);
-        return dialectSQLBuilder.wrapWithPageQuery(sql);
     }
     
     /**
@@ -95,6 +95,19 @@ public final class PipelinePrepareSQLBuilder {
         return String.format("SELECT MIN(%s), MAX(%s) FROM %s", escapedUniqueKey, escapedUniqueKey, sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName));
     }
     
+    /**
+     * Build sorted unique key values SQL.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @return sorted unique key values SQL
+     */
+    public String buildSortedUniqueKeyValuesSQL(final String schemaName, final String tableName, final String uniqueKey) {
+        String escapedUniqueKey = sqlSegmentBuilder.getEscapedIdentifier(uniqueKey);
+        return String.format("SELECT %s FROM %s ORDER BY %s ASC", escapedUniqueKey, sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName), escapedUniqueKey);
+    }
+    
     /**
      * Build check empty table SQL.
      *
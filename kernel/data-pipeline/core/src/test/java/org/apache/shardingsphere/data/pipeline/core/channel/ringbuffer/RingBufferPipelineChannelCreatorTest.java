@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelCreator;
+import org.apache.shardingsphere.data.pipeline.core.task.InventoryTaskAckCallback;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class RingBufferPipelineChannelCreatorTest {
+    
+    @Test
+    void assertNewInstance() throws ReflectiveOperationException {
+        PipelineChannelCreator creator = TypedSPILoader.getService(PipelineChannelCreator.class, "RING_BUFFER",
+                PropertiesBuilder.build(new Property("block-queue-size", "3000"), new Property("max-buffered-bytes", "1024")));
+        RingBufferPipelineChannel channel = (RingBufferPipelineChannel) creator.newInstance(1000, new InventoryTaskAckCallback(new AtomicReference<>()));
+        assertThat(((AtomicReferenceArray<?>) Plugins.getMemberAccessor().get(RingBufferPipelineChannel.class.getDeclaredField("slots"), channel)).length(), is(4));
+        assertThat(Plugins.getMemberAccessor().get(RingBufferPipelineChannel.class.getDeclaredField("maxBufferedBytes"), channel), is(1024L));
+    }
+    
+    @Test
+    void assertNewInstanceWithZeroBlockQueueSize() throws ReflectiveOperationException {
+        PipelineChannelCreator creator = TypedSPILoader.getService(PipelineChannelCreator.class, "RING_BUFFER", PropertiesBuilder.build(new Property("block-queue-size", "0")));
+        RingBufferPipelineChannel channel = (RingBufferPipelineChannel) creator.newInstance(1000, new InventoryTaskAckCallback(new AtomicReference<>()));
+        assertThat(((AtomicReferenceArray<?>) Plugins.getMemberAccessor().get(RingBufferPipelineChannel.class.getDeclaredField("slots"), channel)).length(), is(1));
+    }
+}
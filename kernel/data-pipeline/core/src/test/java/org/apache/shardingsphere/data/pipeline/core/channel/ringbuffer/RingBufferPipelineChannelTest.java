@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RingBufferPipelineChannelTest {
+    
+    @Test
+    void assertFetchDrainsBatchesInOrder() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, Long.MAX_VALUE, mock(PipelineChannelAckCallback.class));
+        List<Record> first = Collections.singletonList(createPlaceholderRecord());
+        List<Record> second = Arrays.asList(createPlaceholderRecord(), createPlaceholderRecord());
+        channel.push(first);
+        channel.push(second);
+        List<Record> actual = channel.fetch(3, 0L);
+        assertThat(actual.size(), is(3));
+        assertThat(actual.get(0), is(first.get(0)));
+        assertThat(actual.get(2), is(second.get(1)));
+        assertThat(channel.getBufferedBytes(), is(0L));
+    }
+    
+    @Test
+    void assertFetchSingleBatchWithoutCopy() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, Long.MAX_VALUE, mock(PipelineChannelAckCallback.class));
+        List<Record> records = Collections.singletonList(createPlaceholderRecord());
+        channel.push(records);
+        assertThat(channel.fetch(1, 0L), is(records));
+    }
+    
+    @Test
+    void assertFetchWithTimeout() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, Long.MAX_VALUE, mock(PipelineChannelAckCallback.class));
+        long startMillis = System.currentTimeMillis();
+        assertTrue(channel.fetch(1, 50L).isEmpty());
+        assertTrue(System.currentTimeMillis() - startMillis >= 50L);
+    }
+    
+    @Test
+    void assertPeekAndPoll() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, Long.MAX_VALUE, mock(PipelineChannelAckCallback.class));
+        assertTrue(channel.peek().isEmpty());
+        List<Record> records = Collections.singletonList(createPlaceholderRecord());
+        channel.push(records);
+        assertThat(channel.peek(), is(records));
+        assertThat(channel.poll(), is(records));
+        assertTrue(channel.poll().isEmpty());
+    }
+    
+    @Test
+    void assertPushBlockedByBufferedBytes() throws Exception {
+        List<Record> records = Collections.singletonList(createDataRecord());
+        long recordBytes = RecordSizeEstimator.estimate(records);
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(16, recordBytes, mock(PipelineChannelAckCallback.class));
+        channel.push(records);
+        assertThat(channel.getBufferedBytes(), is(recordBytes));
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> channel.push(records));
+        TimeUnit.MILLISECONDS.sleep(50L);
+        assertFalse(future.isDone());
+        assertThat(channel.poll(), is(records));
+        future.get(1L, TimeUnit.SECONDS);
+        assertThat(channel.getProducerBlockedCount(), is(1L));
+        assertThat(channel.poll(), is(records));
+    }
+    
+    @Test
+    void assertPushBlockedBySlots() throws Exception {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(1, Long.MAX_VALUE, mock(PipelineChannelAckCallback.class));
+        channel.push(Collections.singletonList(createPlaceholderRecord()));
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> channel.push(records));
+        assertThat(channel.fetch(2, 1000L).size(), is(2));
+        future.get(1L, TimeUnit.SECONDS);
+    }
+    
+    @Test
+    void assertAck() {
+        PipelineChannelAckCallback ackCallback = mock(PipelineChannelAckCallback.class);
+        List<Record> records = Collections.singletonList(createPlaceholderRecord());
+        new RingBufferPipelineChannel(4, Long.MAX_VALUE, ackCallback).ack(records);
+        verify(ackCallback).onAck(records);
+    }
+    
+    private Record createPlaceholderRecord() {
+        return new PlaceholderRecord(new IngestPlaceholderPosition());
+    }
+    
+    private Record createDataRecord() {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "t_order", new IngestPlaceholderPosition(), 2);
+        result.addColumn(new NormalColumn("order_id", 1, true, true));
+        result.addColumn(new NormalColumn("status", "OK", true, false));
+        return result;
+    }
+}
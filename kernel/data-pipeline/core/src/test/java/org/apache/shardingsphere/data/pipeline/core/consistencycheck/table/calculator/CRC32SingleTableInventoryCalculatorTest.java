@@ -22,6 +22,7 @@ import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColum
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.SingleTableInventoryCalculatedResult;
 import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.range.QueryRange;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.junit.jupiter.api.BeforeEach;
@@ -48,6 +49,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -82,6 +84,20 @@ class CRC32SingleTableInventoryCalculatorTest {
         assertFalse(actual.hasNext());
     }
     
+    @Test
+    void assertCalculateWithQueryRangeSuccess() throws SQLException {
+        parameter.setQueryRange(new QueryRange(1, false, 5));
+        PreparedStatement preparedStatement0 = mockPreparedStatement(123L, 3);
+        when(connection.prepareStatement("SELECT CRC32(foo_col) FROM foo_tbl WHERE id>? AND id<=?")).thenReturn(preparedStatement0);
+        PreparedStatement preparedStatement1 = mockPreparedStatement(456L, 3);
+        when(connection.prepareStatement("SELECT CRC32(bar_col) FROM foo_tbl WHERE id>? AND id<=?")).thenReturn(preparedStatement1);
+        Iterator<SingleTableInventoryCalculatedResult> actual = new CRC32SingleTableInventoryCalculator(true).calculate(parameter).iterator();
+        assertThat(actual.next().getRecordsCount(), is(3));
+        assertFalse(actual.hasNext());
+        verify(preparedStatement0).setObject(1, 1);
+        verify(preparedStatement0).setObject(2, 5);
+    }
+    
     private PreparedStatement mockPreparedStatement(final long expectedCRC32Result, final int expectedRecordsCount) throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
         PreparedStatement result = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.data.pipeline.core.importer;
 
 import org.apache.shardingsphere.data.pipeline.api.PipelineDataSourceConfiguration;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineWriteMode;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.mapper.TableAndSchemaNameMapper;
 import org.apache.shardingsphere.data.pipeline.core.ratelimit.JobRateLimitAlgorithm;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -40,7 +41,7 @@ class ImporterConfigurationTest {
     void assertGetShardingColumns() {
         ImporterConfiguration importerConfig = new ImporterConfiguration(
                 mock(PipelineDataSourceConfiguration.class), Collections.singletonMap(new CaseInsensitiveIdentifier("foo_tbl"), Collections.singleton("foo_col")),
-                mock(TableAndSchemaNameMapper.class), 1, mock(JobRateLimitAlgorithm.class), 1, 1);
+                mock(TableAndSchemaNameMapper.class), 1, mock(JobRateLimitAlgorithm.class), 1, 1, PipelineWriteMode.BATCH);
         assertThat(importerConfig.getShardingColumns("foo_tbl"), is(Collections.singleton("foo_col")));
     }
     
@@ -48,7 +49,7 @@ class ImporterConfigurationTest {
     void assertFindSchemaName() {
         PipelineDataSourceConfiguration dataSourceConfig = mock(PipelineDataSourceConfiguration.class);
         when(dataSourceConfig.getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
-        ImporterConfiguration importerConfig = new ImporterConfiguration(dataSourceConfig, Collections.emptyMap(), mock(TableAndSchemaNameMapper.class), 1, mock(JobRateLimitAlgorithm.class), 1, 1);
+        ImporterConfiguration importerConfig = new ImporterConfiguration(dataSourceConfig, Collections.emptyMap(), mock(TableAndSchemaNameMapper.class), 1, mock(JobRateLimitAlgorithm.class), 1, 1, PipelineWriteMode.BATCH);
         assertFalse(importerConfig.findSchemaName("foo_schema").isPresent());
     }
     
@@ -58,7 +59,7 @@ class ImporterConfigurationTest {
         when(tableAndSchemaNameMapper.getSchemaName("foo_tbl")).thenReturn("foo_schema");
         ImporterConfiguration importerConfig = new ImporterConfiguration(
                 mock(PipelineDataSourceConfiguration.class), Collections.singletonMap(new CaseInsensitiveIdentifier("foo_tbl"), Collections.singleton("foo_col")),
-                tableAndSchemaNameMapper, 1, mock(JobRateLimitAlgorithm.class), 1, 1);
+                tableAndSchemaNameMapper, 1, mock(JobRateLimitAlgorithm.class), 1, 1, PipelineWriteMode.BATCH);
         assertThat(importerConfig.getQualifiedTables(), is(Collections.singletonList(new CaseInsensitiveQualifiedTable("foo_schema", "foo_tbl"))));
     }
 }
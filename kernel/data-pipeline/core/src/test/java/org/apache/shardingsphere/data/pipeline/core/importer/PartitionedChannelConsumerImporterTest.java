@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressListener;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PartitionedChannelConsumerImporterTest {
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertWriteByPartitions() {
+        List<Record> records = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            records.add(createDataRecord(PipelineSQLOperationType.INSERT, i, i));
+            records.add(createDataRecord(PipelineSQLOperationType.UPDATE, i, i));
+        }
+        records.add(new FinishedRecord(new IngestFinishedPosition()));
+        PipelineChannel channel = mock(PipelineChannel.class);
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(records);
+        PipelineSink sink = mock(PipelineSink.class);
+        Map<Object, List<PipelineSQLOperationType>> writtenTypes = new ConcurrentHashMap<>();
+        when(sink.write(eq(""), any())).thenAnswer(invocation -> {
+            Collection<Record> partition = invocation.getArgument(1);
+            for (Record each : partition) {
+                if (each instanceof DataRecord) {
+                    writtenTypes.computeIfAbsent(((DataRecord) each).getUniqueKeyValue().iterator().next(), key -> new ArrayList<>()).add(((DataRecord) each).getType());
+                }
+            }
+            return new PipelineJobUpdateProgress(partition.size());
+        });
+        PipelineJobProgressListener jobProgressListener = mock(PipelineJobProgressListener.class);
+        new PartitionedChannelConsumerImporter(channel, 100, 5L, sink, jobProgressListener, 4).run();
+        verify(sink, atLeast(2)).write(eq(""), any(Collection.class));
+        assertThat(writtenTypes.size(), is(16));
+        for (List<PipelineSQLOperationType> each : writtenTypes.values()) {
+            assertThat(each.get(0), is(PipelineSQLOperationType.INSERT));
+            assertThat(each.get(1), is(PipelineSQLOperationType.UPDATE));
+        }
+        verify(channel).ack(records);
+        ArgumentCaptor<PipelineJobUpdateProgress> progressCaptor = ArgumentCaptor.forClass(PipelineJobUpdateProgress.class);
+        verify(jobProgressListener).onProgressUpdated(progressCaptor.capture());
+        assertThat(progressCaptor.getValue().getProcessedRecordsCount(), is(records.size()));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertWriteInOneBatchWithUniqueKeyChanged() {
+        List<Record> records = new ArrayList<>();
+        records.add(createDataRecord(PipelineSQLOperationType.INSERT, 1, 1));
+        records.add(createDataRecord(PipelineSQLOperationType.UPDATE, 1, 2));
+        records.add(createDataRecord(PipelineSQLOperationType.INSERT, 3, 3));
+        records.add(new FinishedRecord(new IngestFinishedPosition()));
+        PipelineChannel channel = mock(PipelineChannel.class);
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(records);
+        PipelineSink sink = mock(PipelineSink.class);
+        when(sink.write(eq(""), any())).thenReturn(new PipelineJobUpdateProgress(2));
+        new PartitionedChannelConsumerImporter(channel, 100, 5L, sink, mock(PipelineJobProgressListener.class), 4).run();
+        verify(sink).write("", records);
+        verify(channel).ack(records);
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertWriteInOrderWithConcurrentPartitions() {
+        List<Record> firstRecords = new ArrayList<>();
+        List<Record> secondRecords = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            firstRecords.add(createDataRecord(PipelineSQLOperationType.INSERT, i, i));
+            firstRecords.add(createDataRecord(PipelineSQLOperationType.UPDATE, i, i));
+            secondRecords.add(createDataRecord(PipelineSQLOperationType.UPDATE, i, i));
+            secondRecords.add(createDataRecord(PipelineSQLOperationType.DELETE, i, i));
+        }
+        secondRecords.add(new FinishedRecord(new IngestFinishedPosition()));
+        PipelineChannel channel = mock(PipelineChannel.class);
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(firstRecords, secondRecords);
+        PipelineSink sink = mock(PipelineSink.class);
+        CountDownLatch concurrentLatch = new CountDownLatch(2);
+        AtomicBoolean concurrent = new AtomicBoolean();
+        Map<Object, List<PipelineSQLOperationType>> writtenTypes = new ConcurrentHashMap<>();
+        when(sink.write(eq(""), any())).thenAnswer(invocation -> {
+            concurrentLatch.countDown();
+            if (concurrentLatch.await(5L, TimeUnit.SECONDS)) {
+                concurrent.set(true);
+            }
+            Collection<Record> partition = invocation.getArgument(1);
+            for (Record each : partition) {
+                if (each instanceof DataRecord) {
+                    writtenTypes.computeIfAbsent(((DataRecord) each).getUniqueKeyValue().iterator().next(), key -> new ArrayList<>()).add(((DataRecord) each).getType());
+                }
+            }
+            return new PipelineJobUpdateProgress(partition.size());
+        });
+        new PartitionedChannelConsumerImporter(channel, 100, 5L, sink, mock(PipelineJobProgressListener.class), 4).run();
+        assertTrue(concurrent.get());
+        assertThat(writtenTypes.size(), is(16));
+        for (List<PipelineSQLOperationType> each : writtenTypes.values()) {
+            assertThat(each, is(Arrays.asList(PipelineSQLOperationType.INSERT, PipelineSQLOperationType.UPDATE, PipelineSQLOperationType.UPDATE, PipelineSQLOperationType.DELETE)));
+        }
+        verify(channel).ack(firstRecords);
+        verify(channel).ack(secondRecords);
+    }
+    
+    @Test
+    void assertAckAfterAllPartitionsWritten() {
+        List<Record> records = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            records.add(createDataRecord(PipelineSQLOperationType.INSERT, i, i));
+        }
+        records.add(new FinishedRecord(new IngestFinishedPosition()));
+        PipelineChannel channel = mock(PipelineChannel.class);
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(records);
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> events.add("ack")).when(channel).ack(records);
+        PipelineSink sink = mock(PipelineSink.class);
+        when(sink.write(eq(""), any())).thenAnswer(invocation -> {
+            Collection<Record> partition = invocation.getArgument(1);
+            if (partition.contains(records.get(0))) {
+                Thread.sleep(200L);
+            }
+            events.add("write");
+            return new PipelineJobUpdateProgress(partition.size());
+        });
+        PipelineJobProgressListener jobProgressListener = mock(PipelineJobProgressListener.class);
+        doAnswer(invocation -> events.add("progress")).when(jobProgressListener).onProgressUpdated(any(PipelineJobUpdateProgress.class));
+        new PartitionedChannelConsumerImporter(channel, 100, 5L, sink, jobProgressListener, 4).run();
+        assertTrue(events.size() > 3);
+        assertThat(events.indexOf("ack"), is(events.size() - 2));
+        assertThat(events.get(events.size() - 1), is("progress"));
+    }
+    
+    private DataRecord createDataRecord(final PipelineSQLOperationType type, final int oldId, final int id) {
+        DataRecord result = new DataRecord(type, "t_order", new IngestPlaceholderPosition(), 2);
+        result.addColumn(new NormalColumn("order_id", oldId, id, PipelineSQLOperationType.UPDATE == type && oldId != id, true));
+        result.addColumn(new NormalColumn("status", null, "OK", true, false));
+        return result;
+    }
+}
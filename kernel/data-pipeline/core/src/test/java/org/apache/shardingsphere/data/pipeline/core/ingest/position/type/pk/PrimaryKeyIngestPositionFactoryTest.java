@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk;
 
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.BinaryPrimaryKeyIngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.IntegerPrimaryKeyIngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.StringPrimaryKeyIngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.UnsupportedKeyIngestPosition;
@@ -47,6 +48,14 @@ class PrimaryKeyIngestPositionFactoryTest {
         assertThat(actual.getEndValue(), is("b"));
     }
     
+    @Test
+    void assertNewInstanceWithBinaryPrimaryKeyIngestPosition() {
+        BinaryPrimaryKeyIngestPosition actual = (BinaryPrimaryKeyIngestPosition) PrimaryKeyIngestPositionFactory.newInstance("b,01ab,");
+        assertThat(actual.getType(), is('b'));
+        assertThat(actual.getBeginValue(), is(new byte[]{0x01, (byte) 0xab}));
+        assertNull(actual.getEndValue());
+    }
+    
     @Test
     void assertNewInstanceWithUnsupportedKeyIngestPosition() {
         UnsupportedKeyIngestPosition actual = (UnsupportedKeyIngestPosition) PrimaryKeyIngestPositionFactory.newInstance("u,a,b");
@@ -94,6 +103,14 @@ class PrimaryKeyIngestPositionFactoryTest {
         assertNull(actual.getEndValue());
     }
     
+    @Test
+    void assertNewInstanceWithBinaryRange() {
+        BinaryPrimaryKeyIngestPosition actual = (BinaryPrimaryKeyIngestPosition) PrimaryKeyIngestPositionFactory.newInstance(new byte[]{0x01}, new byte[]{0x02});
+        assertThat(actual.getType(), is('b'));
+        assertThat(actual.getBeginValue(), is(new byte[]{0x01}));
+        assertThat(actual.getEndValue(), is(new byte[]{0x02}));
+    }
+    
     @Test
     void assertNewInstanceWithUnsupportedRange() {
         UnsupportedKeyIngestPosition actual = (UnsupportedKeyIngestPosition) PrimaryKeyIngestPositionFactory.newInstance(Collections.emptyList(), Collections.emptyList());
@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class BinaryPrimaryKeyIngestPositionTest {
+    
+    @Test
+    void assertToString() {
+        assertThat(new BinaryPrimaryKeyIngestPosition(new byte[]{0x01, (byte) 0xab}, new byte[]{0x7f}).toString(), is("b,01ab,7f"));
+    }
+    
+    @Test
+    void assertToStringWithNullValue() {
+        assertThat(new BinaryPrimaryKeyIngestPosition(null, null).toString(), is("b,,"));
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.core.job.progress.config.yaml.swapper;
 
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineWriteMode;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.config.PipelineProcessConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.config.PipelineReadConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.config.PipelineWriteConfiguration;
@@ -41,11 +42,14 @@ class YamlPipelineProcessConfigurationSwapperTest {
         assertThat(actual.getRead().getWorkerThread(), is(20));
         assertThat(actual.getRead().getBatchSize(), is(1000));
         assertThat(actual.getRead().getShardingSize(), is(10000000));
+        assertThat(actual.getRead().getIncrementalWorkerThread(), is(2));
         assertThat(actual.getRead().getRateLimiter().getType(), is("INPUT"));
         assertThat(actual.getRead().getRateLimiter().getProps().getProperty("batch-size"), is("1000"));
         assertThat(actual.getRead().getRateLimiter().getProps().getProperty("qps"), is("500"));
         assertThat(actual.getWrite().getWorkerThread(), is(20));
         assertThat(actual.getWrite().getBatchSize(), is(1000));
+        assertThat(actual.getWrite().getWriteMode(), is(PipelineWriteMode.MULTI_VALUES));
+        assertThat(actual.getWrite().getIncrementalWorkerThread(), is(4));
         assertThat(actual.getWrite().getRateLimiter().getType(), is("OUTPUT"));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("batch-size"), is("1000"));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("tps"), is("2000"));
@@ -58,6 +62,7 @@ class YamlPipelineProcessConfigurationSwapperTest {
         YamlAlgorithmConfiguration yamlReadRateLimiterConfig = new YamlAlgorithmConfiguration();
         yamlReadRateLimiterConfig.setType("INPUT");
         yamlReadRateLimiterConfig.setProps(PropertiesBuilder.build(new Property("batch-size", "1000"), new Property("qps", "500")));
+        yamlReadConfig.setIncrementalWorkerThread(2);
         yamlReadConfig.setRateLimiter(yamlReadRateLimiterConfig);
         YamlPipelineProcessConfiguration result = new YamlPipelineProcessConfiguration();
         result.setRead(yamlReadConfig);
@@ -65,6 +70,8 @@ class YamlPipelineProcessConfigurationSwapperTest {
         YamlAlgorithmConfiguration yamlWriteRateLimiterConfig = new YamlAlgorithmConfiguration();
         yamlWriteRateLimiterConfig.setType("OUTPUT");
         yamlWriteRateLimiterConfig.setProps(PropertiesBuilder.build(new Property("batch-size", "1000"), new Property("tps", "2000")));
+        yamlWriteConfig.setWriteMode("MULTI_VALUES");
+        yamlWriteConfig.setIncrementalWorkerThread(4);
         yamlWriteConfig.setRateLimiter(yamlWriteRateLimiterConfig);
         result.setWrite(yamlWriteConfig);
         YamlAlgorithmConfiguration streamChannelConfig = new YamlAlgorithmConfiguration();
@@ -76,9 +83,9 @@ class YamlPipelineProcessConfigurationSwapperTest {
     
     @Test
     void assertSwapToYamlConfiguration() {
-        PipelineReadConfiguration readConfig = new PipelineReadConfiguration(40, 1000, 10000000,
+        PipelineReadConfiguration readConfig = new PipelineReadConfiguration(40, 1000, 10000000, 2,
                 new AlgorithmConfiguration("INPUT", PropertiesBuilder.build(new Property("batch-size", "1000"), new Property("qps", "50"))));
-        PipelineWriteConfiguration writeConfig = new PipelineWriteConfiguration(40, 1000,
+        PipelineWriteConfiguration writeConfig = new PipelineWriteConfiguration(40, 1000, PipelineWriteMode.MULTI_VALUES, 4,
                 new AlgorithmConfiguration("OUTPUT", PropertiesBuilder.build(new Property("batch-size", "1000"), new Property("tps", "2000"))));
         PipelineProcessConfiguration config = new PipelineProcessConfiguration(readConfig, writeConfig,
                 new AlgorithmConfiguration("MEMORY", PropertiesBuilder.build(new Property("block-queue-size", "2000"))));
@@ -86,11 +93,14 @@ class YamlPipelineProcessConfigurationSwapperTest {
         assertThat(actual.getRead().getWorkerThread(), is(40));
         assertThat(actual.getRead().getBatchSize(), is(1000));
         assertThat(actual.getRead().getShardingSize(), is(10000000));
+        assertThat(actual.getRead().getIncrementalWorkerThread(), is(2));
         assertThat(actual.getRead().getRateLimiter().getType(), is("INPUT"));
         assertThat(actual.getRead().getRateLimiter().getProps().getProperty("batch-size"), is("1000"));
         assertThat(actual.getRead().getRateLimiter().getProps().getProperty("qps"), is("50"));
         assertThat(actual.getWrite().getWorkerThread(), is(40));
         assertThat(actual.getWrite().getBatchSize(), is(1000));
+        assertThat(actual.getWrite().getWriteMode(), is("MULTI_VALUES"));
+        assertThat(actual.getWrite().getIncrementalWorkerThread(), is(4));
         assertThat(actual.getWrite().getRateLimiter().getType(), is("OUTPUT"));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("batch-size"), is("1000"));
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("tps"), is("2000"));
@@ -18,17 +18,51 @@
 package org.apache.shardingsphere.data.pipeline.core.job.progress.persist;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.context.PipelineJobItemContext;
+import org.apache.shardingsphere.data.pipeline.core.job.PipelineJob;
+import org.apache.shardingsphere.data.pipeline.core.job.PipelineJobRegistry;
+import org.apache.shardingsphere.data.pipeline.core.job.api.PipelineAPIFactory;
+import org.apache.shardingsphere.data.pipeline.core.job.engine.PipelineJobRunnerManager;
+import org.apache.shardingsphere.data.pipeline.core.job.id.PipelineJobIdUtils;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.PipelineJobItemProgress;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.yaml.config.YamlPipelineJobItemProgressConfiguration;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.yaml.config.YamlTransmissionJobItemProgress;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.yaml.swapper.YamlPipelineJobItemProgressSwapper;
+import org.apache.shardingsphere.data.pipeline.core.job.type.PipelineJobType;
+import org.apache.shardingsphere.data.pipeline.core.registrycenter.repository.PipelineGovernanceFacade;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.apache.shardingsphere.test.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.mock.StaticMockSettings;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.internal.configuration.plugins.Plugins;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings({PipelineJobRegistry.class, PipelineJobIdUtils.class, TypedSPILoader.class, PipelineAPIFactory.class})
 class PipelineJobProgressPersistServiceTest {
     
     @Test
@@ -66,4 +100,130 @@ class PipelineJobProgressPersistServiceTest {
         PipelineJobProgressPersistService.add("foo_id", 1);
         assertDoesNotThrow(() -> PipelineJobProgressPersistService.persistNow("foo_id", 1));
     }
+    
+    @Test
+    void assertPersistNowWithChangedProgress() {
+        PipelineGovernanceFacade governanceFacade = mock(PipelineGovernanceFacade.class, RETURNS_DEEP_STUBS);
+        String progressContent = mockPersistEnvironment(governanceFacade);
+        PipelineJobProgressPersistService.add("foo_id", 1);
+        PipelineJobProgressPersistContext persistContext = getJobProgressPersistMap().get("foo_id").get(1);
+        PipelineJobProgressPersistService.notifyPersist("foo_id", 1);
+        PipelineJobProgressPersistService.persistNow("foo_id", 1);
+        verify(governanceFacade.getJobItemFacade().getProcess()).update("foo_id", 1, progressContent);
+        assertThat(persistContext.getPersistedProgressContent(), is(progressContent));
+        assertThat(persistContext.getUnhandledEventCount().get(), is(0L));
+    }
+    
+    @Test
+    void assertPersistNowWithUnchangedProgress() {
+        PipelineGovernanceFacade governanceFacade = mock(PipelineGovernanceFacade.class, RETURNS_DEEP_STUBS);
+        String progressContent = mockPersistEnvironment(governanceFacade);
+        PipelineJobProgressPersistService.add("foo_id", 1);
+        PipelineJobProgressPersistContext persistContext = getJobProgressPersistMap().get("foo_id").get(1);
+        persistContext.setPersistedProgressContent(progressContent);
+        PipelineJobProgressPersistService.notifyPersist("foo_id", 1);
+        PipelineJobProgressPersistService.persistNow("foo_id", 1);
+        verify(governanceFacade.getJobItemFacade().getProcess(), never()).update(anyString(), anyInt(), anyString());
+        assertThat(persistContext.getUnhandledEventCount().get(), is(0L));
+    }
+    
+    @Test
+    void assertPersistNowWhenScheduledPersistRunning() throws InterruptedException {
+        PipelineGovernanceFacade governanceFacade = mock(PipelineGovernanceFacade.class, RETURNS_DEEP_STUBS);
+        String progressContent = mockPersistEnvironment(governanceFacade);
+        PipelineJobProgressPersistService.add("foo_id", 1);
+        PipelineJobProgressPersistContext persistContext = getJobProgressPersistMap().get("foo_id").get(1);
+        PipelineJobProgressPersistService.notifyPersist("foo_id", 1);
+        Thread persistNowThread = Thread.currentThread();
+        CountDownLatch scheduledPersistStarted = new CountDownLatch(1);
+        AtomicBoolean persistNowPending = new AtomicBoolean(true);
+        PipelineJobRunnerManager jobRunnerManager = mock(PipelineJobRunnerManager.class);
+        PipelineJob job = mock(PipelineJob.class);
+        when(job.getJobRunnerManager()).thenAnswer(invocation -> {
+            scheduledPersistStarted.countDown();
+            while (persistNowPending.get() && Thread.State.BLOCKED != persistNowThread.getState()) {
+                Thread.sleep(10L);
+            }
+            return jobRunnerManager;
+        });
+        getJobs().put("foo_id", job);
+        Thread scheduledPersistThread = new Thread(() -> persistBySchedule(persistContext));
+        try {
+            scheduledPersistThread.start();
+            scheduledPersistStarted.await();
+            PipelineJobProgressPersistService.persistNow("foo_id", 1);
+        } finally {
+            persistNowPending.set(false);
+            scheduledPersistThread.join();
+            getJobs().remove("foo_id");
+        }
+        verify(governanceFacade.getJobItemFacade().getProcess()).update("foo_id", 1, progressContent);
+        assertThat(persistContext.getUnhandledEventCount().get(), is(0L));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private String mockPersistEnvironment(final PipelineGovernanceFacade governanceFacade) {
+        PipelineJobItemContext jobItemContext = mock(PipelineJobItemContext.class);
+        when(jobItemContext.getJobId()).thenReturn("foo_id");
+        when(jobItemContext.getShardingItem()).thenReturn(1);
+        when(PipelineJobRegistry.getItemContext("foo_id", 1)).thenReturn(Optional.of(jobItemContext));
+        PipelineJobType jobType = mock(PipelineJobType.class);
+        when(jobType.getType()).thenReturn("FIXTURE");
+        when(PipelineJobIdUtils.parseJobType("foo_id")).thenReturn(jobType);
+        when(TypedSPILoader.getService(PipelineJobType.class, "FIXTURE")).thenReturn(jobType);
+        YamlTransmissionJobItemProgress yamlProgress = new YamlTransmissionJobItemProgress();
+        yamlProgress.setStatus("EXECUTE_INCREMENTAL_TASK");
+        YamlPipelineJobItemProgressSwapper<YamlPipelineJobItemProgressConfiguration, PipelineJobItemProgress> swapper = mock(YamlPipelineJobItemProgressSwapper.class);
+        when(swapper.swapToYamlConfiguration(any())).thenReturn(yamlProgress);
+        doReturn(swapper).when(jobType).getYamlJobItemProgressSwapper();
+        when(PipelineAPIFactory.getPipelineGovernanceFacade(any())).thenReturn(governanceFacade);
+        return YamlEngine.marshal(yamlProgress);
+    }
+    
+    @SuppressWarnings("unchecked")
+    @SneakyThrows(ReflectiveOperationException.class)
+    private Map<String, PipelineJob> getJobs() {
+        Field field = PipelineJobRegistry.class.getDeclaredField("JOBS");
+        return (Map<String, PipelineJob>) Plugins.getMemberAccessor().get(field, PipelineJobRegistry.class);
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void persistBySchedule(final PipelineJobProgressPersistContext persistContext) {
+        Method method = getPersistJobContextRunnableClass().getDeclaredMethod("persist", String.class, int.class, PipelineJobProgressPersistContext.class);
+        Plugins.getMemberAccessor().invoke(method, null, "foo_id", 1, persistContext);
+    }
+    
+    @Test
+    void assertCoalesceFewEventsUntilMaxCoalesceTime() {
+        PipelineJobProgressPersistContext persistContext = new PipelineJobProgressPersistContext("foo_id", 1);
+        persistContext.getUnhandledEventCount().set(1L);
+        persistContext.setLastPersistMillis(10000L);
+        assertFalse(isPersistRequired(persistContext, 12999L));
+        assertTrue(isPersistRequired(persistContext, 13000L));
+    }
+    
+    @Test
+    void assertPersistBusyItemImmediately() {
+        PipelineJobProgressPersistContext persistContext = new PipelineJobProgressPersistContext("foo_id", 1);
+        persistContext.getUnhandledEventCount().set(10L);
+        persistContext.setLastPersistMillis(10000L);
+        assertTrue(isPersistRequired(persistContext, 10000L));
+    }
+    
+    @Test
+    void assertNotPersistWithoutUnhandledEvent() {
+        PipelineJobProgressPersistContext persistContext = new PipelineJobProgressPersistContext("foo_id", 1);
+        assertFalse(isPersistRequired(persistContext, 10000L));
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private boolean isPersistRequired(final PipelineJobProgressPersistContext persistContext, final long currentMillis) {
+        Method method = getPersistJobContextRunnableClass().getDeclaredMethod("isPersistRequired", PipelineJobProgressPersistContext.class, long.class);
+        return (boolean) Plugins.getMemberAccessor().invoke(method, null, persistContext, currentMillis);
+    }
+    
+    @SneakyThrows(ClassNotFoundException.class)
+    private Class<?> getPersistJobContextRunnableClass() {
+        return Class.forName(PipelineJobProgressPersistService.class.getName() + "$PersistJobContextRunnable");
+    }
 }
@@ -20,13 +20,19 @@ package org.apache.shardingsphere.data.pipeline.core.preparer.inventory.calculat
 import org.apache.commons.lang3.Range;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.IntegerPrimaryKeyIngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.StringPrimaryKeyIngestPosition;
 import org.junit.jupiter.api.Test;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class InventoryPositionCalculatorTest {
     
@@ -77,4 +83,26 @@ class InventoryPositionCalculatorTest {
         assertPosition(new IntegerPrimaryKeyIngestPosition(minimum, 0L), (IntegerPrimaryKeyIngestPosition) actualPositions.get(0));
         assertPosition(new IntegerPrimaryKeyIngestPosition(1L, maximum), (IntegerPrimaryKeyIngestPosition) actualPositions.get(1));
     }
+    
+    @Test
+    void assertGetPositionBySortedUniqueKeyValues() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, true, true, true, true, true, false);
+        when(resultSet.getObject(1)).thenReturn("a", "b", "b", "c", "d", "e");
+        List<IngestPosition> actualPositions = (List<IngestPosition>) InventoryPositionCalculator.getPositionBySortedUniqueKeyValues(resultSet, 2L);
+        assertThat(actualPositions.size(), is(3));
+        assertStringPosition((StringPrimaryKeyIngestPosition) actualPositions.get(0), "a", "b");
+        assertStringPosition((StringPrimaryKeyIngestPosition) actualPositions.get(1), "c", "d");
+        assertStringPosition((StringPrimaryKeyIngestPosition) actualPositions.get(2), "e", "e");
+    }
+    
+    private void assertStringPosition(final StringPrimaryKeyIngestPosition actual, final String expectedBeginValue, final String expectedEndValue) {
+        assertThat(actual.getBeginValue(), is(expectedBeginValue));
+        assertThat(actual.getEndValue(), is(expectedEndValue));
+    }
+    
+    @Test
+    void assertGetPositionBySortedUniqueKeyValuesWithoutValue() throws SQLException {
+        assertTrue(InventoryPositionCalculator.getPositionBySortedUniqueKeyValues(mock(ResultSet.class), 2L).isEmpty());
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ratelimit.type;
+
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.ratelimit.JobRateLimitAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdaptiveJobRateLimitAlgorithmTest {
+    
+    @Test
+    void assertInitFailedWithMinRateGreaterThanMaxRate() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(JobRateLimitAlgorithm.class, "ADAPTIVE", PropertiesBuilder.build(new Property("max-rate", "10"), new Property("min-rate", "20"))));
+    }
+    
+    @Test
+    void assertInitFailedWithInvalidDecreaseFactor() {
+        assertThrows(AlgorithmInitializationException.class, () -> TypedSPILoader.getService(JobRateLimitAlgorithm.class, "ADAPTIVE", PropertiesBuilder.build(new Property("decrease-factor", "1"))));
+    }
+    
+    @Test
+    void assertIntercept() {
+        JobRateLimitAlgorithm algorithm = TypedSPILoader.getService(JobRateLimitAlgorithm.class, "ADAPTIVE");
+        assertDoesNotThrow(() -> algorithm.intercept(PipelineSQLOperationType.SELECT, null));
+        assertDoesNotThrow(() -> algorithm.intercept(PipelineSQLOperationType.INSERT, 2));
+    }
+    
+    @Test
+    void assertFeedback() {
+        AdaptiveJobRateLimitAlgorithm algorithm = (AdaptiveJobRateLimitAlgorithm) TypedSPILoader.getService(JobRateLimitAlgorithm.class, "ADAPTIVE", PropertiesBuilder.build(
+                new Property("max-rate", "100"), new Property("min-rate", "20"), new Property("latency-threshold-millis", "50"), new Property("increase-step", "5"), new Property("decrease-factor", "0.5")));
+        assertThat(algorithm.getCurrentRate(), closeTo(100D, 0.01D));
+        algorithm.feedback(PipelineSQLOperationType.INSERT, 10L);
+        assertThat(algorithm.getCurrentRate(), closeTo(100D, 0.01D));
+        algorithm.feedback(PipelineSQLOperationType.INSERT, 100L);
+        assertThat(algorithm.getCurrentRate(), closeTo(50D, 0.01D));
+        algorithm.feedback(PipelineSQLOperationType.INSERT, 100L);
+        assertThat(algorithm.getCurrentRate(), closeTo(50D, 0.01D));
+        algorithm.feedback(PipelineSQLOperationType.SELECT, 10L);
+        assertThat(algorithm.getCurrentRate(), closeTo(55D, 0.01D));
+    }
+}
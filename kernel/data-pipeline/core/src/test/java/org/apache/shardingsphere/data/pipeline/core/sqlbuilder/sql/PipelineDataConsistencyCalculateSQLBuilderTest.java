@@ -75,4 +75,18 @@ class PipelineDataConsistencyCalculateSQLBuilderTest {
         Optional<String> actual = sqlBuilder.buildCRC32SQL("foo_schema", "foo_tbl", "foo_col");
         assertThat(actual, is(Optional.of("SELECT CRC32(foo_col) FROM foo_tbl")));
     }
+    
+    @Test
+    void assertBuildCRC32SQLWithQueryRange() {
+        Optional<String> actual = sqlBuilder.buildCRC32SQL("foo_schema", "foo_tbl", "foo_col", "id", new QueryRange(1, false, 5));
+        assertThat(actual, is(Optional.of("SELECT CRC32(foo_col) FROM foo_tbl WHERE id>? AND id<=?")));
+        actual = sqlBuilder.buildCRC32SQL("foo_schema", "foo_tbl", "foo_col", "id", new QueryRange(null, false, null));
+        assertThat(actual, is(Optional.of("SELECT CRC32(foo_col) FROM foo_tbl")));
+    }
+    
+    @Test
+    void assertBuildQueryRangeUniqueKeyValuesSQL() {
+        String actual = sqlBuilder.buildQueryRangeUniqueKeyValuesSQL(null, "t_order", "order_id", new QueryRange(1, false, null));
+        assertThat(actual, is("SELECT order_id FROM t_order WHERE order_id>? ORDER BY order_id ASC"));
+    }
 }
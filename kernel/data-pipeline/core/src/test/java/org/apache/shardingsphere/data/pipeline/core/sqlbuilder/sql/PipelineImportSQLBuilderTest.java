@@ -43,6 +43,12 @@ class PipelineImportSQLBuilderTest {
         assertThat(actual, is("INSERT INTO foo_tbl(id,foo_col,col1,col2,col3) VALUES(?,?,?,?,?)"));
     }
     
+    @Test
+    void assertBuildMultipleRowsInsertSQL() {
+        String actual = sqlBuilder.buildInsertSQL(null, createDataRecordWithUniqueKey(), 3);
+        assertThat(actual, is("INSERT INTO foo_tbl(id,foo_col,col1,col2,col3) VALUES(?,?,?,?,?),(?,?,?,?,?),(?,?,?,?,?)"));
+    }
+    
     @Test
     void assertBuildUpdateSQLWithUniqueKey() {
         DataRecord dataRecord = createDataRecordWithUniqueKey();
@@ -54,6 +54,11 @@ class PipelinePrepareSQLBuilderTest {
         assertThat(sqlBuilder.buildUniqueKeyMinMaxValuesSQL("foo_schema", "foo_tbl", "foo_key"), is("SELECT MIN(foo_key), MAX(foo_key) FROM foo_tbl"));
     }
     
+    @Test
+    void assertBuildSortedUniqueKeyValuesSQL() {
+        assertThat(sqlBuilder.buildSortedUniqueKeyValuesSQL("foo_schema", "foo_tbl", "foo_key"), is("SELECT foo_key FROM foo_tbl ORDER BY foo_key ASC"));
+    }
+    
     @Test
     void assertBuildCheckEmptyTableSQL() {
         assertThat(sqlBuilder.buildCheckEmptyTableSQL("foo_schema", "foo_tbl"), is("SELECT * FROM foo_tbl LIMIT 1"));
@@ -21,6 +21,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.type.StandardPipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
 import org.apache.shardingsphere.data.pipeline.core.execute.AbstractPipelineLifecycleRunnable;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.IncrementalDumper;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.IncrementalDumperContext;
@@ -46,17 +47,26 @@ import org.apache.shardingsphere.infra.database.core.connector.ConnectionPropert
 import org.apache.shardingsphere.infra.database.core.connector.ConnectionPropertiesParser;
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.metadata.caseinsensitive.CaseInsensitiveIdentifier;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * MySQL incremental dumper.
+ *
+ * <p>If convert concurrency is greater than 1, only binlog events to records conversion runs concurrently,
+ * binlog fetching and decoding are still single threaded and records are pushed to channel in binlog order.</p>
  */
 @HighFrequencyInvocation
 @Slf4j
@@ -85,8 +95,8 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
         ConnectInfo connectInfo = new ConnectInfo(
                 generateServerId(), connectionProps.getHostname(), connectionProps.getPort(), pipelineDataSourceConfig.getUsername(), pipelineDataSourceConfig.getPassword());
         log.info("incremental dump, jdbcUrl={}, serverId={}, hostname={}, port={}", pipelineDataSourceConfig.getUrl(), connectInfo.getServerId(), connectInfo.getHost(), connectInfo.getPort());
-        client = new MySQLBinlogClient(connectInfo, dumperContext.isDecodeWithTX());
         catalog = connectionProps.getCatalog();
+        client = new MySQLBinlogClient(connectInfo, dumperContext.isDecodeWithTX(), each -> isSubscribedTable(each.getSchemaName(), each.getTableName()));
     }
     
     private int generateServerId() {
@@ -98,18 +108,58 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
     protected void runBlocking() {
         client.connect();
         client.subscribe(binlogPosition.getFilename(), binlogPosition.getPosition());
+        if (dumperContext.getConvertConcurrency() <= 1) {
+            while (isRunning()) {
+                pushRecords(convertEvents(client.poll()));
+            }
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(dumperContext.getConvertConcurrency(), ExecutorThreadFactoryBuilder.build(dumperContext.getJobId() + "-binlog-convert-%d"));
+        try {
+            runBlocking(executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private void runBlocking(final ExecutorService executor) {
+        Deque<Future<List<Record>>> convertingFutures = new LinkedList<>();
         while (isRunning()) {
-            handleEvents(client.poll());
+            List<MySQLBaseBinlogEvent> events = client.poll();
+            if (!events.isEmpty()) {
+                convertingFutures.add(executor.submit(() -> convertEvents(events)));
+            }
+            while (!convertingFutures.isEmpty() && (events.isEmpty() || convertingFutures.size() > dumperContext.getConvertConcurrency() || convertingFutures.peek().isDone())) {
+                pushRecords(waitConverted(convertingFutures.poll()));
+            }
         }
     }
     
-    private void handleEvents(final List<MySQLBaseBinlogEvent> events) {
-        List<Record> dataRecords = new LinkedList<>();
+    private List<Record> waitConverted(final Future<List<Record>> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new PipelineInternalException(ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new PipelineInternalException(ex.getCause());
+        }
+    }
+    
+    private List<Record> convertEvents(final List<MySQLBaseBinlogEvent> events) {
+        List<Record> result = new LinkedList<>();
         for (MySQLBaseBinlogEvent each : events) {
-            dataRecords.addAll(handleEvent(each));
+            result.addAll(handleEvent(each));
         }
-        if (!dataRecords.isEmpty()) {
-            channel.push(dataRecords);
+        return result;
+    }
+    
+    private void pushRecords(final List<Record> records) {
+        if (!records.isEmpty()) {
+            channel.push(records);
         }
     }
     
@@ -118,7 +168,7 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
             return Collections.singletonList(createPlaceholderRecord(event));
         }
         MySQLBaseRowsBinlogEvent rowsEvent = (MySQLBaseRowsBinlogEvent) event;
-        if (!rowsEvent.getDatabaseName().equals(catalog) || !dumperContext.getCommonContext().getTableNameMapper().containsTable(rowsEvent.getTableName())) {
+        if (!isSubscribedTable(rowsEvent.getDatabaseName(), rowsEvent.getTableName())) {
             return Collections.singletonList(createPlaceholderRecord(event));
         }
         PipelineTableMetaData tableMetaData = getPipelineTableMetaData(rowsEvent.getTableName());
@@ -134,6 +184,10 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
         return Collections.emptyList();
     }
     
+    private boolean isSubscribedTable(final String databaseName, final String tableName) {
+        return databaseName.equals(catalog) && dumperContext.getCommonContext().getTableNameMapper().containsTable(tableName);
+    }
+    
     private PlaceholderRecord createPlaceholderRecord(final MySQLBaseBinlogEvent event) {
         PlaceholderRecord result = new PlaceholderRecord(new MySQLBinlogPosition(event.getFileName(), event.getPosition()));
         result.setCommitTime(event.getTimestamp() * 1000L);
@@ -67,7 +67,7 @@ class MySQLBinlogClientTest {
     @SuppressWarnings("unchecked")
     @BeforeEach
     void setUp() {
-        client = new MySQLBinlogClient(new ConnectInfo(1, "host", 3306, "username", "password"), false);
+        client = new MySQLBinlogClient(new ConnectInfo(1, "host", 3306, "username", "password"), false, each -> true);
         when(channel.pipeline()).thenReturn(pipeline);
         when(channel.isOpen()).thenReturn(true);
         when(channel.close()).thenReturn(channelFuture);
@@ -74,7 +74,7 @@ class MySQLBinlogEventPacketDecoderTest {
     
     @BeforeEach
     void setUp() throws NoSuchFieldException, IllegalAccessException {
-        binlogEventPacketDecoder = new MySQLBinlogEventPacketDecoder(4, new ConcurrentHashMap<>(), true);
+        binlogEventPacketDecoder = new MySQLBinlogEventPacketDecoder(4, new ConcurrentHashMap<>(), true, each -> "t_order".equals(each.getTableName()));
         binlogContext = (MySQLBinlogContext) Plugins.getMemberAccessor().get(MySQLBinlogEventPacketDecoder.class.getDeclaredField("binlogContext"), binlogEventPacketDecoder);
         when(channelHandlerContext.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()).thenReturn(StandardCharsets.UTF_8);
         columnDefs = Lists.newArrayList(new MySQLBinlogColumnDef(MySQLBinaryColumnType.LONGLONG), new MySQLBinlogColumnDef(MySQLBinaryColumnType.LONG),
@@ -144,6 +144,7 @@ class MySQLBinlogEventPacketDecoderTest {
         byteBuf.writeBytes(StringUtil.decodeHexDump("007a36a9621e0100000038000000bb7c000000007b00000000000100020004ff08010000000000000001000000075355434345535365eff9ff"));
         byteBuf.writeBytes(StringUtil.decodeHexDump("006acb656410010000001f000000fa29000000001643000000000000b13f8340"));
         binlogContext.getTableMap().put(123L, tableMapEventPacket);
+        when(tableMapEventPacket.getTableName()).thenReturn("t_order");
         when(tableMapEventPacket.getColumnDefs()).thenReturn(columnDefs);
         List<Object> decodedEvents = new LinkedList<>();
         binlogEventPacketDecoder.decode(channelHandlerContext, byteBuf, decodedEvents);
@@ -162,6 +163,7 @@ class MySQLBinlogEventPacketDecoderTest {
                 + "6461746564e78cee6c"));
         byteBuf.writeBytes(StringUtil.decodeHexDump("006acb656410010000001f000000fa29000000001643000000000000b13f8340"));
         binlogContext.getTableMap().put(123L, tableMapEventPacket);
+        when(tableMapEventPacket.getTableName()).thenReturn("t_order");
         when(tableMapEventPacket.getColumnDefs()).thenReturn(columnDefs);
         List<Object> decodedEvents = new LinkedList<>();
         binlogEventPacketDecoder.decode(channelHandlerContext, byteBuf, decodedEvents);
@@ -180,6 +182,7 @@ class MySQLBinlogEventPacketDecoderTest {
         byteBuf.writeBytes(StringUtil.decodeHexDump("002a80a862200100000038000000c569000000007400000000000100020004ff0801000000000000000100000007535543434553531c9580c5"));
         byteBuf.writeBytes(StringUtil.decodeHexDump("006acb656410010000001f000000fa29000000001643000000000000b13f8340"));
         binlogContext.getTableMap().put(116L, tableMapEventPacket);
+        when(tableMapEventPacket.getTableName()).thenReturn("t_order");
         when(tableMapEventPacket.getColumnDefs()).thenReturn(columnDefs);
         List<Object> decodedEvents = new LinkedList<>();
         binlogEventPacketDecoder.decode(channelHandlerContext, byteBuf, decodedEvents);
@@ -191,6 +194,23 @@ class MySQLBinlogEventPacketDecoderTest {
         assertThat(actual.getBeforeRows().get(0), is(new Serializable[]{1L, 1, new MySQLBinaryString("SUCCESS".getBytes()), null}));
     }
     
+    @Test
+    void assertDecodeRowEventOfUnsubscribedTable() {
+        ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
+        byteBuf.writeBytes(StringUtil.decodeHexDump("002a80a862200100000038000000c569000000007400000000000100020004ff0801000000000000000100000007535543434553531c9580c5"));
+        byteBuf.writeBytes(StringUtil.decodeHexDump("006acb656410010000001f000000fa29000000001643000000000000b13f8340"));
+        binlogContext.getTableMap().put(116L, tableMapEventPacket);
+        when(tableMapEventPacket.getTableName()).thenReturn("t_order_item");
+        List<Object> decodedEvents = new LinkedList<>();
+        binlogEventPacketDecoder.decode(channelHandlerContext, byteBuf, decodedEvents);
+        assertTrue(decodedEvents.isEmpty());
+        binlogEventPacketDecoder.decode(channelHandlerContext, byteBuf, decodedEvents);
+        assertThat(decodedEvents.size(), is(1));
+        LinkedList<?> actualEventList = (LinkedList<?>) decodedEvents.get(0);
+        assertThat(actualEventList.size(), is(1));
+        assertThat(actualEventList.get(0), instanceOf(MySQLXidBinlogEvent.class));
+    }
+    
     @Test
     void assertBinlogEventHeaderIncomplete() {
         ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
@@ -201,6 +221,7 @@ class MySQLBinlogEventPacketDecoderTest {
         byteBuf.writeBytes(StringUtil.decodeHexDump("3400"));
         List<Object> decodedEvents = new LinkedList<>();
         binlogContext.getTableMap().put(116L, tableMapEventPacket);
+        when(tableMapEventPacket.getTableName()).thenReturn("t_order");
         when(tableMapEventPacket.getColumnDefs()).thenReturn(columnDefs);
         binlogEventPacketDecoder.decode(channelHandlerContext, byteBuf, decodedEvents);
         assertThat(decodedEvents.size(), is(1));
@@ -216,6 +237,7 @@ class MySQLBinlogEventPacketDecoderTest {
         byteBuf.writeBytes(notCompleteData);
         List<Object> decodedEvents = new LinkedList<>();
         binlogContext.getTableMap().put(116L, tableMapEventPacket);
+        when(tableMapEventPacket.getTableName()).thenReturn("t_order");
         when(tableMapEventPacket.getColumnDefs()).thenReturn(columnDefs);
         binlogEventPacketDecoder.decode(channelHandlerContext, byteBuf, decodedEvents);
         assertThat(decodedEvents.size(), is(1));
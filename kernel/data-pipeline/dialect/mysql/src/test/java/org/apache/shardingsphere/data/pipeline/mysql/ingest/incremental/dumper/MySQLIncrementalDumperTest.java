@@ -37,6 +37,7 @@ import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.e
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.PlaceholderBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLUpdateRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLWriteRowsBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.client.MySQLBinlogClient;
 import org.apache.shardingsphere.infra.metadata.caseinsensitive.CaseInsensitiveIdentifier;
 import org.apache.shardingsphere.test.fixture.jdbc.MockedDriver;
 import org.junit.jupiter.api.BeforeAll;
@@ -54,11 +55,13 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -189,4 +192,31 @@ class MySQLIncrementalDumperTest {
         assertThat(actual.size(), is(1));
         assertThat(actual.get(0), instanceOf(DataRecord.class));
     }
+    
+    @Test
+    void assertRunBlockingWithConvertConcurrency() throws ReflectiveOperationException {
+        IncrementalDumperContext dumperContext = createDumperContext();
+        dumperContext.setConvertConcurrency(2);
+        MemoryPipelineChannel channel = new MemoryPipelineChannel(10000, records -> {
+            
+        });
+        MySQLIncrementalDumper dumper = new MySQLIncrementalDumper(dumperContext, new MySQLBinlogPosition("binlog-000001", 4L), channel, mock(PipelineTableMetaDataLoader.class));
+        MySQLBinlogClient client = mock(MySQLBinlogClient.class);
+        Plugins.getMemberAccessor().set(MySQLIncrementalDumper.class.getDeclaredField("client"), dumper, client);
+        AtomicInteger pollCount = new AtomicInteger();
+        when(client.poll()).thenAnswer(invocation -> {
+            int count = pollCount.incrementAndGet();
+            if (count > 5) {
+                dumper.stop();
+                return Collections.emptyList();
+            }
+            return Arrays.asList(new PlaceholderBinlogEvent("binlog-000001", count * 2L, 0L), new PlaceholderBinlogEvent("binlog-000001", count * 2L + 1L, 0L));
+        });
+        dumper.start();
+        List<Record> actual = channel.fetch(10, 1000L);
+        assertThat(actual.size(), is(10));
+        for (int i = 0; i < actual.size(); i++) {
+            assertThat(((MySQLBinlogPosition) actual.get(i).getPosition()).getPosition(), is(i + 2L));
+        }
+    }
 }
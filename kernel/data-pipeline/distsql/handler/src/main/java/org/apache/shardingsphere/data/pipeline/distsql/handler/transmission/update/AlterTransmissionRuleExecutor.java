@@ -36,6 +36,7 @@ public final class AlterTransmissionRuleExecutor implements DistSQLUpdateExecuto
     
     @Override
     public void executeUpdate(final AlterTransmissionRuleStatement sqlStatement, final ContextManager contextManager) {
+        TransmissionRuleSegmentChecker.check(sqlStatement.getProcessConfigSegment());
         PipelineProcessConfiguration processConfig = TransmissionProcessConfigurationSegmentConverter.convert(sqlStatement.getProcessConfigSegment());
         String jobType = TypedSPILoader.getService(PipelineJobType.class, sqlStatement.getJobTypeName()).getType();
         processConfigPersistService.persist(new PipelineContextKey(InstanceType.PROXY), jobType, processConfig);
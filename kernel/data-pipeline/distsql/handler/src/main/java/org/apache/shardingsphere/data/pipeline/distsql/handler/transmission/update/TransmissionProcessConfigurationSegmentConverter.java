@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.distsql.handler.transmission.upd
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineWriteMode;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.config.PipelineProcessConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.config.PipelineReadConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.config.PipelineWriteConfiguration;
@@ -49,11 +50,19 @@ public final class TransmissionProcessConfigurationSegmentConverter {
     private static PipelineReadConfiguration convertToReadConfiguration(final ReadOrWriteSegment readSegment) {
         return null == readSegment
                 ? null
-                : new PipelineReadConfiguration(readSegment.getWorkerThread(), readSegment.getBatchSize(), readSegment.getShardingSize(), convertToAlgorithm(readSegment.getRateLimiter()));
+                : new PipelineReadConfiguration(readSegment.getWorkerThread(), readSegment.getBatchSize(), readSegment.getShardingSize(), readSegment.getIncrementalWorkerThread(),
+                        convertToAlgorithm(readSegment.getRateLimiter()));
     }
     
     private static PipelineWriteConfiguration convertToWriteConfiguration(final ReadOrWriteSegment writeSegment) {
-        return null == writeSegment ? null : new PipelineWriteConfiguration(writeSegment.getWorkerThread(), writeSegment.getBatchSize(), convertToAlgorithm(writeSegment.getRateLimiter()));
+        return null == writeSegment
+                ? null
+                : new PipelineWriteConfiguration(writeSegment.getWorkerThread(), writeSegment.getBatchSize(), convertToWriteMode(writeSegment.getWriteMode()),
+                        writeSegment.getIncrementalWorkerThread(), convertToAlgorithm(writeSegment.getRateLimiter()));
+    }
+    
+    private static PipelineWriteMode convertToWriteMode(final String writeMode) {
+        return null == writeMode ? null : PipelineWriteMode.valueOf(writeMode.toUpperCase());
     }
     
     private static AlgorithmConfiguration convertToAlgorithm(final AlgorithmSegment segment) {
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.distsql.handler.transmission.update;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineWriteMode;
+import org.apache.shardingsphere.distsql.segment.ReadOrWriteSegment;
+import org.apache.shardingsphere.distsql.segment.TransmissionRuleSegment;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+
+import java.util.Arrays;
+
+/**
+ * Transmission rule segment checker.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TransmissionRuleSegmentChecker {
+    
+    /**
+     * Check transmission rule segment.
+     *
+     * @param segment transmission rule segment
+     * @throws PipelineInvalidParameterException pipeline invalid parameter exception
+     */
+    public static void check(final TransmissionRuleSegment segment) {
+        checkWriteMode(segment.getWriteSegment());
+    }
+    
+    private static void checkWriteMode(final ReadOrWriteSegment writeSegment) {
+        if (null == writeSegment || null == writeSegment.getWriteMode()) {
+            return;
+        }
+        String writeMode = writeSegment.getWriteMode();
+        ShardingSpherePreconditions.checkState(Arrays.stream(PipelineWriteMode.values()).anyMatch(each -> each.name().equalsIgnoreCase(writeMode)),
+                () -> new PipelineInvalidParameterException(String.format("WRITE_MODE `%s`, it should be one of %s", writeMode, Arrays.toString(PipelineWriteMode.values()))));
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.distsql.handler.transmission.update;
+
+import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
+import org.apache.shardingsphere.distsql.segment.ReadOrWriteSegment;
+import org.apache.shardingsphere.distsql.segment.TransmissionRuleSegment;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TransmissionRuleSegmentCheckerTest {
+    
+    @Test
+    void assertCheckWithoutWriteSegment() {
+        assertDoesNotThrow(() -> TransmissionRuleSegmentChecker.check(new TransmissionRuleSegment()));
+    }
+    
+    @Test
+    void assertCheckWithValidWriteMode() {
+        assertDoesNotThrow(() -> TransmissionRuleSegmentChecker.check(createSegment("multi_values")));
+    }
+    
+    @Test
+    void assertCheckWithInvalidWriteMode() {
+        assertThrows(PipelineInvalidParameterException.class, () -> TransmissionRuleSegmentChecker.check(createSegment("foo")));
+    }
+    
+    private TransmissionRuleSegment createSegment(final String writeMode) {
+        TransmissionRuleSegment result = new TransmissionRuleSegment();
+        result.setWriteSegment(new ReadOrWriteSegment(null, null, null, writeMode, null, null));
+        return result;
+    }
+}
@@ -115,6 +115,14 @@ SHARDING_SIZE
     : S H A R D I N G UL_ S I Z E
     ;
 
+WRITE_MODE
+    : W R I T E UL_ M O D E
+    ;
+
+INCREMENTAL_WORKER_THREAD
+    : I N C R E M E N T A L UL_ W O R K E R UL_ T H R E A D
+    ;
+
 RATE_LIMITER
     : R A T E UL_ L I M I T E R
     ;
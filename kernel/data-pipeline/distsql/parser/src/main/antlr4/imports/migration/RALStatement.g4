@@ -32,11 +32,11 @@ transmissionRule
     ;
 
 readDefinition
-    : READ LP_ workerThread? (COMMA_? batchSize)? (COMMA_? shardingSize)? (COMMA_? rateLimiter)? RP_
+    : READ LP_ workerThread? (COMMA_? batchSize)? (COMMA_? shardingSize)? (COMMA_? incrementalWorkerThread)? (COMMA_? rateLimiter)? RP_
     ;
 
 writeDefinition
-    : WRITE LP_ workerThread? (COMMA_? batchSize)? (COMMA_? rateLimiter)? RP_
+    : WRITE LP_ workerThread? (COMMA_? batchSize)? (COMMA_? writeMode)? (COMMA_? incrementalWorkerThread)? (COMMA_? rateLimiter)? RP_
     ;
 
 workerThread
@@ -51,6 +51,14 @@ shardingSize
     : SHARDING_SIZE EQ_ intValue
     ;
 
+writeMode
+    : WRITE_MODE EQ_ STRING_
+    ;
+
+incrementalWorkerThread
+    : INCREMENTAL_WORKER_THREAD EQ_ intValue
+    ;
+
 rateLimiter
     : RATE_LIMITER LP_ algorithmDefinition RP_
     ;
@@ -20,24 +20,32 @@ package org.apache.shardingsphere.data.pipeline.cdc.client.handler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.cdc.client.constant.ClientConnectionStatus;
 import org.apache.shardingsphere.data.pipeline.cdc.client.context.ClientConnectionContext;
+import org.apache.shardingsphere.data.pipeline.cdc.client.util.ColumnarRecordBlockConverter;
 import org.apache.shardingsphere.data.pipeline.cdc.client.util.ResponseFuture;
 import org.apache.shardingsphere.data.pipeline.cdc.client.util.ServerErrorResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.AckStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest.Type;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordCompression;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordEncoding;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.Status;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnarRecordBlock;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ServerGreetingResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.StreamDataResult;
 
+import java.io.IOException;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.zip.InflaterInputStream;
 
 /**
  * CDC request handler.
@@ -109,10 +117,29 @@ public final class CDCRequestHandler extends ChannelInboundHandlerAdapter {
     }
     
     private void processDataRecords(final ChannelHandlerContext ctx, final DataRecordResult result) {
-        consumer.accept(result.getRecordList());
+        consumer.accept(getRecords(result));
         ctx.channel().writeAndFlush(CDCRequest.newBuilder().setType(Type.ACK_STREAMING).setAckStreamingRequestBody(AckStreamingRequestBody.newBuilder().setAckId(result.getAckId()).build()).build());
     }
     
+    private List<Record> getRecords(final DataRecordResult result) {
+        DataRecordResult records = RecordCompression.DEFLATE == result.getRecordCompression() ? inflate(result) : result;
+        if (RecordEncoding.COLUMNAR != result.getRecordEncoding()) {
+            return records.getRecordList();
+        }
+        List<Record> columnarRecords = new LinkedList<>();
+        for (ColumnarRecordBlock each : records.getColumnarRecordBlockList()) {
+            columnarRecords.addAll(ColumnarRecordBlockConverter.convertToRecords(each));
+        }
+        return columnarRecords;
+    }
+    
+    @SneakyThrows(IOException.class)
+    private DataRecordResult inflate(final DataRecordResult result) {
+        try (InflaterInputStream inputStream = new InflaterInputStream(result.getCompressedRecords().newInput())) {
+            return DataRecordResult.parseFrom(inputStream);
+        }
+    }
+    
     @Override
     public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
         exceptionHandler.handleException(ctx, cause);
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.data.pipeline.cdc.client.parameter;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordCompression;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordEncoding;
 
 /**
  * CDC login parameter.
@@ -30,4 +32,12 @@ public final class CDCLoginParameter {
     private final String username;
     
     private final String password;
+    
+    private final RecordCompression recordCompression;
+    
+    private final RecordEncoding recordEncoding;
+    
+    public CDCLoginParameter(final String username, final String password) {
+        this(username, password, RecordCompression.NONE, RecordEncoding.ROW);
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.client.util;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.BoolValue;
+import com.google.protobuf.BytesValue;
+import com.google.protobuf.DoubleValue;
+import com.google.protobuf.Empty;
+import com.google.protobuf.FloatValue;
+import com.google.protobuf.Int32Value;
+import com.google.protobuf.Int64Value;
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnVector;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnarRecordBlock;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.TableColumn;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Columnar record block converter.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ColumnarRecordBlockConverter {
+    
+    private static final Any EMPTY_VALUE = Any.pack(Empty.getDefaultInstance());
+    
+    /**
+     * Convert columnar record block to records.
+     *
+     * @param block columnar record block
+     * @return records
+     */
+    public static List<Record> convertToRecords(final ColumnarRecordBlock block) {
+        int rowCount = block.getDataChangeTypeCount();
+        List<Any[]> beforeValues = new ArrayList<>(block.getBeforeCount());
+        List<Any[]> afterValues = new ArrayList<>(block.getAfterCount());
+        for (int i = 0; i < block.getColumnNameCount(); i++) {
+            beforeValues.add(convertToValues(block.getBefore(i), rowCount));
+            afterValues.add(convertToValues(block.getAfter(i), rowCount));
+        }
+        List<Record> result = new ArrayList<>(rowCount);
+        for (int rowIndex = 0; rowIndex < rowCount; rowIndex++) {
+            Record.Builder recordBuilder = Record.newBuilder().setMetaData(block.getMetaData())
+                    .setTransactionCommitMillis(block.getTransactionCommitMillis(rowIndex)).setDataChangeType(block.getDataChangeType(rowIndex));
+            for (int columnIndex = 0; columnIndex < block.getColumnNameCount(); columnIndex++) {
+                String columnName = block.getColumnName(columnIndex);
+                recordBuilder.addBefore(TableColumn.newBuilder().setName(columnName).setValue(beforeValues.get(columnIndex)[rowIndex]));
+                recordBuilder.addAfter(TableColumn.newBuilder().setName(columnName).setValue(afterValues.get(columnIndex)[rowIndex]));
+            }
+            result.add(recordBuilder.build());
+        }
+        return result;
+    }
+    
+    private static Any[] convertToValues(final ColumnVector vector, final int rowCount) {
+        Any[] result = new Any[rowCount];
+        int nullIndexCursor = 0;
+        int valueIndex = 0;
+        for (int i = 0; i < rowCount; i++) {
+            if (nullIndexCursor < vector.getNullIndexCount() && vector.getNullIndex(nullIndexCursor) == i) {
+                result[i] = EMPTY_VALUE;
+                nullIndexCursor++;
+            } else {
+                result[i] = Any.pack(getValue(vector, valueIndex++));
+            }
+        }
+        return result;
+    }
+    
+    private static Message getValue(final ColumnVector vector, final int valueIndex) {
+        switch (vector.getValueType()) {
+            case INT32:
+                return Int32Value.of(vector.getInt32Value(valueIndex));
+            case INT64:
+                return Int64Value.of(vector.getInt64Value(valueIndex));
+            case FLOAT:
+                return FloatValue.of(vector.getFloatValue(valueIndex));
+            case DOUBLE:
+                return DoubleValue.of(vector.getDoubleValue(valueIndex));
+            case STRING:
+                return StringValue.of(vector.getStringValue(valueIndex));
+            case BOOL:
+                return BoolValue.of(vector.getBoolValue(valueIndex));
+            case BYTES:
+                return BytesValue.of(vector.getBytesValue(valueIndex));
+            case TIMESTAMP:
+                return Timestamp.newBuilder().setSeconds(vector.getTimestampSeconds(valueIndex)).setNanos(vector.getTimestampNanos(valueIndex)).build();
+            default:
+                return Empty.getDefaultInstance();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.client.util;
+
+import com.google.protobuf.Empty;
+import com.google.protobuf.Int64Value;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.StringValue;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnVector;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnVector.ValueType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnarRecordBlock;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.DataChangeType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.MetaData;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ColumnarRecordBlockConverterTest {
+    
+    @Test
+    void assertConvertToRecords() throws InvalidProtocolBufferException {
+        ColumnarRecordBlock block = ColumnarRecordBlock.newBuilder().setMetaData(MetaData.newBuilder().setDatabase("foo_db").setTable("t_order").build())
+                .addColumnName("order_id").addColumnName("status")
+                .addDataChangeType(DataChangeType.INSERT).addDataChangeType(DataChangeType.UPDATE).addTransactionCommitMillis(1L).addTransactionCommitMillis(2L)
+                .addBefore(ColumnVector.newBuilder().addNullIndex(0).addNullIndex(1)).addBefore(ColumnVector.newBuilder().addNullIndex(0).addNullIndex(1))
+                .addAfter(ColumnVector.newBuilder().setValueType(ValueType.INT64).addInt64Value(1L).addInt64Value(2L))
+                .addAfter(ColumnVector.newBuilder().setValueType(ValueType.STRING).addNullIndex(0).addStringValue("foo")).build();
+        List<Record> actual = ColumnarRecordBlockConverter.convertToRecords(block);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getMetaData().getTable(), is("t_order"));
+        assertThat(actual.get(0).getDataChangeType(), is(DataChangeType.INSERT));
+        assertThat(actual.get(0).getTransactionCommitMillis(), is(1L));
+        assertThat(actual.get(0).getAfter(0).getName(), is("order_id"));
+        assertThat(actual.get(0).getAfter(0).getValue().unpack(Int64Value.class).getValue(), is(1L));
+        assertTrue(actual.get(0).getAfter(1).getValue().is(Empty.class));
+        assertTrue(actual.get(0).getBefore(0).getValue().is(Empty.class));
+        assertThat(actual.get(1).getDataChangeType(), is(DataChangeType.UPDATE));
+        assertThat(actual.get(1).getAfter(0).getValue().unpack(Int64Value.class).getValue(), is(2L));
+        assertThat(actual.get(1).getAfter(1).getValue().unpack(StringValue.class).getValue(), is("foo"));
+    }
+}
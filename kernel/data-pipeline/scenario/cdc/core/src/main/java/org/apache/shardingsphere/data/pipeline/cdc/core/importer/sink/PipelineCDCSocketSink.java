@@ -17,12 +17,16 @@
 
 package org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink;
 
+import com.google.protobuf.ByteString;
 import io.netty.channel.Channel;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.cdc.generator.CDCResponseUtils;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordCompression;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordEncoding;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.ResponseCase;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.util.ColumnarRecordBlockConvertUtils;
 import org.apache.shardingsphere.data.pipeline.cdc.util.DataRecordResultConvertUtils;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
@@ -40,6 +44,8 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 
 /**
  * Pipeline CDC socket sink.
@@ -59,9 +65,16 @@ public final class PipelineCDCSocketSink implements PipelineSink {
     
     private final Map<String, String> tableSchemaNameMap;
     
-    public PipelineCDCSocketSink(final Channel channel, final ShardingSphereDatabase database, final Collection<String> schemaTableNames) {
+    private final RecordCompression recordCompression;
+    
+    private final RecordEncoding recordEncoding;
+    
+    public PipelineCDCSocketSink(final Channel channel, final ShardingSphereDatabase database, final Collection<String> schemaTableNames,
+                                 final RecordCompression recordCompression, final RecordEncoding recordEncoding) {
         this.channel = channel;
         this.database = database;
+        this.recordCompression = recordCompression;
+        this.recordEncoding = recordEncoding;
         tableSchemaNameMap = new HashMap<>(schemaTableNames.size(), 1F);
         schemaTableNames.stream().filter(each -> each.contains(".")).forEach(each -> {
             String[] split = each.split("\\.");
@@ -80,10 +93,9 @@ public final class PipelineCDCSocketSink implements PipelineSink {
         if (!channel.isActive()) {
             return new PipelineJobUpdateProgress(0);
         }
-        Collection<DataRecordResult.Record> resultRecords = getResultRecords(records);
-        DataRecordResult dataRecordResult = DataRecordResult.newBuilder().addAllRecord(resultRecords).setAckId(ackId).build();
-        channel.writeAndFlush(CDCResponseUtils.succeed("", ResponseCase.DATA_RECORD_RESULT, dataRecordResult));
-        return new PipelineJobUpdateProgress(resultRecords.size());
+        Collection<DataRecord> dataRecords = getDataRecords(records);
+        channel.writeAndFlush(CDCResponseUtils.succeed("", ResponseCase.DATA_RECORD_RESULT, buildDataRecordResult(ackId, dataRecords)));
+        return new PipelineJobUpdateProgress(dataRecords.size());
     }
     
     @SneakyThrows(InterruptedException.class)
@@ -102,17 +114,47 @@ public final class PipelineCDCSocketSink implements PipelineSink {
         }
     }
     
-    private Collection<DataRecordResult.Record> getResultRecords(final Collection<Record> records) {
-        Collection<DataRecordResult.Record> result = new LinkedList<>();
+    private Collection<DataRecord> getDataRecords(final Collection<Record> records) {
+        Collection<DataRecord> result = new LinkedList<>();
         for (Record each : records) {
             if (each instanceof DataRecord) {
-                DataRecord dataRecord = (DataRecord) each;
-                result.add(DataRecordResultConvertUtils.convertDataRecordToRecord(database.getName(), tableSchemaNameMap.get(dataRecord.getTableName()), dataRecord));
+                result.add((DataRecord) each);
             }
         }
         return result;
     }
     
+    private DataRecordResult buildDataRecordResult(final String ackId, final Collection<DataRecord> dataRecords) {
+        DataRecordResult.Builder recordsBuilder = RecordEncoding.COLUMNAR == recordEncoding
+                ? DataRecordResult.newBuilder().addAllColumnarRecordBlock(ColumnarRecordBlockConvertUtils.convertDataRecordsToBlocks(database.getName(), tableSchemaNameMap, dataRecords))
+                : DataRecordResult.newBuilder().addAllRecord(getResultRecords(dataRecords));
+        if (RecordCompression.DEFLATE != recordCompression) {
+            return recordsBuilder.setRecordEncoding(recordEncoding).setAckId(ackId).build();
+        }
+        ByteString compressedRecords = deflate(recordsBuilder.build().toByteString());
+        return DataRecordResult.newBuilder().setRecordCompression(RecordCompression.DEFLATE).setCompressedRecords(compressedRecords).setRecordEncoding(recordEncoding).setAckId(ackId).build();
+    }
+    
+    private Collection<DataRecordResult.Record> getResultRecords(final Collection<DataRecord> dataRecords) {
+        Collection<DataRecordResult.Record> result = new LinkedList<>();
+        for (DataRecord each : dataRecords) {
+            result.add(DataRecordResultConvertUtils.convertDataRecordToRecord(database.getName(), tableSchemaNameMap.get(each.getTableName()), each));
+        }
+        return result;
+    }
+    
+    @SneakyThrows(IOException.class)
+    private ByteString deflate(final ByteString data) {
+        ByteString.Output result = ByteString.newOutput(data.size());
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream outputStream = new DeflaterOutputStream(result, deflater)) {
+            data.writeTo(outputStream);
+        } finally {
+            deflater.end();
+        }
+        return result.toByteString();
+    }
+    
     @Override
     public void close() throws IOException {
         channel.writeAndFlush(CDCResponseUtils.failed("", XOpenSQLState.GENERAL_ERROR.getValue(), "The socket channel is closed."));
@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.util;
+
+import com.google.common.base.Strings;
+import com.google.protobuf.BoolValue;
+import com.google.protobuf.BytesValue;
+import com.google.protobuf.DoubleValue;
+import com.google.protobuf.FloatValue;
+import com.google.protobuf.Int32Value;
+import com.google.protobuf.Int64Value;
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnVector;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnVector.ValueType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnarRecordBlock;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.MetaData;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar record block convert utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ColumnarRecordBlockConvertUtils {
+    
+    /**
+     * Convert data records to columnar record blocks.
+     * Consecutive data records with the same table, column names and column value types are put into one block.
+     *
+     * @param database database
+     * @param tableSchemaNameMap table and schema name map
+     * @param dataRecords data records
+     * @return columnar record blocks
+     */
+    public static List<ColumnarRecordBlock> convertDataRecordsToBlocks(final String database, final Map<String, String> tableSchemaNameMap, final Collection<DataRecord> dataRecords) {
+        List<ColumnarRecordBlock> result = new LinkedList<>();
+        ColumnarRecordBlockBuilder blockBuilder = null;
+        for (DataRecord each : dataRecords) {
+            List<Message> beforeValues = new ArrayList<>(each.getColumnCount());
+            List<Message> afterValues = new ArrayList<>(each.getColumnCount());
+            for (Column column : each.getColumns()) {
+                beforeValues.add(ColumnValueConvertUtils.convertToProtobufMessage(column.getOldValue()));
+                afterValues.add(ColumnValueConvertUtils.convertToProtobufMessage(column.getValue()));
+            }
+            if (null == blockBuilder || !blockBuilder.isAppendable(each, beforeValues, afterValues)) {
+                if (null != blockBuilder) {
+                    result.add(blockBuilder.build());
+                }
+                blockBuilder = new ColumnarRecordBlockBuilder(database, tableSchemaNameMap.get(each.getTableName()), each);
+            }
+            blockBuilder.append(each, beforeValues, afterValues);
+        }
+        if (null != blockBuilder) {
+            result.add(blockBuilder.build());
+        }
+        return result;
+    }
+    
+    private static ValueType getValueType(final Message value) {
+        if (value instanceof Int32Value) {
+            return ValueType.INT32;
+        }
+        if (value instanceof Int64Value) {
+            return ValueType.INT64;
+        }
+        if (value instanceof FloatValue) {
+            return ValueType.FLOAT;
+        }
+        if (value instanceof DoubleValue) {
+            return ValueType.DOUBLE;
+        }
+        if (value instanceof StringValue) {
+            return ValueType.STRING;
+        }
+        if (value instanceof BoolValue) {
+            return ValueType.BOOL;
+        }
+        if (value instanceof BytesValue) {
+            return ValueType.BYTES;
+        }
+        if (value instanceof Timestamp) {
+            return ValueType.TIMESTAMP;
+        }
+        return ValueType.EMPTY;
+    }
+    
+    private static final class ColumnarRecordBlockBuilder {
+        
+        private final ColumnarRecordBlock.Builder blockBuilder;
+        
+        private final String tableName;
+        
+        private final List<String> columnNames;
+        
+        private final List<ColumnVector.Builder> beforeVectorBuilders;
+        
+        private final List<ColumnVector.Builder> afterVectorBuilders;
+        
+        private int rowCount;
+        
+        ColumnarRecordBlockBuilder(final String database, final String schema, final DataRecord dataRecord) {
+            MetaData metaData = MetaData.newBuilder().setDatabase(database).setSchema(Strings.nullToEmpty(schema)).setTable(dataRecord.getTableName()).build();
+            blockBuilder = ColumnarRecordBlock.newBuilder().setMetaData(metaData);
+            tableName = dataRecord.getTableName();
+            columnNames = new ArrayList<>(dataRecord.getColumnCount());
+            beforeVectorBuilders = new ArrayList<>(dataRecord.getColumnCount());
+            afterVectorBuilders = new ArrayList<>(dataRecord.getColumnCount());
+            for (Column each : dataRecord.getColumns()) {
+                columnNames.add(each.getName());
+                beforeVectorBuilders.add(ColumnVector.newBuilder());
+                afterVectorBuilders.add(ColumnVector.newBuilder());
+            }
+            blockBuilder.addAllColumnName(columnNames);
+        }
+        
+        boolean isAppendable(final DataRecord dataRecord, final List<Message> beforeValues, final List<Message> afterValues) {
+            if (!tableName.equals(dataRecord.getTableName()) || columnNames.size() != dataRecord.getColumnCount()) {
+                return false;
+            }
+            for (int i = 0; i < columnNames.size(); i++) {
+                if (!columnNames.get(i).equals(dataRecord.getColumn(i).getName())
+                        || !isValueTypeCompatible(beforeVectorBuilders.get(i), beforeValues.get(i)) || !isValueTypeCompatible(afterVectorBuilders.get(i), afterValues.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        private boolean isValueTypeCompatible(final ColumnVector.Builder vectorBuilder, final Message value) {
+            ValueType valueType = getValueType(value);
+            return ValueType.EMPTY == valueType || ValueType.EMPTY == vectorBuilder.getValueType() || valueType == vectorBuilder.getValueType();
+        }
+        
+        void append(final DataRecord dataRecord, final List<Message> beforeValues, final List<Message> afterValues) {
+            blockBuilder.addDataChangeType(DataRecordResultConvertUtils.getDataChangeType(dataRecord.getType())).addTransactionCommitMillis(dataRecord.getCommitTime());
+            for (int i = 0; i < columnNames.size(); i++) {
+                appendValue(beforeVectorBuilders.get(i), beforeValues.get(i));
+                appendValue(afterVectorBuilders.get(i), afterValues.get(i));
+            }
+            rowCount++;
+        }
+        
+        private void appendValue(final ColumnVector.Builder vectorBuilder, final Message value) {
+            ValueType valueType = getValueType(value);
+            if (ValueType.EMPTY == valueType) {
+                vectorBuilder.addNullIndex(rowCount);
+                return;
+            }
+            vectorBuilder.setValueType(valueType);
+            switch (valueType) {
+                case INT32:
+                    vectorBuilder.addInt32Value(((Int32Value) value).getValue());
+                    break;
+                case INT64:
+                    vectorBuilder.addInt64Value(((Int64Value) value).getValue());
+                    break;
+                case FLOAT:
+                    vectorBuilder.addFloatValue(((FloatValue) value).getValue());
+                    break;
+                case DOUBLE:
+                    vectorBuilder.addDoubleValue(((DoubleValue) value).getValue());
+                    break;
+                case STRING:
+                    vectorBuilder.addStringValue(((StringValue) value).getValue());
+                    break;
+                case BOOL:
+                    vectorBuilder.addBoolValue(((BoolValue) value).getValue());
+                    break;
+                case BYTES:
+                    vectorBuilder.addBytesValue(((BytesValue) value).getValue());
+                    break;
+                case TIMESTAMP:
+                    vectorBuilder.addTimestampSeconds(((Timestamp) value).getSeconds()).addTimestampNanos(((Timestamp) value).getNanos());
+                    break;
+                default:
+                    break;
+            }
+        }
+        
+        ColumnarRecordBlock build() {
+            for (int i = 0; i < columnNames.size(); i++) {
+                blockBuilder.addBefore(beforeVectorBuilders.get(i)).addAfter(afterVectorBuilders.get(i));
+            }
+            return blockBuilder.build();
+        }
+    }
+}
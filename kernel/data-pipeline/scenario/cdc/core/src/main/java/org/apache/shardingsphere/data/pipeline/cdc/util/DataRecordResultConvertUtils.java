@@ -59,7 +59,7 @@ public final class DataRecordResultConvertUtils {
                 .setDataChangeType(getDataChangeType(dataRecord.getType())).build();
     }
     
-    private static DataChangeType getDataChangeType(final PipelineSQLOperationType type) {
+    static DataChangeType getDataChangeType(final PipelineSQLOperationType type) {
         switch (type) {
             case INSERT:
                 return DataChangeType.INSERT;
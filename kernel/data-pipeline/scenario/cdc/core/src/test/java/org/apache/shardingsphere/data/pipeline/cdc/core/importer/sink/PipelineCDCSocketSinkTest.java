@@ -18,20 +18,32 @@
 package org.apache.shardingsphere.data.pipeline.cdc.core.importer.sink;
 
 import io.netty.channel.Channel;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordCompression;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordEncoding;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnarRecordBlock;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record;
 import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
 import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
+import java.util.zip.InflaterInputStream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class PipelineCDCSocketSinkTest {
@@ -43,11 +55,63 @@ class PipelineCDCSocketSinkTest {
         when(mockChannel.isActive()).thenReturn(true);
         ShardingSphereDatabase mockDatabase = mock(ShardingSphereDatabase.class);
         when(mockDatabase.getName()).thenReturn("test");
-        try (PipelineCDCSocketSink sink = new PipelineCDCSocketSink(mockChannel, mockDatabase, Collections.singletonList("test.t_order"))) {
+        try (PipelineCDCSocketSink sink = new PipelineCDCSocketSink(mockChannel, mockDatabase, Collections.singletonList("test.t_order"), RecordCompression.NONE, RecordEncoding.ROW)) {
             PipelineJobUpdateProgress actual = sink.write("ack", Collections.singletonList(new FinishedRecord(new IngestPlaceholderPosition())));
             assertThat(actual.getProcessedRecordsCount(), is(0));
             actual = sink.write("ack", Collections.singletonList(new DataRecord(PipelineSQLOperationType.DELETE, "t_order", new IngestPlaceholderPosition(), 1)));
             assertThat(actual.getProcessedRecordsCount(), is(1));
         }
     }
+    
+    @Test
+    void assertWriteWithDeflateCompression() throws IOException {
+        Channel mockChannel = mock(Channel.class);
+        when(mockChannel.isWritable()).thenReturn(true);
+        when(mockChannel.isActive()).thenReturn(true);
+        ShardingSphereDatabase mockDatabase = mock(ShardingSphereDatabase.class);
+        when(mockDatabase.getName()).thenReturn("test");
+        try (PipelineCDCSocketSink sink = new PipelineCDCSocketSink(mockChannel, mockDatabase, Collections.singletonList("test.t_order"), RecordCompression.DEFLATE, RecordEncoding.ROW)) {
+            DataRecord dataRecord = new DataRecord(PipelineSQLOperationType.INSERT, "t_order", new IngestPlaceholderPosition(), 1);
+            dataRecord.addColumn(new NormalColumn("order_id", 1, true, true));
+            PipelineJobUpdateProgress actual = sink.write("ack", Collections.singletonList(dataRecord));
+            assertThat(actual.getProcessedRecordsCount(), is(1));
+        }
+        ArgumentCaptor<CDCResponse> responseCaptor = ArgumentCaptor.forClass(CDCResponse.class);
+        verify(mockChannel, times(2)).writeAndFlush(responseCaptor.capture());
+        DataRecordResult actual = responseCaptor.getAllValues().get(0).getDataRecordResult();
+        assertThat(actual.getAckId(), is("ack"));
+        assertThat(actual.getRecordCompression(), is(RecordCompression.DEFLATE));
+        assertThat(actual.getRecordCount(), is(0));
+        try (InflaterInputStream inputStream = new InflaterInputStream(actual.getCompressedRecords().newInput())) {
+            List<Record> actualRecords = DataRecordResult.parseFrom(inputStream).getRecordList();
+            assertThat(actualRecords.size(), is(1));
+            assertThat(actualRecords.get(0).getMetaData().getTable(), is("t_order"));
+            assertThat(actualRecords.get(0).getAfter(0).getName(), is("order_id"));
+        }
+    }
+    
+    @Test
+    void assertWriteWithColumnarEncoding() throws IOException {
+        Channel mockChannel = mock(Channel.class);
+        when(mockChannel.isWritable()).thenReturn(true);
+        when(mockChannel.isActive()).thenReturn(true);
+        ShardingSphereDatabase mockDatabase = mock(ShardingSphereDatabase.class);
+        when(mockDatabase.getName()).thenReturn("test");
+        try (PipelineCDCSocketSink sink = new PipelineCDCSocketSink(mockChannel, mockDatabase, Collections.singletonList("test.t_order"), RecordCompression.NONE, RecordEncoding.COLUMNAR)) {
+            DataRecord dataRecord = new DataRecord(PipelineSQLOperationType.INSERT, "t_order", new IngestPlaceholderPosition(), 1);
+            dataRecord.addColumn(new NormalColumn("order_id", 1, true, true));
+            PipelineJobUpdateProgress actual = sink.write("ack", Collections.singletonList(dataRecord));
+            assertThat(actual.getProcessedRecordsCount(), is(1));
+        }
+        ArgumentCaptor<CDCResponse> responseCaptor = ArgumentCaptor.forClass(CDCResponse.class);
+        verify(mockChannel, times(2)).writeAndFlush(responseCaptor.capture());
+        DataRecordResult actual = responseCaptor.getAllValues().get(0).getDataRecordResult();
+        assertThat(actual.getRecordEncoding(), is(RecordEncoding.COLUMNAR));
+        assertThat(actual.getRecordCount(), is(0));
+        assertThat(actual.getColumnarRecordBlockCount(), is(1));
+        ColumnarRecordBlock actualBlock = actual.getColumnarRecordBlock(0);
+        assertThat(actualBlock.getMetaData().getTable(), is("t_order"));
+        assertThat(actualBlock.getColumnNameList(), is(Collections.singletonList("order_id")));
+        assertThat(actualBlock.getAfter(0).getInt32ValueList(), is(Collections.singletonList(1)));
+    }
 }
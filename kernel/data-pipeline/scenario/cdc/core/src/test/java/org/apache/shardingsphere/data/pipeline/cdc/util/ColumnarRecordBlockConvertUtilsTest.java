@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.util;
+
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnVector.ValueType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ColumnarRecordBlock;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult.Record.DataChangeType;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ColumnarRecordBlockConvertUtilsTest {
+    
+    @Test
+    void assertConvertDataRecordsToBlocks() {
+        List<ColumnarRecordBlock> actual = ColumnarRecordBlockConvertUtils.convertDataRecordsToBlocks("foo_db", Collections.singletonMap("t_order", "foo_schema"),
+                Arrays.asList(createDataRecord("t_order", PipelineSQLOperationType.INSERT, 1, "foo"), createDataRecord("t_order", PipelineSQLOperationType.UPDATE, 2, null)));
+        assertThat(actual.size(), is(1));
+        ColumnarRecordBlock actualBlock = actual.get(0);
+        assertThat(actualBlock.getMetaData().getDatabase(), is("foo_db"));
+        assertThat(actualBlock.getMetaData().getSchema(), is("foo_schema"));
+        assertThat(actualBlock.getMetaData().getTable(), is("t_order"));
+        assertThat(actualBlock.getColumnNameList(), is(Arrays.asList("order_id", "status")));
+        assertThat(actualBlock.getDataChangeTypeList(), is(Arrays.asList(DataChangeType.INSERT, DataChangeType.UPDATE)));
+        assertThat(actualBlock.getAfter(0).getValueType(), is(ValueType.INT32));
+        assertThat(actualBlock.getAfter(0).getInt32ValueList(), is(Arrays.asList(1, 2)));
+        assertThat(actualBlock.getAfter(1).getValueType(), is(ValueType.STRING));
+        assertThat(actualBlock.getAfter(1).getStringValueList(), is(Collections.singletonList("foo")));
+        assertThat(actualBlock.getAfter(1).getNullIndexList(), is(Collections.singletonList(1)));
+        assertThat(actualBlock.getBefore(0).getValueType(), is(ValueType.EMPTY));
+        assertThat(actualBlock.getBefore(0).getNullIndexList(), is(Arrays.asList(0, 1)));
+    }
+    
+    @Test
+    void assertConvertDataRecordsToBlocksWithDifferentTables() {
+        List<ColumnarRecordBlock> actual = ColumnarRecordBlockConvertUtils.convertDataRecordsToBlocks("foo_db", Collections.emptyMap(),
+                Arrays.asList(createDataRecord("t_order", PipelineSQLOperationType.INSERT, 1, "foo"), createDataRecord("t_order_item", PipelineSQLOperationType.INSERT, 1, "foo")));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getMetaData().getTable(), is("t_order"));
+        assertThat(actual.get(1).getMetaData().getTable(), is("t_order_item"));
+    }
+    
+    @Test
+    void assertConvertDataRecordsToBlocksWithDifferentValueTypes() {
+        List<ColumnarRecordBlock> actual = ColumnarRecordBlockConvertUtils.convertDataRecordsToBlocks("foo_db", Collections.emptyMap(),
+                Arrays.asList(createDataRecord("t_order", PipelineSQLOperationType.INSERT, 1, "foo"), createDataRecord("t_order", PipelineSQLOperationType.INSERT, 2L, "foo")));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getAfter(0).getValueType(), is(ValueType.INT32));
+        assertThat(actual.get(1).getAfter(0).getValueType(), is(ValueType.INT64));
+    }
+    
+    private DataRecord createDataRecord(final String tableName, final PipelineSQLOperationType type, final Object orderId, final String status) {
+        DataRecord result = new DataRecord(type, tableName, new IngestPlaceholderPosition(), 2);
+        result.addColumn(new NormalColumn("order_id", orderId, true, true));
+        result.addColumn(new NormalColumn("status", status, false, false));
+        return result;
+    }
+}
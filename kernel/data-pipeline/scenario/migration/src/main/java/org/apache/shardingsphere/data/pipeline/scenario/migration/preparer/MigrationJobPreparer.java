@@ -30,6 +30,7 @@ import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobCanceli
 import org.apache.shardingsphere.data.pipeline.core.exception.job.PrepareJobWithGetBinlogPositionException;
 import org.apache.shardingsphere.data.pipeline.core.execute.PipelineExecuteEngine;
 import org.apache.shardingsphere.data.pipeline.core.importer.Importer;
+import org.apache.shardingsphere.data.pipeline.core.importer.PartitionedChannelConsumerImporter;
 import org.apache.shardingsphere.data.pipeline.core.importer.SingleChannelConsumerImporter;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.Dumper;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.CreateIncrementalDumperParameter;
@@ -191,8 +192,16 @@ public final class MigrationJobPreparer implements PipelineJobPreparer<Migration
         CreateIncrementalDumperParameter param = new CreateIncrementalDumperParameter(
                 dumperContext, dumperContext.getCommonContext().getPosition(), channel, jobItemContext.getSourceMetaDataLoader(), jobItemContext.getDataSourceManager());
         Dumper dumper = IncrementalDumperCreator.create(param);
-        Collection<Importer> importers = Collections.singletonList(new SingleChannelConsumerImporter(channel, 1, 5L, jobItemContext.getSink(), jobItemContext));
+        Collection<Importer> importers = Collections.singletonList(createIncrementalImporter(jobItemContext, channel));
         PipelineTask incrementalTask = new IncrementalTask(dumperContext.getCommonContext().getDataSourceName(), incrementalExecuteEngine, dumper, importers, taskProgress);
         jobItemContext.getIncrementalTasks().add(incrementalTask);
     }
+    
+    private Importer createIncrementalImporter(final MigrationJobItemContext jobItemContext, final PipelineChannel channel) {
+        Integer incrementalWorkerThread = jobItemContext.getJobProcessContext().getProcessConfiguration().getWrite().getIncrementalWorkerThread();
+        int batchSize = jobItemContext.getTaskConfig().getImporterConfig().getBatchSize();
+        return null != incrementalWorkerThread && incrementalWorkerThread > 1
+                ? new PartitionedChannelConsumerImporter(channel, batchSize, 5L, jobItemContext.getSink(), jobItemContext, incrementalWorkerThread)
+                : new SingleChannelConsumerImporter(channel, 1, 5L, jobItemContext.getSink(), jobItemContext);
+    }
 }
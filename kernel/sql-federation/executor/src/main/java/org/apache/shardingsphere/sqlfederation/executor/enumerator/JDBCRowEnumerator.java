@@ -84,6 +84,7 @@ public final class JDBCRowEnumerator implements Enumerator<Object> {
     @Override
     public void close() {
         try {
+            queryResult.close();
             for (Statement each : statements) {
                 each.close();
             }
@@ -91,6 +91,7 @@ public final class SchemaMetaDataManager {
             return;
         }
         database.addSchema(schemaName, new ShardingSphereSchema(schemaName));
+        metaData.increaseVersion();
         metaData.getGlobalRuleMetaData().getRules().forEach(each -> ((GlobalRule) each).refresh(metaData.getDatabases(), GlobalRuleChangedType.SCHEMA_CHANGED));
     }
     
@@ -107,6 +108,7 @@ public final class SchemaMetaDataManager {
             return;
         }
         database.dropSchema(schemaName);
+        metaData.increaseVersion();
         metaData.getGlobalRuleMetaData().getRules().forEach(each -> ((GlobalRule) each).refresh(metaData.getDatabases(), GlobalRuleChangedType.SCHEMA_CHANGED));
     }
     
@@ -126,6 +128,7 @@ public final class SchemaMetaDataManager {
         Optional.ofNullable(toBeChangedTable).ifPresent(optional -> alterTable(databaseName, schemaName, optional));
         Optional.ofNullable(toBeChangedView).ifPresent(optional -> alterView(databaseName, schemaName, optional));
         if (null != toBeChangedTable || null != toBeChangedView) {
+            metaData.increaseVersion();
             metaData.getGlobalRuleMetaData().getRules().forEach(each -> ((GlobalRule) each).refresh(metaData.getDatabases(), GlobalRuleChangedType.SCHEMA_CHANGED));
         }
     }
@@ -146,6 +149,7 @@ public final class SchemaMetaDataManager {
         Optional.ofNullable(toBeDeletedTableName).ifPresent(optional -> dropTable(databaseName, schemaName, optional));
         Optional.ofNullable(toBeDeletedViewName).ifPresent(optional -> dropView(databaseName, schemaName, optional));
         if (!Strings.isNullOrEmpty(toBeDeletedTableName) || !Strings.isNullOrEmpty(toBeDeletedViewName)) {
+            metaData.increaseVersion();
             metaData.getGlobalRuleMetaData().getRules().forEach(each -> ((GlobalRule) each).refresh(metaData.getDatabases(), GlobalRuleChangedType.SCHEMA_CHANGED));
         }
     }
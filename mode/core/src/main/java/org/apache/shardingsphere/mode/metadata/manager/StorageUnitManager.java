@@ -111,6 +111,7 @@ public final class StorageUnitManager {
                 switchingResource, metaDataContexts.get(), metaDataPersistService, computeNodeInstanceContext);
         metaDataContexts.set(reloadMetaDataContexts);
         metaDataContexts.get().getMetaData().getDatabases().putAll(buildShardingSphereDatabase(reloadMetaDataContexts.getMetaData().getDatabase(databaseName)));
+        metaDataContexts.get().getMetaData().increaseVersion();
         switchingResource.closeStaleDataSources();
     }
     
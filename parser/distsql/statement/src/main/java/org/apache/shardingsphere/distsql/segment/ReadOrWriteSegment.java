@@ -33,12 +33,9 @@ public final class ReadOrWriteSegment implements DistSQLSegment {
     
     private final Integer shardingSize;
     
-    private final AlgorithmSegment rateLimiter;
+    private final String writeMode;
+    
+    private final Integer incrementalWorkerThread;
     
-    public ReadOrWriteSegment(final Integer workerThread, final Integer batchSize, final AlgorithmSegment rateLimiter) {
-        this.workerThread = workerThread;
-        this.batchSize = batchSize;
-        shardingSize = 10000000;
-        this.rateLimiter = rateLimiter;
-    }
+    private final AlgorithmSegment rateLimiter;
 }
@@ -57,6 +57,7 @@ import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.refresher.MetaDataRefreshEngine;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallback;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallbackFactory;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.BackendPreparedStatementCache;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBackendStatement;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -116,6 +117,8 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
     
     private List<QueryHeader> queryHeaders;
     
+    private List<QueryResult> queryResults;
+    
     private MergedResult mergedResult;
     
     public StandardDatabaseConnector(final String driverType, final QueryContext queryContext, final ProxyDatabaseConnectionManager databaseConnectionManager) {
@@ -276,6 +279,7 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
     }
     
     private QueryResponseHeader processExecuteQuery(final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults, final QueryResult queryResultSample) throws SQLException {
+        this.queryResults = queryResults;
         queryHeaders = createQueryHeaders(sqlStatementContext, queryResultSample);
         mergedResult = mergeQuery(sqlStatementContext, queryResults);
         return new QueryResponseHeader(queryHeaders);
@@ -353,6 +357,8 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
     @Override
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        closeMergedResult().ifPresent(result::add);
+        result.addAll(closeQueryResults());
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeSQLFederationEngine().ifPresent(result::add);
@@ -364,6 +370,38 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
         throw ex;
     }
     
+    private Optional<SQLException> closeMergedResult() {
+        if (null == mergedResult) {
+            return Optional.empty();
+        }
+        try {
+            mergedResult.close();
+        } catch (final SQLException ex) {
+            return Optional.of(ex);
+        } finally {
+            mergedResult = null;
+        }
+        return Optional.empty();
+    }
+    
+    private Collection<SQLException> closeQueryResults() {
+        if (null == queryResults) {
+            return Collections.emptyList();
+        }
+        Collection<SQLException> result = new LinkedList<>();
+        for (QueryResult each : queryResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            } catch (final Exception ex) {
+                result.add(new SQLException(ex));
+            }
+        }
+        queryResults = null;
+        return result;
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -381,6 +419,9 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
         Collection<SQLException> result = new LinkedList<>();
         for (Statement each : cachedStatements) {
             try {
+                if (BackendPreparedStatementCache.getInstance().release(each)) {
+                    continue;
+                }
                 each.cancel();
                 each.close();
             } catch (final SQLException ex) {
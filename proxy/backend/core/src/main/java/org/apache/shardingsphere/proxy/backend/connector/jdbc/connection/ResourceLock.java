@@ -44,14 +44,17 @@ public final class ResourceLock {
     @SuppressWarnings("ResultOfMethodCallIgnored")
     @SneakyThrows(InterruptedException.class)
     public void doAwait(final ChannelHandlerContext context) {
-        while (!context.channel().isWritable() && context.channel().isActive()) {
-            context.flush();
-            lock.lock();
-            try {
+        if (context.channel().isWritable() || !context.channel().isActive()) {
+            return;
+        }
+        lock.lock();
+        try {
+            while (!context.channel().isWritable() && context.channel().isActive()) {
+                context.flush();
                 condition.await(DEFAULT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
-            } finally {
-                lock.unlock();
             }
+        } finally {
+            lock.unlock();
         }
     }
     
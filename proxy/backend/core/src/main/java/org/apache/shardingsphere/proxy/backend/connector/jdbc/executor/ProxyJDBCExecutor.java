@@ -19,21 +19,27 @@ package org.apache.shardingsphere.proxy.backend.connector.jdbc.executor;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.completion.CompletionOrderedJDBCQueryResults;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.proxy.backend.connector.DatabaseConnector;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallback;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallbackFactory;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -64,12 +70,18 @@ public final class ProxyJDBCExecutor {
      */
     public List<ExecuteResult> execute(final QueryContext queryContext, final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
                                        final boolean isReturnGeneratedKeys, final boolean isExceptionThrown) throws SQLException {
+        boolean isCompletionOrdered = isCompletionOrdered(queryContext, executionGroupContext);
         try {
             MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
             ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(connectionSession.getUsedDatabaseName());
             DatabaseType protocolType = database.getProtocolType();
             processEngine.executeSQL(executionGroupContext, queryContext);
             SQLStatementContext context = queryContext.getSqlStatementContext();
+            if (isCompletionOrdered) {
+                return executeInCompletionOrder(executionGroupContext, ProxyJDBCExecutorCallbackFactory.newInstance(
+                        type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseConnector, isReturnGeneratedKeys, isExceptionThrown, false),
+                        metaDataContexts.getMetaData().getProps().<Long>getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_SHARD_TIMEOUT_MILLISECONDS));
+            }
             return jdbcExecutor.execute(executionGroupContext,
                     ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseConnector, isReturnGeneratedKeys,
                             isExceptionThrown,
@@ -78,7 +90,25 @@ public final class ProxyJDBCExecutor {
                             isExceptionThrown,
                             false));
         } finally {
-            processEngine.completeSQLExecution(executionGroupContext.getReportContext().getProcessId());
+            if (!isCompletionOrdered) {
+                processEngine.completeSQLExecution(executionGroupContext.getReportContext().getProcessId());
+            }
         }
     }
+    
+    private boolean isCompletionOrdered(final QueryContext queryContext, final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) {
+        if (!(queryContext.getSqlStatementContext().getSqlStatement() instanceof SelectStatement) || executionGroupContext.getInputGroups().size() <= 1) {
+            return false;
+        }
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        return props.<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_QUERY_COMPLETION_ORDERED_ENABLED)
+                && !connectionSession.getConnectionContext().getTransactionContext().isInDistributedTransaction();
+    }
+    
+    private List<ExecuteResult> executeInCompletionOrder(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final ProxyJDBCExecutorCallback callback, final long timeoutMillis) {
+        int size = executionGroupContext.getInputGroups().stream().mapToInt(each -> each.getInputs().size()).sum();
+        CompletionOrderedJDBCQueryResults queryResults = new CompletionOrderedJDBCQueryResults(
+                jdbcExecutor.executeInCompletionOrder(executionGroupContext, callback, timeoutMillis), size, executionGroupContext.getReportContext().getProcessId());
+        return new ArrayList<>(queryResults.getQueryResults());
+    }
 }
@@ -0,0 +1,310 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.statement;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Prepared statement cache of proxy backend.
+ *
+ * <p>Prepared statements are cached for each storage connection in LRU order and prepared on the storage connection unwrapped from the pooled connection,
+ * so they are not closed when the pooled connection is returned to data source and can be reused by the sessions which get the storage connection again.
+ * A statement is checked out while executing and checked in when released, so it is never shared by concurrent executions.
+ * Parameters, batch, fetch size, max rows and query timeout are reset when checked in. A statement with result set still open is not checked in,
+ * because closing it may read all remaining rows of a streaming result set. Statements of closed storage connections are closed and removed on check in.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BackendPreparedStatementCache {
+    
+    private static final BackendPreparedStatementCache INSTANCE = new BackendPreparedStatementCache();
+    
+    private final Map<Connection, Map<PreparedStatementCacheKey, CachedStatement>> cachedStatements = new IdentityHashMap<>();
+    
+    private final Map<Statement, CheckedOutStatement> checkedOutStatements = new ConcurrentHashMap<>();
+    
+    private final AtomicLong hitCount = new AtomicLong();
+    
+    private final AtomicLong missCount = new AtomicLong();
+    
+    private final AtomicLong evictionCount = new AtomicLong();
+    
+    /**
+     * Get backend prepared statement cache.
+     *
+     * @return backend prepared statement cache
+     */
+    public static BackendPreparedStatementCache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get cached prepared statement or prepare a new one, the statement is checked out until released.
+     *
+     * @param key prepared statement cache key
+     * @param maxSize max prepared statements cached for each storage connection
+     * @return prepared statement
+     * @throws SQLException SQL exception
+     */
+    public PreparedStatement getOrPrepare(final PreparedStatementCacheKey key, final int maxSize) throws SQLException {
+        Optional<CachedStatement> cached = checkOut(key);
+        CachedStatement cachedStatement;
+        if (cached.isPresent()) {
+            hitCount.incrementAndGet();
+            cachedStatement = cached.get();
+        } else {
+            missCount.incrementAndGet();
+            Connection storageConnection = key.getStorageConnection();
+            PreparedStatement statement = key.isReturnGeneratedKeys()
+                    ? storageConnection.prepareStatement(key.getSql(), Statement.RETURN_GENERATED_KEYS)
+                    : storageConnection.prepareStatement(key.getSql());
+            cachedStatement = new CachedStatement(statement, statement.getFetchSize(), statement.getMaxRows(), statement.getQueryTimeout());
+        }
+        PreparedStatement result = cachedStatement.getStatement();
+        checkedOutStatements.put(result, new CheckedOutStatement(key, maxSize, cachedStatement));
+        return result;
+    }
+    
+    private Optional<CachedStatement> checkOut(final PreparedStatementCacheKey key) throws SQLException {
+        CachedStatement result;
+        synchronized (this) {
+            Map<PreparedStatementCacheKey, CachedStatement> statements = cachedStatements.get(key.getStorageConnection());
+            result = null == statements ? null : statements.remove(key);
+        }
+        if (null == result) {
+            return Optional.empty();
+        }
+        if (result.getStatement().isClosed()) {
+            evictionCount.incrementAndGet();
+            return Optional.empty();
+        }
+        return Optional.of(result);
+    }
+    
+    /**
+     * Release statement into cache if it is checked out from cache.
+     *
+     * @param statement statement to be released
+     * @return released into cache or not, statement which is not released should be canceled and closed by caller
+     * @throws SQLException SQL exception thrown when resetting statement, the statement is closed and not released into cache
+     */
+    public boolean release(final Statement statement) throws SQLException {
+        CheckedOutStatement checkedOutStatement = checkedOutStatements.remove(statement);
+        if (null == checkedOutStatement) {
+            return false;
+        }
+        CachedStatement cachedStatement = checkedOutStatement.getCachedStatement();
+        PreparedStatement preparedStatement = cachedStatement.getStatement();
+        try {
+            if (preparedStatement.isClosed()) {
+                return true;
+            }
+            if (hasOpenResultSet(preparedStatement)) {
+                evictionCount.incrementAndGet();
+                return false;
+            }
+            reset(cachedStatement);
+        } catch (final SQLException ex) {
+            evictionCount.incrementAndGet();
+            closeStatements(Collections.singleton(preparedStatement));
+            throw ex;
+        }
+        checkIn(checkedOutStatement.getKey(), cachedStatement, checkedOutStatement.getMaxSize());
+        return true;
+    }
+    
+    private boolean hasOpenResultSet(final PreparedStatement statement) throws SQLException {
+        ResultSet resultSet = statement.getResultSet();
+        return null != resultSet && !resultSet.isClosed();
+    }
+    
+    private void reset(final CachedStatement cachedStatement) throws SQLException {
+        PreparedStatement statement = cachedStatement.getStatement();
+        statement.clearParameters();
+        statement.clearBatch();
+        statement.setFetchSize(cachedStatement.getFetchSize());
+        statement.setMaxRows(cachedStatement.getMaxRows());
+        statement.setQueryTimeout(cachedStatement.getQueryTimeout());
+    }
+    
+    private void checkIn(final PreparedStatementCacheKey key, final CachedStatement cachedStatement, final int maxSize) {
+        Collection<PreparedStatement> evictedStatements = new LinkedList<>();
+        synchronized (this) {
+            if (isClosed(key.getStorageConnection())) {
+                evictedStatements.add(cachedStatement.getStatement());
+                evictedStatements.addAll(removeStorageConnection(key.getStorageConnection()));
+            } else {
+                evictedStatements.addAll(putStatement(key, cachedStatement, maxSize));
+            }
+        }
+        evictionCount.addAndGet(evictedStatements.size());
+        closeStatements(evictedStatements);
+    }
+    
+    private Collection<PreparedStatement> removeStorageConnection(final Connection storageConnection) {
+        Map<PreparedStatementCacheKey, CachedStatement> statements = cachedStatements.remove(storageConnection);
+        return null == statements ? Collections.emptyList() : statements.values().stream().map(CachedStatement::getStatement).collect(Collectors.toList());
+    }
+    
+    private Collection<PreparedStatement> putStatement(final PreparedStatementCacheKey key, final CachedStatement cachedStatement, final int maxSize) {
+        Collection<PreparedStatement> result = new LinkedList<>();
+        Map<PreparedStatementCacheKey, CachedStatement> statements = cachedStatements.get(key.getStorageConnection());
+        if (null == statements) {
+            result.addAll(removeClosedStorageConnections());
+            statements = new LinkedHashMap<>(16, 0.75F, true);
+            cachedStatements.put(key.getStorageConnection(), statements);
+        }
+        CachedStatement replaced = statements.put(key, cachedStatement);
+        if (null != replaced) {
+            result.add(replaced.getStatement());
+        }
+        Iterator<CachedStatement> iterator = statements.values().iterator();
+        while (statements.size() > maxSize && iterator.hasNext()) {
+            result.add(iterator.next().getStatement());
+            iterator.remove();
+        }
+        return result;
+    }
+    
+    private Collection<PreparedStatement> removeClosedStorageConnections() {
+        Collection<PreparedStatement> result = new LinkedList<>();
+        Iterator<Entry<Connection, Map<PreparedStatementCacheKey, CachedStatement>>> iterator = cachedStatements.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry<Connection, Map<PreparedStatementCacheKey, CachedStatement>> entry = iterator.next();
+            if (isClosed(entry.getKey())) {
+                entry.getValue().values().forEach(each -> result.add(each.getStatement()));
+                iterator.remove();
+            }
+        }
+        return result;
+    }
+    
+    private boolean isClosed(final Connection connection) {
+        try {
+            return connection.isClosed();
+        } catch (final SQLException ignored) {
+            return true;
+        }
+    }
+    
+    /**
+     * Evict cached prepared statement.
+     *
+     * @param key prepared statement cache key
+     */
+    public void evict(final PreparedStatementCacheKey key) {
+        CachedStatement evictedStatement;
+        synchronized (this) {
+            Map<PreparedStatementCacheKey, CachedStatement> statements = cachedStatements.get(key.getStorageConnection());
+            evictedStatement = null == statements ? null : statements.remove(key);
+        }
+        if (null != evictedStatement) {
+            evictionCount.incrementAndGet();
+            closeStatements(Collections.singleton(evictedStatement.getStatement()));
+        }
+    }
+    
+    private void closeStatements(final Collection<PreparedStatement> statements) {
+        for (PreparedStatement each : statements) {
+            try {
+                each.close();
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+    
+    /**
+     * Get eviction count.
+     *
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+    
+    /**
+     * Get count of cached prepared statements.
+     *
+     * @return count of cached prepared statements
+     */
+    public synchronized int getCachedCount() {
+        return cachedStatements.values().stream().mapToInt(Map::size).sum();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class CheckedOutStatement {
+        
+        private final PreparedStatementCacheKey key;
+        
+        private final int maxSize;
+        
+        private final CachedStatement cachedStatement;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class CachedStatement {
+        
+        private final PreparedStatement statement;
+        
+        private final int fetchSize;
+        
+        private final int maxRows;
+        
+        private final int queryTimeout;
+    }
+}
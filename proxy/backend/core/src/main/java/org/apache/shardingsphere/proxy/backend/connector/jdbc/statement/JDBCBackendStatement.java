@@ -17,28 +17,41 @@
 
 package org.apache.shardingsphere.proxy.backend.connector.jdbc.statement;
 
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.parameter.TypeUnspecifiedSQLParameter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCStatementManager;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * JDBC backend statement.
  */
+@RequiredArgsConstructor
 public final class JDBCBackendStatement implements ExecutorJDBCStatementManager {
     
+    private final ConnectionSession connectionSession;
+    
+    private final Map<String, Collection<PreparedStatementCacheKey>> cachedStatementKeys = new ConcurrentHashMap<>();
+    
     @Override
     public Statement createStorageResource(final Connection connection, final ConnectionMode connectionMode, final StatementOption option, final DatabaseType databaseType) throws SQLException {
         Statement result = connection.createStatement();
@@ -53,9 +66,7 @@ public final class JDBCBackendStatement implements ExecutorJDBCStatementManager
                                            final DatabaseType databaseType) throws SQLException {
         String sql = executionUnit.getSqlUnit().getSql();
         List<Object> params = executionUnit.getSqlUnit().getParameters();
-        PreparedStatement result = option.isReturnGeneratedKeys()
-                ? connection.prepareStatement(executionUnit.getSqlUnit().getSql(), Statement.RETURN_GENERATED_KEYS)
-                : connection.prepareStatement(sql);
+        PreparedStatement result = prepareStatement(connection, sql, connectionMode, option.isReturnGeneratedKeys());
         Iterator<Object> paramIterator = params.iterator();
         int index = 0;
         while (paramIterator.hasNext()) {
@@ -73,6 +84,35 @@ public final class JDBCBackendStatement implements ExecutorJDBCStatementManager
         return result;
     }
     
+    private PreparedStatement prepareStatement(final Connection connection, final String sql, final ConnectionMode connectionMode, final boolean returnGeneratedKeys) throws SQLException {
+        int cacheSize = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()
+                .<Integer>getValue(ConfigurationPropertyKey.PROXY_BACKEND_PREPARED_STATEMENT_CACHE_SIZE);
+        if (cacheSize <= 0 || connectionSession.getTransactionStatus().isInTransaction() || !connection.getAutoCommit()) {
+            return returnGeneratedKeys ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : connection.prepareStatement(sql);
+        }
+        PreparedStatementCacheKey key = new PreparedStatementCacheKey(connection.unwrap(Connection.class), sql, connectionMode, returnGeneratedKeys);
+        QueryContext queryContext = connectionSession.getQueryContext();
+        if (null != queryContext) {
+            cachedStatementKeys.computeIfAbsent(queryContext.getSql(), unused -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+        return BackendPreparedStatementCache.getInstance().getOrPrepare(key, cacheSize);
+    }
+    
+    /**
+     * Evict cached prepared statements which are prepared for logic SQL by current connection session.
+     *
+     * @param sql logic SQL
+     */
+    public void evictPreparedStatements(final String sql) {
+        Collection<PreparedStatementCacheKey> keys = cachedStatementKeys.remove(sql);
+        if (null == keys) {
+            return;
+        }
+        for (PreparedStatementCacheKey each : keys) {
+            BackendPreparedStatementCache.getInstance().evict(each);
+        }
+    }
+    
     private void setFetchSize(final Statement statement, final DatabaseType databaseType) throws SQLException {
         Optional<StatementMemoryStrictlyFetchSizeSetter> fetchSizeSetter = DatabaseTypedSPILoader.findService(StatementMemoryStrictlyFetchSizeSetter.class, databaseType);
         if (fetchSizeSetter.isPresent()) {
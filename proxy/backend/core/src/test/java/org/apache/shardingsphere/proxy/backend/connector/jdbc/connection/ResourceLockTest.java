@@ -28,11 +28,14 @@ import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -77,4 +80,30 @@ class ResourceLockTest {
         resourceLock.doAwait(channelHandlerContext);
         assertTrue(System.currentTimeMillis() >= startTime);
     }
+    
+    @Test
+    void assertDoAwaitWakenUpByNotify() throws ReflectiveOperationException {
+        when(channel.isWritable()).thenReturn(false, false, true);
+        when(channel.isActive()).thenReturn(true);
+        when(channelHandlerContext.channel()).thenReturn(channel);
+        CountDownLatch flushedLatch = new CountDownLatch(1);
+        when(channelHandlerContext.flush()).thenAnswer(invocation -> {
+            flushedLatch.countDown();
+            return channelHandlerContext;
+        });
+        ResourceLock actual = new ResourceLock();
+        ExecutorService executorService = Executors.newFixedThreadPool(1);
+        executorService.submit(() -> {
+            flushedLatch.await();
+            actual.doNotify();
+            return null;
+        });
+        long startNanos = System.nanoTime();
+        actual.doAwait(channelHandlerContext);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        long timeoutMillis = (long) Plugins.getMemberAccessor().get(ResourceLock.class.getDeclaredField("DEFAULT_TIMEOUT_MILLISECONDS"), null);
+        assertThat(elapsedMillis, lessThan(timeoutMillis / 2L));
+        verify(channelHandlerContext).flush();
+        executorService.shutdown();
+    }
 }
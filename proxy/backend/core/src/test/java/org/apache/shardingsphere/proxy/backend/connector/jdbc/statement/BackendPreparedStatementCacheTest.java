@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.jdbc.statement;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BackendPreparedStatementCacheTest {
+    
+    private final BackendPreparedStatementCache cache = BackendPreparedStatementCache.getInstance();
+    
+    @Test
+    void assertGetOrPrepareWithReleasedStatement() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(statement);
+        PreparedStatementCacheKey key = new PreparedStatementCacheKey(connection, "SELECT 1", ConnectionMode.MEMORY_STRICTLY, false);
+        long hitCount = cache.getHitCount();
+        long missCount = cache.getMissCount();
+        assertThat(cache.getOrPrepare(key, 1), is(statement));
+        assertTrue(cache.release(statement));
+        assertThat(cache.getOrPrepare(key, 1), is(statement));
+        assertThat(cache.getHitCount() - hitCount, is(1L));
+        assertThat(cache.getMissCount() - missCount, is(1L));
+        verify(connection).prepareStatement("SELECT 1");
+        verify(statement).clearParameters();
+        verify(statement, never()).close();
+        assertTrue(cache.release(statement));
+        cache.evict(key);
+    }
+    
+    @Test
+    void assertReleaseWithStatementOptionsRestored() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.getFetchSize()).thenReturn(10);
+        when(statement.getMaxRows()).thenReturn(20);
+        when(statement.getQueryTimeout()).thenReturn(30);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(statement);
+        PreparedStatementCacheKey key = new PreparedStatementCacheKey(connection, "SELECT 1", ConnectionMode.MEMORY_STRICTLY, false);
+        cache.getOrPrepare(key, 1);
+        assertTrue(cache.release(statement));
+        verify(statement).clearBatch();
+        verify(statement).setFetchSize(10);
+        verify(statement).setMaxRows(20);
+        verify(statement).setQueryTimeout(30);
+        cache.evict(key);
+    }
+    
+    @Test
+    void assertReleaseWithOpenResultSet() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.getResultSet()).thenReturn(mock(ResultSet.class));
+        when(connection.prepareStatement("SELECT 1")).thenReturn(statement);
+        PreparedStatementCacheKey key = new PreparedStatementCacheKey(connection, "SELECT 1", ConnectionMode.MEMORY_STRICTLY, false);
+        long cachedCount = cache.getCachedCount();
+        cache.getOrPrepare(key, 1);
+        assertFalse(cache.release(statement));
+        assertThat(cache.getCachedCount(), is(cachedCount));
+        verify(statement, never()).clearParameters();
+    }
+    
+    @Test
+    void assertReleaseWithResetFailed() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        SQLException expected = new SQLException("reset failed");
+        doThrow(expected).when(statement).clearParameters();
+        when(connection.prepareStatement("SELECT 1")).thenReturn(statement);
+        PreparedStatementCacheKey key = new PreparedStatementCacheKey(connection, "SELECT 1", ConnectionMode.MEMORY_STRICTLY, false);
+        cache.getOrPrepare(key, 1);
+        assertThat(assertThrows(SQLException.class, () -> cache.release(statement)), is(expected));
+        verify(statement).close();
+        assertFalse(cache.release(statement));
+    }
+    
+    @Test
+    void assertReleaseWithClosedStorageConnection() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement fooStatement = mock(PreparedStatement.class);
+        PreparedStatement barStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(fooStatement);
+        when(connection.prepareStatement("SELECT 2")).thenReturn(barStatement);
+        PreparedStatementCacheKey fooKey = new PreparedStatementCacheKey(connection, "SELECT 1", ConnectionMode.MEMORY_STRICTLY, false);
+        PreparedStatementCacheKey barKey = new PreparedStatementCacheKey(connection, "SELECT 2", ConnectionMode.MEMORY_STRICTLY, false);
+        long cachedCount = cache.getCachedCount();
+        cache.getOrPrepare(fooKey, 2);
+        cache.getOrPrepare(barKey, 2);
+        assertTrue(cache.release(fooStatement));
+        when(connection.isClosed()).thenReturn(true);
+        assertTrue(cache.release(barStatement));
+        verify(fooStatement).close();
+        verify(barStatement).close();
+        assertThat(cache.getCachedCount(), is(cachedCount));
+    }
+    
+    @Test
+    void assertGetOrPrepareWithReturnGeneratedKeys() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("INSERT INTO t_order VALUES (?)", Statement.RETURN_GENERATED_KEYS)).thenReturn(statement);
+        assertThat(cache.getOrPrepare(new PreparedStatementCacheKey(connection, "INSERT INTO t_order VALUES (?)", ConnectionMode.MEMORY_STRICTLY, true), 1), is(statement));
+        assertTrue(cache.release(statement));
+        cache.evict(new PreparedStatementCacheKey(connection, "INSERT INTO t_order VALUES (?)", ConnectionMode.MEMORY_STRICTLY, true));
+    }
+    
+    @Test
+    void assertGetOrPrepareWithClosedStatement() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement closedStatement = mock(PreparedStatement.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(closedStatement, statement);
+        PreparedStatementCacheKey key = new PreparedStatementCacheKey(connection, "SELECT 1", ConnectionMode.MEMORY_STRICTLY, false);
+        cache.getOrPrepare(key, 1);
+        cache.release(closedStatement);
+        when(closedStatement.isClosed()).thenReturn(true);
+        assertThat(cache.getOrPrepare(key, 1), is(statement));
+        assertTrue(cache.release(statement));
+        cache.evict(key);
+    }
+    
+    @Test
+    void assertReleaseWithoutCheckedOutStatement() throws SQLException {
+        assertFalse(cache.release(mock(PreparedStatement.class)));
+    }
+    
+    @Test
+    void assertReleaseWithLeastRecentlyUsedEvicted() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement fooStatement = mock(PreparedStatement.class);
+        PreparedStatement barStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(fooStatement);
+        when(connection.prepareStatement("SELECT 2")).thenReturn(barStatement);
+        PreparedStatementCacheKey fooKey = new PreparedStatementCacheKey(connection, "SELECT 1", ConnectionMode.MEMORY_STRICTLY, false);
+        PreparedStatementCacheKey barKey = new PreparedStatementCacheKey(connection, "SELECT 2", ConnectionMode.MEMORY_STRICTLY, false);
+        long evictionCount = cache.getEvictionCount();
+        cache.getOrPrepare(fooKey, 1);
+        cache.getOrPrepare(barKey, 1);
+        cache.release(fooStatement);
+        cache.release(barStatement);
+        assertThat(cache.getEvictionCount() - evictionCount, is(1L));
+        verify(fooStatement).close();
+        verify(barStatement, never()).close();
+        assertThat(cache.getOrPrepare(fooKey, 1), not(barStatement));
+        verify(connection, times(2)).prepareStatement("SELECT 1");
+        cache.release(fooStatement);
+        cache.evict(fooKey);
+    }
+    
+    @Test
+    void assertEvict() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT 1")).thenReturn(statement);
+        PreparedStatementCacheKey key = new PreparedStatementCacheKey(connection, "SELECT 1", ConnectionMode.CONNECTION_STRICTLY, false);
+        cache.getOrPrepare(key, 1);
+        cache.release(statement);
+        long evictionCount = cache.getEvictionCount();
+        cache.evict(key);
+        assertThat(cache.getEvictionCount() - evictionCount, is(1L));
+        verify(statement).close();
+    }
+}
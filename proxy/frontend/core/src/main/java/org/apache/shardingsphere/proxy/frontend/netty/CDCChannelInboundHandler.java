@@ -35,7 +35,10 @@ import org.apache.shardingsphere.data.pipeline.cdc.handler.CDCBackendHandler;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.AckStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.DropStreamingRequestBody;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody.BasicBody;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordCompression;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.RecordEncoding;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StartStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StopStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamDataRequestBody;
@@ -60,6 +63,7 @@ import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.sql.SQLException;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * CDC channel inbound handler.
@@ -144,7 +148,11 @@ public final class CDCChannelInboundHandler extends ChannelInboundHandlerAdapter
                 .orElseThrow(() -> new CDCExceptionWrapper(request.getRequestId(), new CDCLoginFailedException()));
         ShardingSpherePreconditions.checkState(Objects.equals(Hashing.sha256().hashBytes(user.getPassword().getBytes()).toString().toUpperCase(), body.getPassword()),
                 () -> new CDCExceptionWrapper(request.getRequestId(), new CDCLoginFailedException()));
-        ctx.channel().attr(CONNECTION_CONTEXT_KEY).set(new CDCConnectionContext(user));
+        CDCConnectionContext connectionContext = new CDCConnectionContext(user);
+        LoginRequestBody loginRequestBody = request.getLoginRequestBody();
+        connectionContext.setRecordCompression(Optional.ofNullable(RecordCompression.forNumber(loginRequestBody.getRecordCompressionValue())).orElse(RecordCompression.NONE));
+        connectionContext.setRecordEncoding(Optional.ofNullable(RecordEncoding.forNumber(loginRequestBody.getRecordEncodingValue())).orElse(RecordEncoding.ROW));
+        ctx.channel().attr(CONNECTION_CONTEXT_KEY).set(connectionContext);
         ctx.writeAndFlush(CDCResponseUtils.succeed(request.getRequestId()));
     }
     
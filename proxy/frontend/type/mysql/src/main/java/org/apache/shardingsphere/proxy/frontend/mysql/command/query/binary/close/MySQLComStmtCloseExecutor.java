@@ -20,7 +20,9 @@ package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.clos
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.close.MySQLComStmtClosePacket;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBackendStatement;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatement;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 
 import java.util.Collection;
@@ -38,7 +40,11 @@ public final class MySQLComStmtCloseExecutor implements CommandExecutor {
     
     @Override
     public Collection<DatabasePacket> execute() {
+        ServerPreparedStatement preparedStatement = connectionSession.getServerPreparedStatementRegistry().getPreparedStatement(packet.getStatementId());
         connectionSession.getServerPreparedStatementRegistry().removePreparedStatement(packet.getStatementId());
+        if (null != preparedStatement) {
+            ((JDBCBackendStatement) connectionSession.getStatementManager()).evictPreparedStatements(preparedStatement.getSql());
+        }
         return Collections.emptyList();
     }
 }
@@ -20,7 +20,9 @@ package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.clos
 import io.netty.buffer.Unpooled;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.close.MySQLComStmtClosePacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBackendStatement;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatement;
 import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
@@ -31,6 +33,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class MySQLComStmtCloseExecutorTest {
     
@@ -38,7 +41,13 @@ class MySQLComStmtCloseExecutorTest {
     void assertExecute() {
         MySQLComStmtClosePacket packet = new MySQLComStmtClosePacket(new MySQLPacketPayload(Unpooled.wrappedBuffer(new byte[]{0x01, 0x00, 0x00, 0x00}), StandardCharsets.UTF_8));
         ConnectionSession connectionSession = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
+        ServerPreparedStatement preparedStatement = mock(ServerPreparedStatement.class);
+        when(preparedStatement.getSql()).thenReturn("SELECT 1");
+        when(connectionSession.getServerPreparedStatementRegistry().getPreparedStatement(1)).thenReturn(preparedStatement);
+        JDBCBackendStatement backendStatement = mock(JDBCBackendStatement.class);
+        when(connectionSession.getStatementManager()).thenReturn(backendStatement);
         assertThat(new MySQLComStmtCloseExecutor(packet, connectionSession).execute(), is(Collections.emptyList()));
         verify(connectionSession.getServerPreparedStatementRegistry()).removePreparedStatement(1);
+        verify(backendStatement).evictPreparedStatements("SELECT 1");
     }
 }
@@ -22,7 +22,7 @@ import org.apache.shardingsphere.infra.binder.context.aware.ParameterAware;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
-import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.connection.kernel.BatchKernelProcessor;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.audit.SQLAuditEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
@@ -45,6 +45,7 @@ import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.BackendPreparedStatementCache;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBackendStatement;
 import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -70,7 +71,7 @@ import java.util.Optional;
  */
 public final class PostgreSQLBatchedStatementsExecutor {
     
-    private final KernelProcessor kernelProcessor = new KernelProcessor();
+    private final BatchKernelProcessor batchKernelProcessor = new BatchKernelProcessor();
     
     private final JDBCExecutor jdbcExecutor;
     
@@ -98,16 +99,15 @@ public final class PostgreSQLBatchedStatementsExecutor {
             List<Object> firstGroupOfParam = parameterSetsIterator.next();
             sqlStatementContext = createSQLStatementContext(firstGroupOfParam, preparedStatement.getHintValueContext());
             executionContext = createExecutionContext(createQueryContext(sqlStatementContext, firstGroupOfParam, preparedStatement.getHintValueContext()));
-            for (ExecutionUnit each : executionContext.getExecutionUnits()) {
-                executionUnitParams.computeIfAbsent(each, unused -> new LinkedList<>()).add(each.getSqlUnit().getParameters());
-            }
+            addExecutionUnitParameters(executionContext.getExecutionUnits());
         }
         anyExecutionContext = executionContext;
         prepareForRestOfParametersSet(parameterSetsIterator, sqlStatementContext, preparedStatement.getHintValueContext());
     }
     
     private SQLStatementContext createSQLStatementContext(final List<Object> params, final HintValueContext hintValueContext) {
-        return new SQLBindEngine(metaDataContexts.getMetaData(), connectionSession.getUsedDatabaseName(), hintValueContext).bind(preparedStatement.getSqlStatementContext().getSqlStatement(), params);
+        return new SQLBindEngine(metaDataContexts.getMetaData(), connectionSession.getUsedDatabaseName(), hintValueContext)
+                .bind(connectionSession.getBoundSQLStatementCache(), preparedStatement.getSql(), preparedStatement.getSqlStatementContext().getSqlStatement(), params);
     }
     
     private void prepareForRestOfParametersSet(final Iterator<List<Object>> paramSetsIterator, final SQLStatementContext sqlStatementContext, final HintValueContext hintValueContext) {
@@ -117,9 +117,13 @@ public final class PostgreSQLBatchedStatementsExecutor {
                 ((ParameterAware) sqlStatementContext).setUpParameters(eachGroupOfParam);
             }
             ExecutionContext eachExecutionContext = createExecutionContext(createQueryContext(sqlStatementContext, eachGroupOfParam, hintValueContext));
-            for (ExecutionUnit each : eachExecutionContext.getExecutionUnits()) {
-                executionUnitParams.computeIfAbsent(each, unused -> new LinkedList<>()).add(each.getSqlUnit().getParameters());
-            }
+            addExecutionUnitParameters(eachExecutionContext.getExecutionUnits());
+        }
+    }
+    
+    private void addExecutionUnitParameters(final Collection<ExecutionUnit> executionUnits) {
+        for (ExecutionUnit each : executionUnits) {
+            executionUnitParams.computeIfAbsent(each, unused -> new LinkedList<>()).add(each.getSqlUnit().getParameters());
         }
     }
     
@@ -131,7 +135,7 @@ public final class PostgreSQLBatchedStatementsExecutor {
         RuleMetaData globalRuleMetaData = metaDataContexts.getMetaData().getGlobalRuleMetaData();
         ShardingSphereDatabase currentDatabase = metaDataContexts.getMetaData().getDatabase(connectionSession.getUsedDatabaseName());
         SQLAuditEngine.audit(queryContext, globalRuleMetaData, currentDatabase);
-        return kernelProcessor.generateExecutionContext(queryContext, globalRuleMetaData, metaDataContexts.getMetaData().getProps());
+        return batchKernelProcessor.generateExecutionContext(queryContext, globalRuleMetaData, metaDataContexts.getMetaData().getProps());
     }
     
     /**
@@ -205,7 +209,9 @@ public final class PostgreSQLBatchedStatementsExecutor {
             try {
                 return statement.executeBatch();
             } finally {
-                statement.close();
+                if (!BackendPreparedStatementCache.getInstance().release(statement)) {
+                    statement.close();
+                }
             }
         }
         
@@ -22,7 +22,9 @@ import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.close.PostgreSQLCloseCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.close.PostgreSQLComClosePacket;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBackendStatement;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatement;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PortalContext;
 
@@ -46,7 +48,7 @@ public final class PostgreSQLComCloseExecutor implements CommandExecutor {
     public Collection<DatabasePacket> execute() throws SQLException {
         switch (packet.getType()) {
             case PREPARED_STATEMENT:
-                connectionSession.getServerPreparedStatementRegistry().removePreparedStatement(packet.getName());
+                closePreparedStatement();
                 break;
             case PORTAL:
                 portalContext.close(packet.getName());
@@ -56,4 +58,12 @@ public final class PostgreSQLComCloseExecutor implements CommandExecutor {
         }
         return Collections.singleton(new PostgreSQLCloseCompletePacket());
     }
+    
+    private void closePreparedStatement() {
+        ServerPreparedStatement preparedStatement = connectionSession.getServerPreparedStatementRegistry().getPreparedStatement(packet.getName());
+        connectionSession.getServerPreparedStatementRegistry().removePreparedStatement(packet.getName());
+        if (null != preparedStatement) {
+            ((JDBCBackendStatement) connectionSession.getStatementManager()).evictPreparedStatements(preparedStatement.getSql());
+        }
+    }
 }
@@ -21,9 +21,13 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLTypeUnspecifiedSQLParameter;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
@@ -31,7 +35,9 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.logging.rule.LoggingRule;
 import org.apache.shardingsphere.logging.rule.builder.DefaultLoggingRuleConfigurationBuilder;
@@ -52,6 +58,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
 import org.mockito.Mock;
+import org.mockito.MockedConstruction;
 import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -60,6 +67,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -75,6 +83,9 @@ import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(AutoMockExtension.class)
@@ -117,6 +128,47 @@ class PostgreSQLBatchedStatementsExecutorTest {
         }
     }
     
+    @Test
+    void assertNewInstanceWithReusedExecutionUnits() {
+        List<List<Object>> parameterSets = Arrays.asList(Arrays.asList(1, "foo"), Arrays.asList(2, "bar"), Arrays.asList(3, "baz"));
+        try (MockedConstruction<KernelProcessor> kernelProcessors = mockConstruction(KernelProcessor.class, (mock, context) -> mockGenerateExecutionContext(mock, false))) {
+            PostgreSQLBatchedStatementsExecutor actual = createBatchedStatementsExecutor(parameterSets);
+            verify(kernelProcessors.constructed().get(0)).generateExecutionContext(any(QueryContext.class), any(RuleMetaData.class), any(ConfigurationProperties.class));
+            assertThat(new ArrayList<>(getExecutionUnitParameters(actual).values()), is(Collections.singletonList(parameterSets)));
+        }
+    }
+    
+    @Test
+    void assertNewInstanceWithRewrittenParameters() {
+        List<List<Object>> parameterSets = Arrays.asList(Arrays.asList(1, "foo"), Arrays.asList(2, "bar"), Arrays.asList(3, "baz"));
+        try (MockedConstruction<KernelProcessor> kernelProcessors = mockConstruction(KernelProcessor.class, (mock, context) -> mockGenerateExecutionContext(mock, true))) {
+            PostgreSQLBatchedStatementsExecutor actual = createBatchedStatementsExecutor(parameterSets);
+            verify(kernelProcessors.constructed().get(0), times(3)).generateExecutionContext(any(QueryContext.class), any(RuleMetaData.class), any(ConfigurationProperties.class));
+            List<List<Object>> expected = Arrays.asList(Arrays.asList(1, "foo", "rewritten"), Arrays.asList(2, "bar", "rewritten"), Arrays.asList(3, "baz", "rewritten"));
+            assertThat(new ArrayList<>(getExecutionUnitParameters(actual).values()), is(Collections.singletonList(expected)));
+        }
+    }
+    
+    private PostgreSQLBatchedStatementsExecutor createBatchedStatementsExecutor(final List<List<Object>> parameterSets) {
+        ContextManager contextManager = mockContextManager();
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        PostgreSQLServerPreparedStatement postgresqlPreparedStatement = new PostgreSQLServerPreparedStatement("insert into t (id, col) values (?, ?)", mockInsertStatementContext(),
+                new HintValueContext(), Arrays.asList(PostgreSQLColumnType.INT4, PostgreSQLColumnType.VARCHAR), Arrays.asList(0, 1));
+        return new PostgreSQLBatchedStatementsExecutor(mockConnectionSession(), postgresqlPreparedStatement, parameterSets);
+    }
+    
+    private void mockGenerateExecutionContext(final KernelProcessor kernelProcessor, final boolean isParametersRewritten) {
+        when(kernelProcessor.generateExecutionContext(any(QueryContext.class), any(RuleMetaData.class), any(ConfigurationProperties.class))).thenAnswer(invocation -> {
+            QueryContext queryContext = invocation.getArgument(0);
+            List<Object> params = new ArrayList<>(queryContext.getParameters());
+            if (isParametersRewritten) {
+                params.add("rewritten");
+            }
+            ExecutionUnit executionUnit = new ExecutionUnit("ds_0", new SQLUnit("insert into t (id, col) values (?, ?)", params));
+            return new ExecutionContext(queryContext, Collections.singleton(executionUnit), new RouteContext());
+        });
+    }
+    
     private InsertStatementContext mockInsertStatementContext() {
         PostgreSQLInsertStatement insertStatement = mock(PostgreSQLInsertStatement.class, RETURNS_DEEP_STUBS);
         when(insertStatement.getTable()).thenReturn(Optional.of(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("t")))));
@@ -131,8 +183,10 @@ class PostgreSQLBatchedStatementsExecutorTest {
     private ContextManager mockContextManager() {
         ContextManager result = mock(ContextManager.class, RETURNS_DEEP_STUBS);
         when(result.getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE)).thenReturn(1);
+        when(result.getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED)).thenReturn(false);
         when(result.getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY)).thenReturn(1);
         when(result.getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.SQL_SHOW)).thenReturn(false);
+        when(result.getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.SQL_BIND_CACHE_ENABLED)).thenReturn(false);
         ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
         StorageUnit storageUnit = mock(StorageUnit.class, RETURNS_DEEP_STUBS);
         when(storageUnit.getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "PostgreSQL"));
@@ -162,10 +216,13 @@ class PostgreSQLBatchedStatementsExecutorTest {
         return result;
     }
     
+    private void prepareExecutionUnitParameters(final PostgreSQLBatchedStatementsExecutor target, final List<List<Object>> parameterSets) {
+        getExecutionUnitParameters(target).replaceAll((key, vvalue) -> parameterSets);
+    }
+    
     @SuppressWarnings("unchecked")
     @SneakyThrows(ReflectiveOperationException.class)
-    private void prepareExecutionUnitParameters(final PostgreSQLBatchedStatementsExecutor target, final List<List<Object>> parameterSets) {
-        ((Map<ExecutionUnit, List<List<Object>>>) Plugins.getMemberAccessor().get(PostgreSQLBatchedStatementsExecutor.class.getDeclaredField("executionUnitParams"), target))
-                .replaceAll((key, vvalue) -> parameterSets);
+    private Map<ExecutionUnit, List<List<Object>>> getExecutionUnitParameters(final PostgreSQLBatchedStatementsExecutor target) {
+        return (Map<ExecutionUnit, List<List<Object>>>) Plugins.getMemberAccessor().get(PostgreSQLBatchedStatementsExecutor.class.getDeclaredField("executionUnitParams"), target);
     }
 }
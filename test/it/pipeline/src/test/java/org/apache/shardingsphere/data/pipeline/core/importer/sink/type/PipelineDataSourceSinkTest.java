@@ -25,6 +25,7 @@ import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourc
 import org.apache.shardingsphere.data.pipeline.core.importer.ImporterConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.importer.SingleChannelConsumerImporter;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineWriteMode;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.mapper.TableAndSchemaNameMapper;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
@@ -44,6 +45,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -54,9 +56,12 @@ import java.util.Set;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -76,6 +81,8 @@ class PipelineDataSourceSinkTest {
     @Mock
     private PreparedStatement preparedStatement;
     
+    private PipelineDataSourceManager dataSourceManager;
+    
     private SingleChannelConsumerImporter importer;
     
     @BeforeEach
@@ -85,13 +92,14 @@ class PipelineDataSourceSinkTest {
         poolProps.put("username", "root");
         poolProps.put("password", "root");
         dataSourceConfig = new StandardPipelineDataSourceConfiguration(poolProps);
-        PipelineSink pipelineSink = new PipelineDataSourceSink(mockImporterConfiguration(), mockPipelineDataSourceManager());
+        dataSourceManager = mockPipelineDataSourceManager();
+        PipelineSink pipelineSink = new PipelineDataSourceSink(mockImporterConfiguration(PipelineWriteMode.BATCH), dataSourceManager);
         importer = new SingleChannelConsumerImporter(channel, 100, 1000L, pipelineSink, new FixtureTransmissionJobItemContext());
     }
     
-    private ImporterConfiguration mockImporterConfiguration() {
+    private ImporterConfiguration mockImporterConfiguration(final PipelineWriteMode writeMode) {
         Map<CaseInsensitiveIdentifier, Set<String>> shardingColumnsMap = Collections.singletonMap(new CaseInsensitiveIdentifier("test_table"), Collections.singleton("user"));
-        return new ImporterConfiguration(dataSourceConfig, shardingColumnsMap, new TableAndSchemaNameMapper(Collections.emptyMap()), 1000, null, 3, 3);
+        return new ImporterConfiguration(dataSourceConfig, shardingColumnsMap, new TableAndSchemaNameMapper(Collections.emptyMap()), 1000, null, 3, 3, writeMode);
     }
     
     private PipelineDataSourceManager mockPipelineDataSourceManager() throws SQLException {
@@ -152,6 +160,30 @@ class PipelineDataSourceSinkTest {
         inOrder.verify(preparedStatement).executeUpdate();
     }
     
+    @Test
+    void assertWriteInsertDataRecordsWithMultiValuesMode() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        PipelineSink pipelineSink = new PipelineDataSourceSink(mockImporterConfiguration(PipelineWriteMode.MULTI_VALUES), dataSourceManager);
+        pipelineSink.write("", Arrays.asList(getDataRecord(PipelineSQLOperationType.INSERT, 1), getDataRecord(PipelineSQLOperationType.INSERT, 2)));
+        verify(connection).prepareStatement(contains("VALUES(?,?,?),(?,?,?)"));
+        verify(preparedStatement, times(6)).setObject(anyInt(), any());
+        verify(preparedStatement).executeUpdate();
+        verify(preparedStatement, never()).addBatch();
+    }
+    
+    @Test
+    void assertWriteUpdateDataRecordsWithMultiValuesMode() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 1});
+        PipelineSink pipelineSink = new PipelineDataSourceSink(mockImporterConfiguration(PipelineWriteMode.MULTI_VALUES), dataSourceManager);
+        pipelineSink.write("", Arrays.asList(getDataRecord(PipelineSQLOperationType.UPDATE, 1), getDataRecord(PipelineSQLOperationType.UPDATE, 2)));
+        verify(connection).prepareStatement(any());
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).executeBatch();
+        verify(preparedStatement, never()).executeUpdate();
+        verify(connection).commit();
+    }
+    
     private DataRecord getUpdatePrimaryKeyDataRecord() {
         DataRecord result = new DataRecord(PipelineSQLOperationType.UPDATE, TABLE_NAME, new IngestPlaceholderPosition(), 3);
         result.addColumn(new NormalColumn("id", 1, 2, true, true));
@@ -168,6 +200,10 @@ class PipelineDataSourceSinkTest {
     }
     
     private DataRecord getDataRecord(final PipelineSQLOperationType type) {
+        return getDataRecord(type, 1);
+    }
+    
+    private DataRecord getDataRecord(final PipelineSQLOperationType type, final int id) {
         Integer idOldValue = null;
         Integer userOldValue = null;
         Integer idValue = null;
@@ -175,19 +211,19 @@ class PipelineDataSourceSinkTest {
         PipelineSQLOperationType statusOldValue = null;
         PipelineSQLOperationType statusValue = null;
         if (PipelineSQLOperationType.INSERT == type) {
-            idValue = 1;
+            idValue = id;
             userValue = 10;
             statusValue = type;
         }
         if (PipelineSQLOperationType.UPDATE == type) {
-            idOldValue = 1;
+            idOldValue = id;
             idValue = idOldValue;
             userOldValue = 10;
             userValue = 20;
             statusValue = type;
         }
         if (PipelineSQLOperationType.DELETE == type) {
-            idOldValue = 1;
+            idOldValue = id;
             userOldValue = 10;
             statusOldValue = type;
         }
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColum
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.IntegerPrimaryKeyIngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.StringPrimaryKeyIngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataUtils;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.StandardPipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.core.task.InventoryTask;
@@ -113,6 +114,20 @@ class InventoryTaskSplitterTest {
         assertThat(keyPosition.getEndValue(), is(999L));
     }
     
+    @Test
+    void assertSplitWithLargeCharPrimary() throws SQLException {
+        initLargeCharPrimaryEnvironment(dumperContext.getCommonContext());
+        dumperContext.setUniqueKeyColumns(Collections.singletonList(new PipelineColumnMetaData(1, "order_id", Types.VARCHAR, "varchar", false, true, true)));
+        List<InventoryTask> actual = inventoryTaskSplitter.split(jobItemContext);
+        assertThat(actual.size(), is(10));
+        StringPrimaryKeyIngestPosition firstPosition = (StringPrimaryKeyIngestPosition) actual.get(0).getTaskProgress().getPosition();
+        assertThat(firstPosition.getBeginValue(), is("k100"));
+        assertThat(firstPosition.getEndValue(), is("k109"));
+        StringPrimaryKeyIngestPosition lastPosition = (StringPrimaryKeyIngestPosition) actual.get(9).getTaskProgress().getPosition();
+        assertThat(lastPosition.getBeginValue(), is("k190"));
+        assertThat(lastPosition.getEndValue(), is("k199"));
+    }
+    
     @Test
     void assertSplitWithoutPrimaryButWithUniqueIndex() throws SQLException {
         initUniqueIndexOnNotNullColumnEnvironment(dumperContext.getCommonContext());
@@ -131,6 +146,20 @@ class InventoryTaskSplitterTest {
         }
     }
     
+    @Test
+    void assertSplitWithLargeMultipleColumnsKey() throws SQLException {
+        initLargeUnionPrimaryEnvironment(dumperContext.getCommonContext());
+        try (PipelineDataSource dataSource = dataSourceManager.getDataSource(dumperContext.getCommonContext().getDataSourceConfig())) {
+            List<PipelineColumnMetaData> uniqueKeyColumns = PipelineTableMetaDataUtils.getUniqueKeyColumns(null, "t_order", new StandardPipelineTableMetaDataLoader(dataSource));
+            dumperContext.setUniqueKeyColumns(uniqueKeyColumns);
+            List<InventoryTask> actual = inventoryTaskSplitter.split(jobItemContext);
+            assertThat(actual.size(), is(10));
+            IntegerPrimaryKeyIngestPosition lastPosition = (IntegerPrimaryKeyIngestPosition) actual.get(9).getTaskProgress().getPosition();
+            assertThat(lastPosition.getBeginValue(), is(46L));
+            assertThat(lastPosition.getEndValue(), is(50L));
+        }
+    }
+    
     @Test
     void assertSplitWithoutPrimaryAndUniqueIndex() throws SQLException {
         initNoPrimaryEnvironment(dumperContext.getCommonContext());
@@ -176,6 +205,32 @@ class InventoryTaskSplitterTest {
         }
     }
     
+    private void initLargeCharPrimaryEnvironment(final DumperCommonContext dumperContext) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperContext.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id VARCHAR(12) PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 100; i < 200; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES ('k%d', 'x')", i));
+            }
+        }
+    }
+    
+    private void initLargeUnionPrimaryEnvironment(final DumperCommonContext dumperContext) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperContext.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id INT, user_id VARCHAR(12), PRIMARY KEY (order_id, user_id))");
+            for (int i = 1; i <= 50; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'x'), (%d, 'y')", i, i));
+            }
+        }
+    }
+    
     private void initUnionPrimaryEnvironment(final DumperCommonContext dumperContext) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperContext.getDataSourceConfig());
         try (